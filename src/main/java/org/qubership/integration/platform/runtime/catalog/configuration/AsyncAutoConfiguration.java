@@ -16,15 +16,20 @@
 
 package org.qubership.integration.platform.runtime.catalog.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @AutoConfiguration
 @EnableAsync
 public class AsyncAutoConfiguration {
     @Bean
+    @Primary
     public ThreadPoolTaskExecutor threadPoolTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
@@ -33,4 +38,119 @@ public ThreadPoolTaskExecutor threadPoolTaskExecutor() {
         executor.setThreadNamePrefix("qip-runtime-catalog-");
         return executor;
     }
+
+    /**
+     * Parses chain files during import. When the pool is saturated the importing thread
+     * parses the chain itself, which throttles the producer instead of growing the queue.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chainImportExecutor(@Value("${qip.import.chains.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("qip-chain-import-");
+        return executor;
+    }
+
+    /**
+     * Builds snapshots of imported chains while the following chains are still being saved.
+     * A saturated pool makes the saving thread build the snapshot itself.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chainSnapshotExecutor(@Value("${qip.import.snapshots.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("qip-chain-snapshot-");
+        return executor;
+    }
+
+    /**
+     * Deploys imported chains as soon as their snapshots are built.
+     * A saturated pool makes the snapshot thread deploy the chain itself.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chainDeployExecutor(@Value("${qip.import.deployments.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("qip-chain-deploy-");
+        return executor;
+    }
+
+    /**
+     * Imports systems from an archive, each one in its own transaction.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor systemImportExecutor(@Value("${qip.import.systems.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("qip-system-import-");
+        return executor;
+    }
+
+    /**
+     * Builds gateway routes of snapshots during bulk deployment.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor deploymentRoutesExecutor(@Value("${qip.deployments.bulk.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("qip-deployment-routes-");
+        return executor;
+    }
+
+    /**
+     * Builds system model libraries. Requests for the same model are coalesced by the build queue,
+     * so the queue holds at most one task per model.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor compiledLibraryBuildExecutor(
+            @Value("${qip.compiled-libraries.build.parallelism:2}") int parallelism
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("qip-library-build-");
+        return executor;
+    }
+
+    /**
+     * Prunes old snapshots in the background. A single thread, the cleanup service runs
+     * at most one pruning at a time.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor snapshotCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("qip-snapshot-cleanup-");
+        return executor;
+    }
+
+    /**
+     * Looks up asynchronous job states when a status wait times out or the job is evicted,
+     * so store reads never run on the timer thread.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor asyncJobLookupExecutor(@Value("${qip.import.status.lookup-parallelism:2}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("qip-job-lookup-");
+        return executor;
+    }
 }
@@ -16,13 +16,22 @@
 
 package org.qubership.integration.platform.runtime.catalog.configuration;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.graphql_java_generator.plugin.CodeTemplate;
 import com.graphql_java_generator.plugin.conf.*;
+import graphql.language.Document;
 import graphql.parser.Parser;
+import graphql.parser.ParserEnvironment;
 import graphql.parser.ParserOptions;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.qubership.integration.platform.runtime.catalog.service.codegen.graphql.GraphqlCodeDocumentParser;
 import org.qubership.integration.platform.runtime.catalog.service.codegen.graphql.GraphqlRuntimePojoGenerator;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -74,23 +83,71 @@ public static ParserOptions graphqlSdlParserOptions() {
         return ParserOptions.getDefaultSdlParserOptions().transform(builder -> builder.maxTokens(MAX_CHARS_TOKENS));
     }
 
+    /**
+     * Parses GraphQL schemas for code generation. Parsed documents are immutable,
+     * so they are cached by the schema content hash and shared between generations.
+     */
+    @Bean("graphqlSchemaDocumentParser")
+    public Function<String, Document> graphqlSchemaDocumentParser(
+            Parser parser,
+            @Qualifier("graphqlSdlParserOptions") ParserOptions parserOptions,
+            @Value("${qip.codegen.graphql.schema-cache-size:50}") long schemaCacheSize
+    ) {
+        Cache<String, Document> documentCache = CacheBuilder.newBuilder()
+                .maximumSize(schemaCacheSize)
+                .build();
+        return schema -> {
+            String key = HashUtils.sha256hex(schema);
+            Document document = documentCache.getIfPresent(key);
+            if (document == null) {
+                ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment()
+                        .document(schema).parserOptions(parserOptions).build();
+                document = parser.parseDocument(parserEnvironment);
+                documentCache.put(key, document);
+            }
+            return document;
+        };
+    }
+
     @Bean
     public Function<CommonConfiguration, GraphqlCodeDocumentParser> graphqlCodeDocumentParserFactory(
-            Parser parser,
-            @Qualifier("graphqlSdlParserOptions") ParserOptions parserOptions
+            @Qualifier("graphqlSchemaDocumentParser") Function<String, Document> schemaDocumentParser
     ) {
-        return configuration -> new GraphqlCodeDocumentParser(parser, parserOptions, configuration);
+        return configuration -> new GraphqlCodeDocumentParser(schemaDocumentParser, configuration);
+    }
+
+    /**
+     * Velocity engine merging the code generation templates. The engine is thread safe once initialized,
+     * templates are parsed once on startup and then served from the resource cache.
+     */
+    @Bean("graphqlCodegenVelocityEngine")
+    public VelocityEngine graphqlCodegenVelocityEngine() {
+        VelocityEngine velocityEngine = new VelocityEngine();
+
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, "classpath, file");
+
+        // Configuration for 'real' executions of the plugin (that is: from the plugin's packaged jar)
+        velocityEngine.setProperty("resource.loader.classpath.description", "Velocity Classpath Resource Loader");
+        velocityEngine.setProperty("resource.loader.classpath.class", ClasspathResourceLoader.class.getName());
+        velocityEngine.setProperty("resource.loader.classpath.cache", true);
+        velocityEngine.setProperty("resource.loader.classpath.modification_check_interval", -1);
+
+        velocityEngine.init();
+
+        CUSTOM_TEMPLATES_REFS.values().forEach(template -> velocityEngine.getTemplate(template, "UTF-8"));
+        return velocityEngine;
     }
 
     @Bean
     public Function<String, GraphqlRuntimePojoGenerator> graphqlPojoGeneratorFactory(
             Function<String, GenerateCodeCommonConfiguration> codeConfigurationFactory,
-            Function<CommonConfiguration, GraphqlCodeDocumentParser> graphqlCodeDocumentParserFactory
+            Function<CommonConfiguration, GraphqlCodeDocumentParser> graphqlCodeDocumentParserFactory,
+            @Qualifier("graphqlCodegenVelocityEngine") VelocityEngine velocityEngine
     ) {
         return packageName -> {
             GenerateCodeCommonConfiguration configuration = codeConfigurationFactory.apply(packageName);
             GraphqlCodeDocumentParser parser = graphqlCodeDocumentParserFactory.apply(configuration);
-            return new GraphqlRuntimePojoGenerator(parser, configuration);
+            return new GraphqlRuntimePojoGenerator(parser, configuration, velocityEngine);
         };
     }
 
@@ -16,8 +16,6 @@
 
 package org.qubership.integration.platform.runtime.catalog.configuration.aspect;
 
-import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -25,8 +23,8 @@
 
 /**
  * Used for deployment changes detection (create, remove).
- * Not compatible with {@link org.springframework.transaction.annotation.Transactional},
- * use {@link TransactionHandler} instead
+ * Inside a transaction the change is published after the transaction is completed,
+ * nested and repeated invocations within a short window are published once.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
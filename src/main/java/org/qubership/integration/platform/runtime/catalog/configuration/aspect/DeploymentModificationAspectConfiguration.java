@@ -19,7 +19,7 @@
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Aspect;
-import org.qubership.integration.platform.runtime.catalog.consul.ConsulService;
+import org.qubership.integration.platform.runtime.catalog.consul.DeploymentsUpdatePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
@@ -27,15 +27,15 @@
 @Aspect
 @Configuration
 public class DeploymentModificationAspectConfiguration {
-    private final ConsulService consulService;
+    private final DeploymentsUpdatePublisher deploymentsUpdatePublisher;
 
     @Autowired
-    public DeploymentModificationAspectConfiguration(ConsulService consulService) {
-        this.consulService = consulService;
+    public DeploymentModificationAspectConfiguration(DeploymentsUpdatePublisher deploymentsUpdatePublisher) {
+        this.deploymentsUpdatePublisher = deploymentsUpdatePublisher;
     }
 
     @After("@annotation(org.qubership.integration.platform.runtime.catalog.configuration.aspect.DeploymentModification)")
     public void updateDeploymentsTimestamp() {
-        consulService.updateDeploymentsTimestamp();
+        deploymentsUpdatePublisher.deploymentsModified();
     }
 }
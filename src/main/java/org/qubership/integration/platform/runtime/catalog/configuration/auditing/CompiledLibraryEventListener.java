@@ -22,6 +22,7 @@
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryEvent;
 import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryEventType;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.CompiledLibrary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -48,17 +49,26 @@ private void afterRemove(CompiledLibrary compiledLibrary) {
     @PostPersist
     private void afterPersist(CompiledLibrary compiledLibrary) {
         if (log.isDebugEnabled()) {
-            log.debug("Created compiled library {}", compiledLibrary.getId());
+            log.debug("Created compiled library {}, status {}", compiledLibrary.getId(), compiledLibrary.getStatus());
         }
-        notify(CompiledLibraryEventType.CREATED, compiledLibrary);
+        notifyIfReady(CompiledLibraryEventType.CREATED, compiledLibrary);
     }
 
     @PostUpdate
     private void afterUpdate(CompiledLibrary compiledLibrary) {
         if (log.isDebugEnabled()) {
-            log.debug("Updated compiled library {}", compiledLibrary.getId());
+            log.debug("Updated compiled library {}, status {}", compiledLibrary.getId(), compiledLibrary.getStatus());
+        }
+        notifyIfReady(CompiledLibraryEventType.UPDATED, compiledLibrary);
+    }
+
+    /**
+     * Pending and failed builds are not announced, engines keep the previous build of the library
+     */
+    private void notifyIfReady(CompiledLibraryEventType eventType, CompiledLibrary compiledLibrary) {
+        if (CompiledLibraryStatus.READY == compiledLibrary.getStatus()) {
+            notify(eventType, compiledLibrary);
         }
-        notify(CompiledLibraryEventType.UPDATED, compiledLibrary);
     }
 
     private void notify(CompiledLibraryEventType eventType, CompiledLibrary compiledLibrary) {
@@ -18,10 +18,13 @@
 
 import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.jpa.HibernatePersistenceProvider;
 import org.qubership.integration.platform.runtime.catalog.configuration.datasource.properties.HikariConfigProperties;
+import org.qubership.integration.platform.runtime.catalog.persistence.QueryCountingStatementInspector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
@@ -58,11 +61,17 @@ public class PersistenceAutoConfiguration {
     };
     private final JpaProperties jpaProperties;
     private final HikariConfigProperties properties;
+    private final boolean queryCountingEnabled;
 
     @Autowired
-    public PersistenceAutoConfiguration(JpaProperties jpaProperties, HikariConfigProperties properties) {
+    public PersistenceAutoConfiguration(
+            JpaProperties jpaProperties,
+            HikariConfigProperties properties,
+            @Value("${qip.persistence.query-counting.enabled:false}") boolean queryCountingEnabled
+    ) {
         this.jpaProperties = jpaProperties;
         this.properties = properties;
+        this.queryCountingEnabled = queryCountingEnabled;
     }
 
     @Primary
@@ -118,6 +127,10 @@ private Properties additionalProperties() {
         if (jpaProperties != null) {
             properties.putAll(jpaProperties.getProperties());
         }
+        // Diagnostic aid for checking query budgets, every statement passes through the inspector when enabled
+        if (queryCountingEnabled) {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCountingStatementInspector.class.getName());
+        }
         return properties;
     }
 }
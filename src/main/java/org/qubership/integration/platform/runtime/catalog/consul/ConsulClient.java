@@ -55,6 +55,7 @@ public class ConsulClient {
     public static final String CONSUL_TXN_PATH = "/v1/txn";
     public static final String CONSUL_KV_QUERY_PARAMS = "?recurse={recurse}&index={index}&wait={wait}";
     public static final String CONSUL_KV_DELETE_PARAMS = "?recurse={recurse}";
+    public static final String CONSUL_KV_CAS_PARAMS = "?cas={cas}";
 
     private final String consulUrl;
 
@@ -156,6 +157,27 @@ public void createOrUpdateKV(String key, Object value) {
         }
     }
 
+    /**
+     * Check-and-set write
+     *
+     * @param modifyIndex ModifyIndex of the key as it was read, 0 - create the key only if it is not present
+     * @return false if the key was modified since it was read
+     */
+    public boolean compareAndSetKV(String key, Object value, long modifyIndex) {
+        HttpEntity<Object> entity = new HttpEntity<>(value, buildCommonHeaders());
+        ResponseEntity<String> response = restTemplate.exchange(consulUrl + CONSUL_KV_PATH + key + CONSUL_KV_CAS_PARAMS,
+                HttpMethod.PUT, entity, String.class,
+                Map.of("cas", modifyIndex));
+
+        if (response.getStatusCode() != HttpStatus.OK) {
+            log.error("Failed to check-and-set KV in consul, code: {}, body: {}",
+                    response.getStatusCode(), response.getBody());
+            throw new RuntimeException("Failed to check-and-set KV in consul, response with non 2xx code");
+        }
+
+        return "true".equalsIgnoreCase(StringUtils.strip(response.getBody()));
+    }
+
     /**
      * @param map key/value mapping, key - path without a leading slash (e.g. 'config/test/key')
      */
@@ -43,6 +43,7 @@
 @Component
 public class ConsulService {
     private static final String WAIT_TIMEOUT_STRING = "20s";
+    private static final int DEPLOYMENTS_VERSION_CAS_ATTEMPTS = 10;
 
     @Deprecated(since = "24.2")
     public static final String CHAINS_RUNTIME_CONFIGURATIONS_LEGACY = "/chains-runtime-configurations";
@@ -98,12 +99,35 @@ public ConsulService(@Qualifier("primaryObjectMapper") ObjectMapper jsonMapper,
 
 
     /**
-     * Use @DeploymentModification annotation to call this method after target method invocation.
-     * Should only be called after the transaction is closed.
+     * Use @DeploymentModification annotation to publish a new version after target method invocation,
+     * {@link DeploymentsUpdatePublisher} defers it until the transaction is closed.
+     *
+     * @param minVersion lower bound of the new version, the value is also kept greater than the current one
+     * @return published version
      */
-    public void updateDeploymentsTimestamp() {
-        log.debug("Update deployments modification timestamp");
-        client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate, new Date().getTime());
+    public long publishDeploymentsVersion(long minVersion) {
+        String key = keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate;
+        for (int attempt = 0; attempt < DEPLOYMENTS_VERSION_CAS_ATTEMPTS; attempt++) {
+            long modifyIndex = 0;
+            long currentVersion = 0;
+            try {
+                List<KeyResponse> response = client.getKV(key, false);
+                if (!response.isEmpty()) {
+                    modifyIndex = response.get(0).getModifyIndex();
+                    currentVersion = parseDeploymentsVersion(response.get(0).getDecodedValue());
+                }
+            } catch (KVNotFoundException kvnfe) {
+                // first publication, create the key
+            }
+
+            long version = Math.max(minVersion, currentVersion + 1);
+            if (client.compareAndSetKV(key, version, modifyIndex)) {
+                log.debug("Deployments version {} published", version);
+                return version;
+            }
+            log.debug("Deployments version was modified concurrently, retrying");
+        }
+        throw new RuntimeException("Failed to publish deployments version, key is modified concurrently");
     }
 
     /**
@@ -151,15 +175,16 @@ private Long parseDeploymentsUpdate(Pair<Long, List<KeyResponse>> pair) {
         List<KeyResponse> response = pair.getRight();
         return switch (response.size()) {
             case 0 -> 0L;
-            case 1 -> {
-                String value = response.get(0).getDecodedValue();
-                yield value == null ? 0L : Long.parseLong(value);
-            }
+            case 1 -> parseDeploymentsVersion(response.get(0).getDecodedValue());
             default ->
                     throw new RuntimeException("Failed to parse response, target key in consul has invalid format/size: " + response);
         };
     }
 
+    private static long parseDeploymentsVersion(String value) {
+        return StringUtils.isBlank(value) ? 0L : Long.parseLong(value.trim());
+    }
+
     public void updateLibraries(List<CompiledLibraryUpdate> libs) {
         log.debug("Update deployments modification timestamp");
         client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyLibrariesUpdate, libs);
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.consul;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Publishes deployments version to consul on behalf of
+ * {@link org.qubership.integration.platform.runtime.catalog.configuration.aspect.DeploymentModification}.
+ * <p>
+ * Publication is deferred until the current transaction is completed and all modifications
+ * made within the debounce window are published as a single version bump. The window is fixed:
+ * it opens with the first unpublished modification and is not extended by later ones, so a steady
+ * stream of modifications delays publication by at most one window.
+ */
+@Slf4j
+@Component
+public class DeploymentsUpdatePublisher {
+    public static final int PUBLISH_RETRY_DELAY = 3000;
+
+    private final ConsulService consulService;
+    private final TaskScheduler taskScheduler;
+    private final Duration debounce;
+    private final Clock clock;
+
+    private final Object publishLock = new Object();
+    private boolean pending = false;
+    private ScheduledFuture<?> scheduledPublication;
+    private long lastVersion = 0;
+
+    @Autowired
+    public DeploymentsUpdatePublisher(ConsulService consulService,
+                                      TaskScheduler taskScheduler,
+                                      @Value("${qip.deployments.update.debounce:PT0.5S}") Duration debounce) {
+        this(consulService, taskScheduler, debounce, Clock.systemUTC());
+    }
+
+    DeploymentsUpdatePublisher(ConsulService consulService, TaskScheduler taskScheduler, Duration debounce, Clock clock) {
+        this.consulService = consulService;
+        this.taskScheduler = taskScheduler;
+        this.debounce = debounce;
+        this.clock = clock;
+    }
+
+    public void deploymentsModified() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                    .anyMatch(PublishOnCompletion.class::isInstance);
+            if (!registered) {
+                TransactionSynchronizationManager.registerSynchronization(new PublishOnCompletion());
+            }
+        } else {
+            schedule(debounce);
+        }
+    }
+
+    public long getLastVersion() {
+        synchronized (publishLock) {
+            return lastVersion;
+        }
+    }
+
+    private synchronized void schedule(Duration delay) {
+        pending = true;
+        if (scheduledPublication == null) {
+            scheduledPublication = taskScheduler.schedule(this::publish, clock.instant().plus(delay));
+        }
+    }
+
+    private void publish() {
+        synchronized (this) {
+            scheduledPublication = null;
+            if (!pending) {
+                return;
+            }
+            pending = false;
+        }
+
+        // Modifications made while publishing are picked up by the next scheduled publication
+        synchronized (publishLock) {
+            try {
+                lastVersion = consulService.publishDeploymentsVersion(Math.max(clock.millis(), lastVersion + 1));
+            } catch (Exception e) {
+                MDC.put("error_code", "8050");
+                log.warn("Failed to publish deployments version, retrying in {} ms: {}", PUBLISH_RETRY_DELAY, e.getMessage());
+                MDC.remove("error_code");
+                schedule(Duration.ofMillis(PUBLISH_RETRY_DELAY));
+            }
+        }
+    }
+
+    private class PublishOnCompletion implements TransactionSynchronization {
+        /**
+         * Published after rollback too: nested transactions started with
+         * {@link org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler}
+         * may have been committed, and a redundant version only costs engines one fetch.
+         */
+        @Override
+        public void afterCompletion(int status) {
+            schedule(debounce);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.db.migration.postgresql.configs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeployedRoute;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills deployed_routes for deployments created before the table existed.
+ * Routes are derived from trigger elements the same way as for new deployments.
+ */
+@Slf4j
+@Component
+public class DeployedRoutesBackfillMigration extends ConfigsJavaMigration {
+    private static final int BATCH_SIZE = 500;
+
+    private static final MigrationVersion VERSION = MigrationVersion.fromVersion("113.001");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    protected void init() {
+        // version and description are not derived from the class name
+    }
+
+    @Override
+    public MigrationVersion getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public String getDescription() {
+        return "backfill deployed routes";
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        int inserted = 0;
+        try (PreparedStatement select = connection.prepareStatement("""
+                select d.id, d.chain_id, d.domain, e.type, e.properties::text, e.environment::text
+                from catalog.deployments d
+                    join catalog.elements e on e.snapshot_id = d.snapshot_id
+                where e.type in (?, ?)
+                order by d.id""");
+             PreparedStatement insert = connection.prepareStatement("""
+                insert into catalog.deployed_routes
+                    (id, deployment_id, chain_id, domain, trigger_type, path, method, gateway_type, sds_job_id)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                on conflict do nothing""")) {
+            select.setString(1, CamelNames.HTTP_TRIGGER_COMPONENT);
+            select.setString(2, CamelNames.SDS_TRIGGER_COMPONENT);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    String deploymentId = rows.getString(1);
+                    for (DeployedRoute route : buildRoutes(deploymentId, rows.getString(4), rows.getString(5), rows.getString(6))) {
+                        insert.setString(1, route.getId());
+                        insert.setString(2, deploymentId);
+                        insert.setString(3, rows.getString(2));
+                        insert.setString(4, rows.getString(3));
+                        insert.setString(5, route.getTriggerType().name());
+                        insert.setString(6, route.getPath());
+                        insert.setString(7, route.getMethod());
+                        insert.setString(8, route.getGatewayType() == null ? null : route.getGatewayType().name());
+                        insert.setString(9, route.getSdsJobId());
+                        insert.addBatch();
+                        if (++inserted % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        log.info("Deployed routes backfilled: {}", inserted);
+    }
+
+    private List<DeployedRoute> buildRoutes(String deploymentId, String type, String properties, String environment) {
+        try {
+            ChainElement trigger = ChainElement.builder()
+                    .type(type)
+                    .properties(properties == null
+                            ? new LinkedHashMap<String, Object>()
+                            : objectMapper.readValue(properties, new TypeReference<Map<String, Object>>() { }))
+                    .environment(environment == null ? null : objectMapper.readValue(environment, ServiceEnvironment.class))
+                    .build();
+            return DeployedRoute.fromTriggers(List.of(trigger));
+        } catch (Exception e) {
+            log.warn("Skipping trigger of deployment {} while backfilling deployed routes: {}", deploymentId, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -16,12 +16,16 @@
 
 package org.qubership.integration.platform.runtime.catalog.kubernetes;
 
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
+import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
@@ -84,13 +88,7 @@ public List<KubeDeployment> getDeploymentsByLabel(String labelKey) throws KubeAp
             );
 
             return list.getItems().stream()
-                    .map(item -> KubeDeployment.builder()
-                            .id(Objects.requireNonNull(item.getMetadata().getUid()))
-                            .name(Objects.requireNonNull(item.getMetadata()).getName())
-                            .namespace(namespace)
-                            .replicas(Objects.requireNonNull(item.getSpec().getReplicas()))
-                            .version(Objects.requireNonNull(item.getMetadata().getLabels()).get(BUILD_VERSION_LABEL))
-                            .build())
+                    .map(this::toKubeDeployment)
                     .collect(Collectors.toList());
 
         } catch (ApiException e) {
@@ -120,22 +118,7 @@ public List<KubePod> getPodsByLabel(String labelKey, String labelValue) throws K
             );
 
             return list.getItems().stream()
-                    .map(item -> {
-                        boolean ready = false;
-                        if (item.getStatus() != null
-                                && item.getStatus().getContainerStatuses() != null
-                                && !item.getStatus().getContainerStatuses().isEmpty()) {
-                            ready = item.getStatus().getContainerStatuses().get(0).getReady();
-                        }
-
-                        return KubePod.builder()
-                                .name(Objects.requireNonNull(item.getMetadata().getName()))
-                                .runningStatus(PodRunningStatus.get(Objects.requireNonNull(item.getStatus()).getPhase()))
-                                .ready(ready)
-                                .ip(item.getStatus().getPodIP())
-                                .namespace(namespace)
-                                .build();
-                    })
+                    .map(this::toKubePod)
                     .collect(Collectors.toList());
 
         } catch (ApiException e) {
@@ -147,6 +130,94 @@ public List<KubePod> getPodsByLabel(String labelKey, String labelValue) throws K
         }
     }
 
+    /**
+     * @return whether the operator is connected to a cluster, operators created after a configuration error are not
+     */
+    public boolean isConfigured() {
+        return namespace != null;
+    }
+
+    public SharedInformerFactory createInformerFactory() {
+        return new SharedInformerFactory(appsApi.getApiClient());
+    }
+
+    /**
+     * Registers an informer watching deployments marked with the label, same as {@link #getDeploymentsByLabel}
+     */
+    public SharedIndexInformer<V1Deployment> createDeploymentsInformer(SharedInformerFactory factory, String labelKey, long resyncPeriodMillis) {
+        return factory.sharedIndexInformerFor(
+                params -> appsApi.listNamespacedDeploymentCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        labelKey + " = true",
+                        null,
+                        params.resourceVersion,
+                        null,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null
+                ),
+                V1Deployment.class,
+                V1DeploymentList.class,
+                resyncPeriodMillis);
+    }
+
+    /**
+     * Registers an informer watching all pods having the label, whatever its value is
+     */
+    public SharedIndexInformer<V1Pod> createPodsInformer(SharedInformerFactory factory, String labelKey, long resyncPeriodMillis) {
+        return factory.sharedIndexInformerFor(
+                params -> coreApi.listNamespacedPodCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        labelKey,
+                        null,
+                        params.resourceVersion,
+                        null,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null
+                ),
+                V1Pod.class,
+                V1PodList.class,
+                resyncPeriodMillis);
+    }
+
+    public KubeDeployment toKubeDeployment(V1Deployment item) {
+        return KubeDeployment.builder()
+                .id(Objects.requireNonNull(item.getMetadata().getUid()))
+                .name(Objects.requireNonNull(item.getMetadata()).getName())
+                .namespace(namespace)
+                .replicas(Objects.requireNonNull(item.getSpec().getReplicas()))
+                .version(Objects.requireNonNull(item.getMetadata().getLabels()).get(BUILD_VERSION_LABEL))
+                .build();
+    }
+
+    public KubePod toKubePod(V1Pod item) {
+        boolean ready = false;
+        if (item.getStatus() != null
+                && item.getStatus().getContainerStatuses() != null
+                && !item.getStatus().getContainerStatuses().isEmpty()) {
+            ready = item.getStatus().getContainerStatuses().get(0).getReady();
+        }
+
+        return KubePod.builder()
+                .name(Objects.requireNonNull(item.getMetadata().getName()))
+                .runningStatus(PodRunningStatus.get(Objects.requireNonNull(item.getStatus()).getPhase()))
+                .ready(ready)
+                .ip(item.getStatus().getPodIP())
+                .namespace(namespace)
+                .build();
+    }
+
     public List<KubeService> getServices() {
         try {
             V1ServiceList list = coreApi.listNamespacedService(
@@ -35,4 +35,7 @@ public class DeploymentsUpdate {
     @Builder.Default
     @Schema(description = "List of deployments to stop")
     private Collection<DeploymentUpdate> stop = Collections.emptyList();
+    @Schema(description = "Deployments version published to consul the update is built for,"
+            + " engine may skip fetching an update for the version it already has")
+    private Long version;
 }
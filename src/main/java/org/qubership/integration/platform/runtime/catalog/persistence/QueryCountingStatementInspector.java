@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records SQL statements issued by Hibernate on the current thread while a {@link #record} scope is open.
+ * Outside of a scope the inspector does nothing. Used to keep fetch plans within their query budget.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public record Recording<T>(T result, List<String> statements) {
+        public int count() {
+            return statements.size();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static <T> Recording<T> record(Supplier<T> action) {
+        List<String> outer = STATEMENTS.get();
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            T result = action.get();
+            return new Recording<>(result, Collections.unmodifiableList(statements));
+        } finally {
+            if (outer == null) {
+                STATEMENTS.remove();
+            } else {
+                outer.addAll(statements);
+                STATEMENTS.set(outer);
+            }
+        }
+    }
+}
@@ -41,8 +41,11 @@
 @SuperBuilder
 @NoArgsConstructor
 @Entity(name = "chains")
+@NamedEntityGraph(name = Chain.ELEMENTS_GRAPH, attributeNodes = @NamedAttributeNode("elements"))
 public class Chain extends FoldableEntity {
 
+    public static final String ELEMENTS_GRAPH = "Chain.elements";
+
     @Builder.Default
     @OrderBy("id")
     @OneToMany(mappedBy = "chain",
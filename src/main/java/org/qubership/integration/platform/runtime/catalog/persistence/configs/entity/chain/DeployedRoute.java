@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.qubership.integration.platform.runtime.catalog.model.ElementRoute;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.DeployedTriggerType;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.RouteType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.util.TriggerUtils;
+import org.springframework.http.HttpMethod;
+
+import java.util.*;
+
+/**
+ * Path and method of a deployed http trigger, or job id of a deployed SDS trigger.
+ * Used to detect conflicting triggers without loading elements of deployed snapshots.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "deployed_routes")
+@ToString
+public class DeployedRoute {
+    @Id
+    @Builder.Default
+    private String id = UUID.randomUUID().toString();
+
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deployment_id")
+    @ToString.Exclude
+    private Deployment deployment;
+
+    private String chainId;
+    private String domain;
+
+    @Enumerated(EnumType.STRING)
+    private DeployedTriggerType triggerType;
+
+    private String path;
+    private String method;
+
+    @Enumerated(EnumType.STRING)
+    private RouteType gatewayType;
+
+    private String sdsJobId;
+
+    /**
+     * Builds routes of http and SDS triggers. Triggers without path or job id do not produce routes,
+     * repeated routes are returned once.
+     */
+    public static List<DeployedRoute> fromTriggers(Collection<ChainElement> triggers) {
+        Map<String, DeployedRoute> routes = new LinkedHashMap<>();
+        for (ChainElement trigger : triggers) {
+            if (TriggerUtils.isHttpTrigger(trigger)) {
+                ElementRoute route = TriggerUtils.getHttpTriggerRoute(trigger);
+                if (StringUtils.isBlank(route.getPath())) {
+                    continue;
+                }
+                RouteType gatewayType = RouteType.convertTriggerType(route.isExternal(), route.isPrivate());
+                route.getMethods().stream()
+                        .map(HttpMethod::name)
+                        .sorted()
+                        .forEach(method -> routes.putIfAbsent(
+                                DeployedTriggerType.HTTP + ":" + route.getPath() + ":" + method,
+                                DeployedRoute.builder()
+                                        .triggerType(DeployedTriggerType.HTTP)
+                                        .path(route.getPath())
+                                        .method(method)
+                                        .gatewayType(gatewayType)
+                                        .build()));
+            } else {
+                String jobId = TriggerUtils.getSdsTriggerJobId(trigger);
+                if (StringUtils.isNotBlank(jobId)) {
+                    routes.putIfAbsent(DeployedTriggerType.SDS + ":" + jobId, DeployedRoute.builder()
+                            .triggerType(DeployedTriggerType.SDS)
+                            .sdsJobId(jobId)
+                            .build());
+                }
+            }
+        }
+        return new ArrayList<>(routes.values());
+    }
+
+    public void bindTo(Deployment deployment) {
+        this.deployment = deployment;
+        this.chainId = deployment.getChain() == null ? null : deployment.getChain().getId();
+        this.domain = deployment.getDomain();
+    }
+
+    /**
+     * @return key of the advisory lock serializing deployments of the same route
+     */
+    public String getLockKey() {
+        return DeployedTriggerType.HTTP == triggerType ? triggerType + ":" + path : triggerType + ":" + sdsJobId;
+    }
+
+    public ElementRoute toElementRoute() {
+        return ElementRoute.builder()
+                .path(path)
+                .methods(Set.of(HttpMethod.valueOf(method)))
+                .isExternal(RouteType.isExternalTriggerRoute(gatewayType))
+                .isPrivate(RouteType.isPrivateTriggerRoute(gatewayType))
+                .build();
+    }
+}
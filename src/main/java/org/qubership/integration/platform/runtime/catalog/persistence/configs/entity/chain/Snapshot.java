@@ -20,15 +20,14 @@
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
+import org.qubership.integration.platform.runtime.catalog.util.ChainContentHashUtils;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.sql.Types;
 import java.util.*;
 
 import static jakarta.persistence.CascadeType.*;
@@ -41,12 +40,10 @@
 @Entity(name = "snapshots")
 @EntityListeners(AuditingEntityListener.class)
 @FieldNameConstants
+@NamedEntityGraph(name = Snapshot.ELEMENTS_GRAPH, attributeNodes = @NamedAttributeNode("elements"))
 public class Snapshot extends AbstractEntity {
 
-    @Lob
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @Column(name = "xml_configuration", columnDefinition = "text")
-    private String xmlDefinition;
+    public static final String ELEMENTS_GRAPH = "Snapshot.elements";
 
     @OnDelete(action = OnDeleteAction.CASCADE)
     @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
@@ -85,6 +82,12 @@ public class Snapshot extends AbstractEntity {
     )
     private Set<SnapshotLabel> labels = new LinkedHashSet<>();
 
+    /**
+     * Root hash of the chain content the snapshot was built from,
+     * see {@link ChainContentHashUtils#treeHash}.
+     */
+    private String contentHash;
+
     public void addDeployment(Deployment deployment) {
         getDeployments().add(deployment);
         deployment.setSnapshot(this);
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Camel XML of a {@link Snapshot}, kept apart from the snapshot row so that it is read
+ * only when a deployment is built or the XML is requested explicitly.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "snapshot_xml_definitions")
+public class SnapshotXmlDefinition {
+
+    public enum Compression {
+        NONE,
+        DEFLATE
+    }
+
+    @Id
+    @Column(name = "snapshot_id")
+    private String snapshotId;
+
+    @JdbcTypeCode(Types.VARBINARY)
+    private byte[] data;
+
+    @Enumerated(EnumType.STRING)
+    private Compression compression;
+
+    /**
+     * SHA-256 hex of the uncompressed UTF-8 XML.
+     */
+    private String contentHash;
+
+    private long uncompressedSize;
+
+    public static SnapshotXmlDefinition of(String snapshotId, String xml) {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        return SnapshotXmlDefinition.builder()
+                .snapshotId(snapshotId)
+                .data(deflate(bytes))
+                .compression(Compression.DEFLATE)
+                .contentHash(DigestUtils.sha256Hex(bytes))
+                .uncompressedSize(bytes.length)
+                .build();
+    }
+
+    public String getXml() {
+        byte[] bytes = switch (compression) {
+            case NONE -> data;
+            case DEFLATE -> inflate(data, uncompressedSize);
+        };
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress snapshot xml", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes, long size) {
+        try (InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(size, Integer.MAX_VALUE - 8));
+            inflater.transferTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress snapshot xml", e);
+        }
+    }
+}
@@ -17,12 +17,16 @@
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.qubership.integration.platform.runtime.catalog.configuration.auditing.CompiledLibraryEventListener;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
 
 import java.sql.Types;
 
@@ -38,4 +42,32 @@ public class CompiledLibrary extends AbstractSystemEntity {
     @JdbcTypeCode(Types.VARBINARY)
     @Basic(fetch = FetchType.LAZY)
     private byte[] data;
+
+    /**
+     * SHA-256 hex of {@link #data}, kept in sync by {@link #setData(byte[])}.
+     */
+    @Setter(AccessLevel.NONE)
+    private String dataHash;
+
+    /**
+     * Engines are notified about the library when it becomes {@link CompiledLibraryStatus#READY}.
+     * While the library is being rebuilt, {@link #data} holds the previous build.
+     */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    private CompiledLibraryStatus status = CompiledLibraryStatus.READY;
+
+    private String errorMessage;
+
+    /**
+     * Incremented on every build request. A build stores its result only if the revision
+     * has not changed since the build read the model, so an older build cannot overwrite a newer one.
+     */
+    @Builder.Default
+    private long revision = 0;
+
+    public void setData(byte[] data) {
+        this.data = data;
+        this.dataHash = data == null ? null : DigestUtils.sha256Hex(data);
+    }
 }
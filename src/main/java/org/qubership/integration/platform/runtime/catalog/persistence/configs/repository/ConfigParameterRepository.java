@@ -18,7 +18,10 @@
 
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.ConfigParameter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 public interface ConfigParameterRepository extends JpaRepository<ConfigParameter, String> {
@@ -31,4 +34,8 @@ public interface ConfigParameterRepository extends JpaRepository<ConfigParameter
 
     void deleteAllByNamespace(String namespace);
 
+    @Modifying
+    @Query("delete from config_parameters p where p.namespace = :namespace and p.modifiedWhen < :timestamp")
+    void deleteAllByNamespaceModifiedBefore(String namespace, Timestamp timestamp);
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository;
+
+import org.qubership.integration.platform.runtime.catalog.model.deployment.DeployedTriggerType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeployedRoute;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.common.CommonRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DeployedRouteRepository extends CommonRepository<DeployedRoute>, JpaRepository<DeployedRoute, String> {
+
+    /**
+     * Takes transaction-scoped advisory locks on the keys in a stable order,
+     * so concurrent deployments of the same routes are checked one after another.
+     */
+    @Query(
+            nativeQuery = true,
+            value = """
+                select count(*)
+                from (
+                    select pg_advisory_xact_lock(hashtext(k.route_key))
+                    from unnest(array[:keys]) as k(route_key)
+                    order by k.route_key
+                ) locks"""
+    )
+    long lockKeys(Collection<String> keys);
+
+    List<DeployedRoute> findAllByTriggerTypeAndPathIn(DeployedTriggerType triggerType, Collection<String> paths);
+
+    List<DeployedRoute> findAllByTriggerTypeAndSdsJobIdIn(DeployedTriggerType triggerType, Collection<String> sdsJobIds);
+}
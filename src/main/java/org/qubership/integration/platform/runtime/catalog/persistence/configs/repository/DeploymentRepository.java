@@ -17,6 +17,7 @@
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository;
 
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.common.CommonRepository;
 import org.qubership.integration.platform.runtime.catalog.util.SQLUtils;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -28,14 +29,23 @@
 import java.util.Set;
 
 @Repository
-public interface DeploymentRepository extends JpaRepository<Deployment, String> {
+public interface DeploymentRepository extends CommonRepository<Deployment>, JpaRepository<Deployment, String> {
 
     List<Deployment> findAllByChainId(String chainId);
 
+    List<Deployment> findAllByChainIdIn(Collection<String> chainIds);
+
     List<Deployment> findAllByDomain(String domain);
 
     void deleteAllByChainId(String chainId);
 
+    @Query("select d from deployments d join fetch d.chain where d.chain.id in :chainIds")
+    List<Deployment> findAllByChainIdInWithChain(Collection<String> chainIds);
+
+    @Modifying
+    @Query("delete from deployments d where d.chain.id in :chainIds")
+    void deleteAllByChainIdIn(Collection<String> chainIds);
+
     void deleteAllBySnapshotId(String snapshotId);
 
     long countByDomain(String domain);
@@ -19,6 +19,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.SnapshotBaseRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
@@ -26,26 +27,81 @@
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public interface SnapshotRepository extends SnapshotBaseRepository {
+    /**
+     * Returns the next keyset batch of snapshots created before the given time, ordered by creation time and id,
+     * with the name of their chain. A snapshot is marked as prunable if its chain has more than
+     * {@code keepLatest} newer snapshots and the snapshot is neither deployed nor current.
+     */
     @Query(nativeQuery = true,
             value = """
-                    DELETE FROM {h-schema}snapshots where ctid in
-                    (SELECT s.ctid
-                    FROM {h-schema}snapshots s
-                    LEFT JOIN {h-schema}deployments d ON d.snapshot_id = s.id
-                    LEFT JOIN {h-schema}chains c ON c.current_snapshot_id = s.id
-                    WHERE s.created_when < :createdWhen AND
-                    d.id IS NULL AND c.id IS NULL
-                    LIMIT :chunk) RETURNING id, name, chain_id as chain"""
+                    WITH candidates AS (
+                        SELECT s.id, s.chain_id, s.created_when
+                        FROM {h-schema}snapshots s
+                        WHERE s.created_when < :createdBefore
+                          AND (s.created_when, s.id) > (:afterCreatedWhen, :afterId)
+                        ORDER BY s.created_when, s.id
+                        LIMIT :batchSize
+                    ), ranked AS (
+                        SELECT s.id, row_number() OVER (PARTITION BY s.chain_id ORDER BY s.created_when DESC, s.id DESC) AS rn
+                        FROM {h-schema}snapshots s
+                        WHERE s.chain_id IN (SELECT k.chain_id FROM candidates k)
+                    )
+                    SELECT s.id AS "id", s.name AS "name", s.chain_id AS "chainId", c.name AS "chainName",
+                           s.created_when AS "createdWhen",
+                           (COALESCE(r.rn, :keepLatest + 1) > :keepLatest
+                               AND NOT EXISTS (SELECT 1 FROM {h-schema}deployments d WHERE d.snapshot_id = s.id)
+                               AND NOT EXISTS (SELECT 1 FROM {h-schema}chains cs WHERE cs.current_snapshot_id = s.id)) AS "prunable"
+                    FROM candidates k
+                    JOIN {h-schema}snapshots s ON s.id = k.id
+                    LEFT JOIN ranked r ON r.id = k.id
+                    LEFT JOIN {h-schema}chains c ON c.id = s.chain_id
+                    ORDER BY k.created_when, k.id"""
     )
-    List<Map<String, String>> pruneByCreatedWhen(@NonNull Timestamp createdWhen, int chunk);
+    List<SnapshotPruneCandidate> findPruneCandidates(
+            @NonNull Timestamp createdBefore,
+            int keepLatest,
+            @NonNull Timestamp afterCreatedWhen,
+            @NonNull String afterId,
+            int batchSize
+    );
+
+    /**
+     * Deletes the snapshots that are still neither deployed nor current, returns ids of the deleted ones.
+     */
+    @Query(nativeQuery = true,
+            value = """
+                    DELETE FROM {h-schema}snapshots s
+                    WHERE s.id IN (:ids)
+                      AND NOT EXISTS (SELECT 1 FROM {h-schema}deployments d WHERE d.snapshot_id = s.id)
+                      AND NOT EXISTS (SELECT 1 FROM {h-schema}chains c WHERE c.current_snapshot_id = s.id)
+                    RETURNING s.id"""
+    )
+    List<String> deleteUnusedByIdIn(Collection<String> ids);
+
+    interface SnapshotPruneCandidate {
+        String getId();
+
+        String getName();
+
+        String getChainId();
+
+        String getChainName();
+
+        Timestamp getCreatedWhen();
+
+        Boolean getPrunable();
+    }
 
     List<Snapshot> findAllByChainId(String chainId);
 
+    @EntityGraph(Snapshot.ELEMENTS_GRAPH)
+    @Query("select s from snapshots s where s.id = :snapshotId")
+    Optional<Snapshot> findWithElementsById(String snapshotId);
+
     Optional<Snapshot> findFirstByChainOrderByIdDesc(Chain chain);
 
     void deleteAllByChainId(String chainId);
@@ -19,17 +19,24 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.common.CommonRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChainRepository extends CommonRepository<Chain>, JpaRepository<Chain, String>, JpaSpecificationExecutor<Chain> {
     boolean existsByNameAndParentFolderId(String name, String parentFolderId);
 
+    @EntityGraph(Chain.ELEMENTS_GRAPH)
+    @Query("select c from chains c where c.id = :chainId")
+    Optional<Chain> findWithElementsById(String chainId);
+
     @Modifying
     @Query("update chains chain set chain.modifiedWhen = :modifiedWhen where chain.id = :chainId")
     void updateModificationTimestamp(String chainId, Timestamp modifiedWhen);
@@ -48,19 +55,10 @@ public interface ChainRepository extends CommonRepository<Chain>, JpaRepository<
                 SELECT *
                 FROM catalog.chains ch
                 WHERE ch.parent_folder_id IN (
-                    WITH RECURSIVE parent_folders AS (
-                        SELECT f1.*
-                        FROM catalog.folders f1
-                        WHERE f1.id = :folderId
-
-                        UNION ALL
-
-                        SELECT f2.*
-                        FROM catalog.folders f2
-                                 INNER JOIN parent_folders pf ON f2.id = pf.parent_folder_id
-                    )
-                    SELECT DISTINCT id
-                    FROM parent_folders)"""
+                    SELECT f.id
+                    FROM catalog.folders t
+                             INNER JOIN catalog.folders f ON f.id = ANY(t.path_ids)
+                    WHERE t.id = :folderId)"""
     )
     List<Chain> findAllChainsToRootParentFolder(String folderId);
 
@@ -70,38 +68,44 @@ WITH RECURSIVE parent_folders AS (
                 SELECT *
                 FROM catalog.chains ch
                 WHERE ch.parent_folder_id IN (
-                    WITH RECURSIVE parent_folders AS (
-                        SELECT f1.*
-                        FROM catalog.folders f1
-                        WHERE f1.id in :folderIds
-
-                        UNION ALL
-
-                        SELECT f2.*
-                        FROM catalog.folders f2
-                                 INNER JOIN parent_folders pf ON f2.parent_folder_id = pf.id
-                    )
-                    SELECT DISTINCT id
-                    FROM parent_folders)"""
+                    SELECT f.id
+                    FROM catalog.folders f
+                    WHERE f.path_ids && cast(array[:folderIds] as text[]))"""
     )
     List<Chain> findAllChainsInFolders(List<String> folderIds);
 
+    /**
+     * Returns ids of the given chains and all chains called by them, directly or transitively,
+     * through chain-call elements or http-trigger failure handlers.
+     * UNION drops already visited chains, so cyclic calls terminate.
+     */
     @Query(
             nativeQuery = true,
             value = """
+                with recursive sub_chains(chain_id) as (
+                    select ch.id
+                    from catalog.chains ch
+                    where ch.id in :chainsIds
+
+                    union
+
+                    select target.chain_id
+                    from sub_chains sc
+                             inner join catalog.elements caller
+                                        on caller.chain_id = sc.chain_id
+                                            and caller.type in ('chain-call', 'chain-call-2', 'http-trigger')
+                             inner join catalog.elements target
+                                        on target.id = case
+                                                           when caller.type = 'http-trigger'
+                                                               then caller.properties -> 'chainFailureHandlerContainer' ->> 'elementId'
+                                                           else caller.properties ->> 'elementId'
+                                            end
+                    where target.chain_id is not null
+                )
                 select chain_id
-                from catalog.elements
-                where id in (select properties ->> 'elementId'
-                             from catalog.elements
-                             where chain_id in :chainsIds
-                               and type IN ('chain-call', 'chain-call-2')
-                             UNION
-                             select properties -> 'chainFailureHandlerContainer' ->> 'elementId'
-                             from catalog.elements
-                             where chain_id in :chainsIds
-                                and type IN ('http-trigger'))"""
+                from sub_chains"""
     )
-    List<String> findSubChains(List<String> chainsIds);
+    List<String> findChainsWithSubChains(Collection<String> chainsIds);
 
     @Query("SELECT id FROM chains")
     List<String> findAllId();
@@ -20,6 +20,7 @@
 import jakarta.persistence.LockModeType;
 import jakarta.validation.constraints.NotEmpty;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.common.CommonRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,6 +41,78 @@ public interface ElementRepository extends CommonRepository<ChainElement>, JpaRe
     @Query(value = "select e from elements e join fetch e.chain where e.type in ?1 and e.chain is not null")
     List<ChainElement> findAllByTypeInAndFetchChain(Collection<String> type);
 
+    /**
+     * Returns distinct (system id, specification id) pairs referenced by chain elements of the given types.
+     * Context service ids are returned with a null specification id.
+     */
+    @Query(
+            nativeQuery = true,
+            value = """
+                select e.properties ->> 'integrationSystemId' as system_id,
+                       e.properties ->> 'integrationSpecificationId' as model_id
+                from catalog.elements e
+                where e.chain_id is not null
+                  and e.type in :types
+                  and btrim(e.properties ->> 'integrationSystemId') <> ''
+                group by system_id, model_id
+
+                union
+
+                select e.properties ->> 'contextServiceId' as system_id,
+                       null as model_id
+                from catalog.elements e
+                where e.chain_id is not null
+                  and e.type in :types
+                  and btrim(e.properties ->> 'contextServiceId') <> ''
+                group by system_id"""
+    )
+    List<Object[]> findUsedSystemsByTypeIn(Collection<String> types);
+
+    /**
+     * Same as {@link #findUsedSystemsByTypeIn}, limited to elements of the given chains.
+     */
+    @Query(
+            nativeQuery = true,
+            value = """
+                select e.properties ->> 'integrationSystemId' as system_id,
+                       e.properties ->> 'integrationSpecificationId' as model_id
+                from catalog.elements e
+                where e.chain_id in :chainIds
+                  and e.type in :types
+                  and btrim(e.properties ->> 'integrationSystemId') <> ''
+                group by system_id, model_id
+
+                union
+
+                select e.properties ->> 'contextServiceId' as system_id,
+                       null as model_id
+                from catalog.elements e
+                where e.chain_id in :chainIds
+                  and e.type in :types
+                  and btrim(e.properties ->> 'contextServiceId') <> ''
+                group by system_id"""
+    )
+    List<Object[]> findUsedSystemsByChainIdInAndTypeIn(Collection<String> chainIds, Collection<String> types);
+
+    /**
+     * Returns distinct (specification id, operation id, chain id, chain name) rows of chain elements using
+     * the given specifications, ordered by chain name and id. The operation id is null for elements not bound
+     * to an operation.
+     */
+    @Query(
+            nativeQuery = true,
+            value = """
+                select distinct jsonb_extract_path_text(e.properties, 'integrationSpecificationId') as model_id,
+                       jsonb_extract_path_text(e.properties, 'integrationOperationId') as operation_id,
+                       e.chain_id,
+                       c.name as chain_name
+                from catalog.elements e
+                join catalog.chains c on c.id = e.chain_id
+                where jsonb_extract_path_text(e.properties, 'integrationSpecificationId') in :modelIds
+                order by chain_name, e.chain_id, model_id, operation_id"""
+    )
+    List<Object[]> findOperationUsagesByModelIdIn(Collection<String> modelIds);
+
     Optional<ChainElement> findByOriginalId(String originalId);
 
     ChainElement findByIdAndChainId(String id, String chainId);
@@ -50,6 +123,8 @@ public interface ElementRepository extends CommonRepository<ChainElement>, JpaRe
 
     List<ChainElement> findAllBySnapshotIdAndTypeIn(String snapshotId, List<String> type);
 
+    List<ChainElement> findAllBySnapshotIdInAndTypeIn(Collection<String> snapshotIds, Collection<String> types);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM swimlane_elements e WHERE e.id = :id")
     Optional<SwimlaneChainElement> findSwimlaneWithLockingById(String id);
@@ -66,44 +141,6 @@ public interface ElementRepository extends CommonRepository<ChainElement>, JpaRe
     @Query("SELECT e FROM swimlane_elements e WHERE e.chain.id = :chainId AND e.reuseSwimlane = TRUE")
     Optional<SwimlaneChainElement> findReuseSwimlaneWithLockingByChainId(String chainId);
 
-    @Query("""
-        SELECT e
-        FROM elements e
-        WHERE e.type IN :types
-            AND (e.snapshot.id IN (
-                    SELECT d.snapshot.id
-                    FROM deployments d
-                    WHERE
-                        d.domain <> :domain
-                        AND d.chain.id = :excludeChainId
-                        AND (:excludeDeploymentIds IS NULL
-                        OR d.id NOT IN :excludeDeploymentIds)
-                    )
-                )""")
-    List<ChainElement> findElementsForDomainTriggerCheck(
-            List<String> types,
-            String domain,
-            String excludeChainId,
-            @Nullable @NotEmpty List<String> excludeDeploymentIds);
-
-    @Query("""
-        SELECT e
-        FROM elements e
-        WHERE e.type IN :types
-            AND (e.snapshot.id IN (
-                    SELECT d.snapshot.id
-                    FROM deployments d
-                    WHERE
-                        d.chain.id <> :excludeChainId
-                        AND (:excludeDeploymentIds IS NULL
-                        OR d.id NOT IN :excludeDeploymentIds)
-                    )
-                )""")
-    List<ChainElement> findElementsForTriggerCheck(
-            List<String> types,
-            String excludeChainId,
-            @Nullable @NotEmpty List<String> excludeDeploymentIds);
-
     @Query("""
         SELECT e
         FROM elements e
@@ -158,6 +195,27 @@ List<ChainElement> findElementsForRouteExistenceCheck(
 
     List<ChainElement> findAllBySnapshotId(String id);
 
+    // Fetch plan queries: each initializes one collection for all elements of a chain or a snapshot at once.
+    // Collections are fetched by separate queries since fetching several bags in one query is not possible.
+
+    @Query("SELECT DISTINCT e FROM elements e LEFT JOIN FETCH e.inputDependencies WHERE e.chain.id = :chainId")
+    List<ChainElement> fetchInputDependenciesByChainId(String chainId);
+
+    @Query("SELECT DISTINCT e FROM elements e LEFT JOIN FETCH e.outputDependencies WHERE e.chain.id = :chainId")
+    List<ChainElement> fetchOutputDependenciesByChainId(String chainId);
+
+    @Query("SELECT DISTINCT e FROM elements e LEFT JOIN FETCH e.inputDependencies WHERE e.snapshot.id = :snapshotId")
+    List<ChainElement> fetchInputDependenciesBySnapshotId(String snapshotId);
+
+    @Query("SELECT DISTINCT e FROM elements e LEFT JOIN FETCH e.outputDependencies WHERE e.snapshot.id = :snapshotId")
+    List<ChainElement> fetchOutputDependenciesBySnapshotId(String snapshotId);
+
+    @Query("SELECT DISTINCT c FROM container_elements c LEFT JOIN FETCH c.elements WHERE c.chain.id = :chainId")
+    List<ContainerChainElement> fetchChildrenByChainId(String chainId);
+
+    @Query("SELECT DISTINCT c FROM container_elements c LEFT JOIN FETCH c.elements WHERE c.snapshot.id = :snapshotId")
+    List<ContainerChainElement> fetchChildrenBySnapshotId(String snapshotId);
+
     @Query("SELECT e FROM elements e WHERE e.chain.id = :chainId AND e.type IN :types")
     List<ChainElement> findAllByChainIdAndTypeIn(String chainId, @Nullable @NotEmpty Collection<String> types);
 
@@ -36,22 +36,17 @@ public interface FolderRepository extends CommonRepository<Folder>, JpaRepositor
 
     List<Folder> findAllByParentFolderEquals(Folder folder);
 
+    /**
+     * Returns the folder with all its ancestors, starting from the folder itself.
+     */
     @Query(
             nativeQuery = true,
             value = """
-                WITH RECURSIVE folder_hierarchy AS (
-                        SELECT
-                            f1.*
-                        FROM
-                            catalog.folders f1
-                        WHERE f1.id = :folderId
-                        UNION ALL
-                        SELECT
-                            f2.*
-                        FROM catalog.folders f2 INNER JOIN folder_hierarchy fh
-                            ON f2.id = fh.parent_folder_id
-                )
-                SELECT * FROM folder_hierarchy;
+                SELECT f.*
+                FROM catalog.folders t
+                         INNER JOIN catalog.folders f ON f.id = ANY(t.path_ids)
+                WHERE t.id = :folderId
+                ORDER BY array_length(f.path_ids, 1) DESC
             """
     )
     List<Folder> getPath(String folderId);
@@ -59,19 +54,11 @@ WITH RECURSIVE folder_hierarchy AS (
     @Query(
             nativeQuery = true,
             value = """
-                        WITH RECURSIVE folder_hierarchy AS (
-                                SELECT
-                                    f1.*
-                                FROM
-                                    catalog.folders f1
-                                WHERE f1.name = :folderName
-                                UNION ALL
-                                SELECT
-                                    f2.*
-                                FROM catalog.folders f2 INNER JOIN folder_hierarchy fh
-                                    ON f2.id = fh.parent_folder_id
-                        )
-                        SELECT * FROM folder_hierarchy;
+                        SELECT f.*
+                        FROM catalog.folders t
+                                 INNER JOIN catalog.folders f ON f.id = ANY(t.path_ids)
+                        WHERE t.name = :folderName
+                        ORDER BY array_length(f.path_ids, 1) DESC
                     """
     )
     List<Folder> getPathByName(String folderName);
@@ -79,32 +66,19 @@ WITH RECURSIVE folder_hierarchy AS (
     @Query(
             nativeQuery = true,
             value = """
-                    WITH RECURSIVE folder_hierarchy AS (
-                            SELECT
-                                f1.*
-                            FROM
-                                catalog.folders f1
-                            WHERE f1.id in :chainFolderIds
-                            UNION ALL
-                            SELECT
-                                f2.*
-                            FROM catalog.folders f2 INNER JOIN folder_hierarchy fh
-                                ON f2.id = fh.parent_folder_id)
-                    SELECT DISTINCT * FROM folder_hierarchy;"""
+                    SELECT DISTINCT f.*
+                    FROM catalog.folders t
+                             INNER JOIN catalog.folders f ON f.id = ANY(t.path_ids)
+                    WHERE t.id in :chainFolderIds"""
     )
     List<Folder> getFoldersHierarchically(List<String> chainFolderIds);
 
     @Query(
             nativeQuery = true,
             value = """
-                    with recursive nested_folders as (
-                        select f1.* from catalog.folders f1
-                               where f1.parent_folder_id = :folderId
-                        union all
-                        select f2.* from catalog.folders f2
-                               inner join nested_folders nf
-                                       on f2.parent_folder_id = nf.id
-                    ) select distinct * from nested_folders"""
+                    select f.* from catalog.folders f
+                           where f.path_ids @> array[cast(:folderId as text)]
+                             and f.id <> :folderId"""
     )
     List<Folder> findNestedFolders(String folderId);
 
@@ -112,19 +86,16 @@ with recursive nested_folders as (
             nativeQuery = true,
             value = """
                     WITH parent_folders_table AS (
-                        WITH RECURSIVE parent_folders AS (
-                            SELECT f1.*
-                            FROM catalog.folders f1
-                            WHERE f1.id = :folderId OR f1.parent_folder_id = :folderId
-
-                            UNION ALL
-
-                            SELECT f2.*
-                            FROM catalog.folders f2
-                                     INNER JOIN parent_folders pf ON f2.id = pf.parent_folder_id
-                        )
-                        SELECT DISTINCT *
-                        FROM parent_folders
+                        SELECT f.id, f.parent_folder_id
+                        FROM catalog.folders t
+                                 INNER JOIN catalog.folders f ON f.id = ANY(t.path_ids)
+                        WHERE t.id = :folderId
+
+                        UNION
+
+                        SELECT f.id, f.parent_folder_id
+                        FROM catalog.folders f
+                        WHERE f.parent_folder_id = :folderId
                     )
 
                     SELECT *
@@ -142,17 +113,9 @@ OR result.parent_folder_id IN (
     @Query(
             nativeQuery = true,
             value = """
-                with recursive nested_folders as (
-                    select f1.* from catalog.folders f1
-                           where f1.id in :folderIds
-                    union all
-                    select f2.* from catalog.folders f2
-                           inner join nested_folders nf
-                                   on f2.parent_folder_id = nf.id
-                )
                 delete
                 from catalog.folders f
-                where f.id in (select id from nested_folders)
+                where f.path_ids && cast(array[:folderIds] as text[])
                 returning f.id
             """
     )
@@ -16,12 +16,17 @@
 
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system;
 
+import jakarta.persistence.LockModeType;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
 import org.qubership.integration.platform.runtime.catalog.model.system.SystemModelSource;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.CompiledLibrary;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SystemModelRepository extends JpaRepository<SystemModel, String> {
     List<SystemModel> findSystemModelsBySpecificationGroupSystemId(String systemId);
@@ -42,6 +47,31 @@ public interface SystemModelRepository extends JpaRepository<SystemModel, String
             + "where lib.data is not null")
     List<Object[]> findAllWithCompiledLibraries();
 
+    @Query("select model.id "
+            + "from SystemModel model "
+            + "inner join model.compiledLibrary lib "
+            + "where lib.status = :status")
+    List<String> findIdsByCompiledLibraryStatus(CompiledLibraryStatus status);
+
+    @Query("select lib.name, lib.dataHash "
+            + "from SystemModel model "
+            + "inner join model.compiledLibrary lib "
+            + "where model.id = :modelId and lib.data is not null")
+    List<Object[]> findCompiledLibraryNameAndHash(String modelId);
+
+    @Query("select lib.data "
+            + "from SystemModel model "
+            + "inner join model.compiledLibrary lib "
+            + "where model.id = :modelId")
+    Optional<byte[]> findCompiledLibraryData(String modelId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select lib "
+            + "from SystemModel model "
+            + "inner join model.compiledLibrary lib "
+            + "where model.id = :modelId")
+    Optional<CompiledLibrary> findCompiledLibraryWithLockingByModelId(String modelId);
+
     @Query(nativeQuery = true, value = "SELECT model.version from catalog.models model where model.id=:id")
     String findVersionById(String id);
 }
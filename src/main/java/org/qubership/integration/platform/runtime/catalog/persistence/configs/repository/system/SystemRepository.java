@@ -16,13 +16,16 @@
 
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system;
 
+import jakarta.persistence.LockModeType;
 import org.qubership.integration.platform.runtime.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SystemRepository extends JpaRepository<IntegrationSystem, String>, JpaSpecificationExecutor<IntegrationSystem> {
 
@@ -30,6 +33,10 @@ public interface SystemRepository extends JpaRepository<IntegrationSystem, Strin
 
     List<IntegrationSystem> findAllByInternalServiceNameNotNull();
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM IntegrationSystem s WHERE s.id = :id")
+    Optional<IntegrationSystem> findWithLockingById(String id);
+
     /**
      * Find all systems with at least one not deprecated model
      *
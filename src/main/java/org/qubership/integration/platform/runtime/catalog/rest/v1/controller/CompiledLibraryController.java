@@ -20,15 +20,18 @@
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
-import org.qubership.integration.platform.runtime.catalog.service.SystemModelService;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryDescriptor;
+import org.qubership.integration.platform.runtime.catalog.service.CompiledLibraryService;
 import org.qubership.integration.platform.runtime.catalog.util.ExportImportUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.util.Pair;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import static java.util.Objects.isNull;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -37,20 +40,40 @@
 @Tag(name = "compiled-library-controller", description = "Compiled Library Controller")
 public class CompiledLibraryController {
 
-    private final SystemModelService systemModelService;
+    private final CompiledLibraryService compiledLibraryService;
 
     @Autowired
-    public CompiledLibraryController(SystemModelService systemModelService) {
-        this.systemModelService = systemModelService;
+    public CompiledLibraryController(CompiledLibraryService compiledLibraryService) {
+        this.compiledLibraryService = compiledLibraryService;
     }
 
     @GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    @Operation(description = "Get compiled jar file for the specification")
-    public ResponseEntity<Object> getSystemModelJar(@PathVariable @Parameter(description = "Specification id") String modelId) {
+    @Operation(description = "Get compiled jar file for the specification. "
+            + "Responds with 304 when the If-None-Match header matches the library content hash")
+    public ResponseEntity<Object> getSystemModelJar(
+            @PathVariable @Parameter(description = "Specification id") String modelId,
+            WebRequest webRequest
+    ) {
         log.debug("Request to get jar file for model with id {}", modelId);
-        Pair<byte[], String> pair = systemModelService.getCompiledLibrary(modelId);
-        return isNull(pair)
-                ? ResponseEntity.noContent().build()
-                : ExportImportUtils.convertFileToResponse(pair.getFirst(), pair.getSecond());
+        Optional<CompiledLibraryDescriptor> descriptor = compiledLibraryService.findCompiledLibraryDescriptor(modelId);
+        if (descriptor.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        String eTag = "\"" + descriptor.get().dataHash() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // The library may have been rebuilt since the descriptor was read, the ETag must match the returned content
+        return compiledLibraryService.getCompiledLibraryContent(modelId, descriptor.get().dataHash())
+                .map(content -> {
+                    ResponseEntity<Object> response = ExportImportUtils.convertFileToResponse(
+                            content.data(), descriptor.get().name());
+                    return ResponseEntity.ok()
+                            .headers(response.getHeaders())
+                            .eTag("\"" + content.dataHash() + "\"")
+                            .cacheControl(CacheControl.noCache())
+                            .body(response.getBody());
+                })
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 }
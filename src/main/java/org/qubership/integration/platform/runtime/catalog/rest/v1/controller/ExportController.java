@@ -35,6 +35,7 @@
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -80,6 +81,17 @@ public ResponseEntity<Object> exportAllChains() {
         return asResponse(zip);
     }
 
+    @GetMapping("/stream")
+    @Operation(description = "Export chains in a single zip archive, written to the response while chains are being loaded")
+    public ResponseEntity<StreamingResponseBody> exportChainsStream(@RequestParam(required = false) @Parameter(description = "List of chain ids, separated by comma. All chains are exported if not specified") List<String> chainIds,
+                                                                    @RequestParam(required = false) @Parameter(description = "Whether resulting archive should contain sub-chains called from specified chains") boolean exportWithSubChains) {
+        log.info("Request to export chains as stream with IDs: {}", chainIds == null ? "all" : chainIds);
+        StreamingResponseBody body = outputStream -> exportService.exportChainsToStream(chainIds, exportWithSubChains, outputStream);
+        return ResponseEntity.ok()
+                .headers(attachmentHeaders(exportService.generateExportZipName()))
+                .body(body);
+    }
+
     @GetMapping("/api-spec")
     @Operation(description = "Generate API specification")
     public ResponseEntity<Object> exportSpecification(
@@ -99,13 +111,17 @@ public ResponseEntity<Object> exportSpecification(
     }
 
     private ResponseEntity<Object> asResponse(Pair<String, byte[]> zip) {
-        HttpHeaders header = new HttpHeaders();
-        header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zip.getFirst() + "\"");
-        header.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
         ByteArrayResource resource = new ByteArrayResource(zip.getSecond());
         return ResponseEntity.ok()
-                .headers(header)
+                .headers(attachmentHeaders(zip.getFirst()))
                 .contentLength(resource.contentLength())
                 .body(resource);
     }
+
+    private HttpHeaders attachmentHeaders(String fileName) {
+        HttpHeaders header = new HttpHeaders();
+        header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        header.add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
+        return header;
+    }
 }
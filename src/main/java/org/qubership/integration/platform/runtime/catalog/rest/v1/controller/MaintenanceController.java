@@ -24,7 +24,7 @@
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
-import org.qubership.integration.platform.runtime.catalog.service.SnapshotService;
+import org.qubership.integration.platform.runtime.catalog.service.SnapshotCleanupService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -38,10 +38,10 @@
 @Tag(name = "maintenance-controller", description = "Maintenance Controller")
 public class MaintenanceController {
 
-    private final SnapshotService snapshotService;
+    private final SnapshotCleanupService snapshotCleanupService;
 
-    public MaintenanceController(SnapshotService snapshotService) {
-        this.snapshotService = snapshotService;
+    public MaintenanceController(SnapshotCleanupService snapshotCleanupService) {
+        this.snapshotCleanupService = snapshotCleanupService;
     }
 
     @Operation(extensions = @Extension(properties = {@ExtensionProperty(name = "x-api-kind", value = "bwc")}),
@@ -50,7 +50,7 @@ public MaintenanceController(SnapshotService snapshotService) {
     public ResponseEntity<Void> pruneSnapshots(@RequestParam @Valid @Min(0) @Parameter(description = "Snapshots older than that amount of days will be deleted") int olderThanDays,
                                                @RequestParam(defaultValue = "1000") @Valid @Min(1) @Parameter(description = "How much entries will be deleted at the same time") int chunk) {
         log.info("Request to clear snapshots older than {} day(s) by {} snapshots", olderThanDays, chunk);
-        snapshotService.pruneSnapshotsAsync(olderThanDays, chunk);
+        snapshotCleanupService.pruneSnapshotsAsync(olderThanDays, chunk);
         return ResponseEntity.accepted().build();
     }
 }
@@ -58,7 +58,6 @@ public ResponseEntity<List<SnapshotResponse>> findByChainIdLight(@PathVariable @
         }
         var entities = snapshotService.findByChainIdLight(chainId);
         var responseList = snapshotMapper.asResponse(entities);
-        responseList.forEach(snapshotDto -> snapshotDto.setXmlDefinition(null));
         return ResponseEntity.ok(responseList);
     }
 
@@ -74,8 +73,8 @@ public ResponseEntity<SnapshotResponse> findById(
         }
         var entity = snapshotService.findById(snapshotId);
         var response = snapshotMapper.asResponse(entity);
-        if (light) {
-            response.setXmlDefinition(null);
+        if (!light) {
+            response.setXmlDefinition(snapshotService.getXmlDefinition(snapshotId));
         }
         return ResponseEntity.ok(response);
     }
@@ -86,7 +85,6 @@ public ResponseEntity<SnapshotResponse> build(@PathVariable @Parameter(descripti
         log.info("Request to build snapshot for chain with id: {}", chainId);
         var entity = snapshotService.build(chainId);
         var response = snapshotMapper.asResponse(entity);
-        response.setXmlDefinition(null);
         return ResponseEntity.ok(response);
     }
 
@@ -109,7 +107,6 @@ public ResponseEntity<SnapshotResponse> revert(
         log.info("Request to revert chain with id: {}, to snapshot id: {}", chainId, snapshotId);
         var entity = snapshotService.revert(chainId, snapshotId);
         var response = snapshotMapper.asResponse(entity);
-        response.setXmlDefinition(null);
         return ResponseEntity.ok(response);
     }
 
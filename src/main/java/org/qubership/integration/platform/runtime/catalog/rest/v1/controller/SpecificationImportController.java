@@ -29,6 +29,9 @@
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @CrossOrigin(origins = "*")
@@ -57,15 +60,21 @@ public ResponseEntity<ImportSpecificationDTO> importSpecification(@RequestParam
 
     @GetMapping(value = "/{importId}", produces = "application/json")
     @Operation(description = "Get specification import result")
-    public ResponseEntity<ImportSpecificationDTO> getImport(@PathVariable @Parameter(description = "Import id") String importId) {
-        ImportSpecificationDTO responseDTO = new ImportSpecificationDTO();
-        responseDTO.setId(importId);
-        try {
-            responseDTO.setDone(specificationImportService.importSessionIsDone(importId));
-        } catch (SpecificationImportWarningException e) {
-            responseDTO.setDone(true);
-            responseDTO.setWarningMessage(e.getMessage());
-        }
-        return ResponseEntity.ok(responseDTO);
+    public CompletableFuture<ResponseEntity<ImportSpecificationDTO>> getImport(
+            @PathVariable @Parameter(description = "Import id") String importId,
+            @RequestParam(name = "wait", required = false, defaultValue = "0") @Parameter(description = "Seconds to wait for the import to finish before responding") long waitSeconds
+    ) {
+        return specificationImportService.awaitImportSessionChange(importId, Duration.ofSeconds(waitSeconds))
+                .thenApply(ignored -> {
+                    ImportSpecificationDTO responseDTO = new ImportSpecificationDTO();
+                    responseDTO.setId(importId);
+                    try {
+                        responseDTO.setDone(specificationImportService.importSessionIsDone(importId));
+                    } catch (SpecificationImportWarningException e) {
+                        responseDTO.setDone(true);
+                        responseDTO.setWarningMessage(e.getMessage());
+                    }
+                    return ResponseEntity.ok(responseDTO);
+                });
     }
 }
@@ -19,6 +19,7 @@
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
 
 import java.util.List;
 
@@ -28,4 +29,8 @@
 public class SystemModelDTO extends SystemModelBaseDTO {
     @Schema(description = "Operations list")
     private List<OperationBaseDTO> operations;
+    @Schema(description = "Build status of the specification library")
+    private CompiledLibraryStatus libraryStatus;
+    @Schema(description = "Library build error, set when the build has failed")
+    private String libraryErrorMessage;
 }
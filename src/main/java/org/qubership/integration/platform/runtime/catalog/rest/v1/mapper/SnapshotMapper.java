@@ -17,6 +17,7 @@
 package org.qubership.integration.platform.runtime.catalog.rest.v1.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.UserMapper;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotLabel;
@@ -35,10 +36,12 @@
 )
 public interface SnapshotMapper {
 
+    @Mapping(target = "xmlDefinition", ignore = true)
     SnapshotResponse asResponse(Snapshot snapshot);
 
     List<SnapshotResponse> asResponse(List<Snapshot> snapshots);
 
+    @Mapping(target = "contentHash", ignore = true)
     Snapshot asRequest(SnapshotRequest snapshot);
 
     SnapshotLabel asLabelRequest(SnapshotLabelDTO snapshotLabel);
@@ -39,6 +39,8 @@ public interface SystemModelMapper {
     @Mapping(target = "specificationGroupId", source = "systemModel.specificationGroup.id")
     @Mapping(target = "deprecated", source = "systemModel.deprecated")
     @Mapping(target = "systemId", source = "systemModel.specificationGroup.system.id")
+    @Mapping(target = "libraryStatus", source = "systemModel.compiledLibrary.status")
+    @Mapping(target = "libraryErrorMessage", source = "systemModel.compiledLibrary.errorMessage")
     SystemModelDTO toSystemModelDTO(SystemModel systemModel);
 
     List<SystemModelDTO> toSystemModelDTOs(List<SystemModel> systemModels);
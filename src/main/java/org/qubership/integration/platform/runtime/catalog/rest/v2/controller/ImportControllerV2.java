@@ -32,6 +32,7 @@
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.ImportService;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.ImportSessionService;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.ImportV2RedirectPathResolver;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJob;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
@@ -42,7 +43,9 @@
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @deprecated 23.4 use {@link ImportControllerV3} instead
@@ -119,19 +122,32 @@ public ResponseEntity<List<ImportChainResult>> getImportAsyncResult(@PathVariabl
 
     @GetMapping(value = {STATUS_PATH + "/{importId}", "/preview/{importId}/status"}, produces = "application/json")
     @Operation(description = "Get import status (progress)")
-    public ResponseEntity<ImportAsyncStatus> getImportAsyncStatus(@PathVariable @Parameter(description = "Import id") String importId,
-                                                                  @RequestHeader Map<String, String> headers) {
-        ImportSession importSession = importProgressService.getImportSession(importId);
-        if (importSession == null) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity<ImportAsyncStatus>> getImportAsyncStatus(@PathVariable @Parameter(description = "Import id") String importId,
+                                                                                     @RequestParam(name = "wait", required = false, defaultValue = "0") @Parameter(description = "Seconds to wait for a progress change before responding") long waitSeconds,
+                                                                                     @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the last received status") String knownEtag,
+                                                                                     @RequestHeader Map<String, String> headers) {
+        return importProgressService.awaitImportSession(importId, AsyncJob.parseEtag(knownEtag), Duration.ofSeconds(waitSeconds))
+                .thenApply(importJob -> importJob
+                        .map(job -> toImportAsyncStatusResponse(job, headers))
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    private ResponseEntity<ImportAsyncStatus> toImportAsyncStatusResponse(AsyncJob<ImportSession> importJob, Map<String, String> headers) {
+        ImportSession importSession = importJob.state();
         ImportAsyncStatus importStatus = importChainAsyncMapper.asImportStatus(importSession);
+        ResponseEntity.BodyBuilder response;
         if (importSession.isDone()) {
-            URI href = getHrefResultLocation(importId, headers);
+            URI href = getHrefResultLocation(importJob.id(), headers);
             importStatus.setHref(href.toString());
-            return ResponseEntity.status(HttpStatus.SEE_OTHER).location(href).body(importStatus);
+            response = ResponseEntity.status(HttpStatus.SEE_OTHER).location(href);
+        } else {
+            response = ResponseEntity.status(HttpStatus.OK).header(HttpHeaders.RETRY_AFTER, "60");
+        }
+        // Sessions of other replicas are read from the database and have no entity tag
+        if (importJob.etag() != null) {
+            response.eTag(importJob.etag());
         }
-        return ResponseEntity.status(HttpStatus.OK).header(HttpHeaders.RETRY_AFTER, "60").body(importStatus);
+        return response.body(importStatus);
     }
 
     private URI getHrefResultLocation(String importId, Map<String, String> headers) {
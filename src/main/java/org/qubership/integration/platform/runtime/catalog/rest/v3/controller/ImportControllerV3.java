@@ -43,7 +43,9 @@
 import org.qubership.integration.platform.runtime.catalog.service.difference.ChainDifferenceRequest;
 import org.qubership.integration.platform.runtime.catalog.service.difference.EntityDifferenceResult;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.GeneralImportService;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJob;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -51,9 +53,11 @@
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -127,13 +131,19 @@ public ResponseEntity<ImportCommitResponse> importFile(
     @Operation(extensions = @Extension(properties = {@ExtensionProperty(name = "x-api-kind", value = "bwc")}),
             description = "Get import status")
     @GetMapping(value = "/{importId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ImportSessionResponse> getImportStatus(@PathVariable @Parameter(description = "Import id") String importId) {
-        ImportSession importSession = importService.getImportSession(importId);
-
-        if (importSession == null) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity<ImportSessionResponse>> getImportStatus(
+            @PathVariable @Parameter(description = "Import id") String importId,
+            @RequestParam(name = "wait", required = false, defaultValue = "0") @Parameter(description = "Seconds to wait for a progress change before responding") long waitSeconds,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) @Parameter(description = "ETag of the last received status") String knownEtag
+    ) {
+        return importService.awaitImportSession(importId, AsyncJob.parseEtag(knownEtag), Duration.ofSeconds(waitSeconds))
+                .thenApply(importJob -> importJob
+                        .map(this::toImportStatusResponse)
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
 
+    private ResponseEntity<ImportSessionResponse> toImportStatusResponse(AsyncJob<ImportSession> importJob) {
+        ImportSession importSession = importJob.state();
         ImportSessionResponse importSessionResponse = importSessionMapper.toImportSessionResponse(importSession);
         HttpStatus responseStatus = HttpStatus.OK;
         if (importSessionResponse.getResult() != null) {
@@ -150,7 +160,12 @@ public ResponseEntity<ImportSessionResponse> getImportStatus(@PathVariable @Para
             }
         }
 
-        return ResponseEntity.status(responseStatus).body(importSessionResponse);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(responseStatus);
+        // Sessions of other replicas are read from the database and have no entity tag
+        if (importJob.etag() != null) {
+            response.eTag(importJob.etag());
+        }
+        return response.body(importSessionResponse);
     }
 
     @Operation(description = "Find differences between the chain stored in the QIP database and the imported one",
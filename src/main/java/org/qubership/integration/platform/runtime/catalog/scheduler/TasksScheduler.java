@@ -43,7 +43,7 @@ public class TasksScheduler {
     private final RuntimeDeploymentService runtimeDeploymentService;
     private final ActionsLogService actionsLogService;
     private final ChainRuntimePropertiesService chainRuntimePropertiesService;
-    private final SnapshotService snapshotService;
+    private final SnapshotCleanupService snapshotCleanupService;
 
     @Value("${qip.actions-log.cleanup.interval}")
     private String actionLogInterval;
@@ -58,17 +58,17 @@ public TasksScheduler(ConsulService consulService,
                           RuntimeDeploymentService runtimeDeploymentService,
                           ActionsLogService actionsLogService,
                           ChainRuntimePropertiesService chainRuntimePropertiesService,
-                          SnapshotService snapshotService) {
+                          SnapshotCleanupService snapshotCleanupService) {
         this.consulService = consulService;
         this.runtimeDeploymentService = runtimeDeploymentService;
         this.actionsLogService = actionsLogService;
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
-        this.snapshotService = snapshotService;
+        this.snapshotCleanupService = snapshotCleanupService;
     }
 
     @Scheduled(cron = "${qip.snapshots.cleanup.cron}")
     public void snapshotCleanup() {
-        snapshotService.pruneSnapshotsAsync(snapshotCleanupInterval, SNAPSHOT_CLEANUP_CHUNK);
+        snapshotCleanupService.pruneSnapshotsAsync(snapshotCleanupInterval, SNAPSHOT_CLEANUP_CHUNK);
 
         log.info("Remove old snapshots");
     }
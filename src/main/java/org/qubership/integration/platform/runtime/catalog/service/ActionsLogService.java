@@ -91,6 +91,30 @@ public boolean logAction(ActionLog action) {
         return false;
     }
 
+    /**
+     * Queues several actions at once, they are written to the database in a single batch.
+     */
+    public boolean logActions(Collection<ActionLog> actions) {
+        if (actions.isEmpty()) {
+            return true;
+        }
+        try {
+            for (ActionLog action : actions) {
+                injectCurrentUser(action);
+                injectRequestId(action);
+                consoleLogAction(action);
+            }
+            if (!queue.addAll(actions)) {
+                log.error("Queue of actions is full, elements are not added, {}", actions);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to save action logs to database: {}", actions, e);
+        }
+        return false;
+    }
+
     private void injectRequestId(ActionLog action) {
         action.setRequestId(RequestIdContext.get());
     }
@@ -123,15 +123,16 @@ public Boolean exists(String chainId) {
         return chainRepository.existsById(chainId);
     }
 
-    public List<String> getSubChainsIds(List<String> chainsIds, List<String> resultChainsIds) {
-        resultChainsIds.addAll(chainsIds);
-        List<String> subChainsIds = chainRepository.findSubChains(chainsIds);
-        subChainsIds.removeAll(resultChainsIds);
-        if (!subChainsIds.isEmpty()) {
-            getSubChainsIds(subChainsIds, resultChainsIds);
+    /**
+     * Returns the given chain ids followed by ids of all chains they call, directly or transitively.
+     */
+    public List<String> getSubChainsIds(List<String> chainsIds) {
+        if (chainsIds.isEmpty()) {
+            return new ArrayList<>();
         }
-
-        return resultChainsIds;
+        Set<String> resultChainsIds = new LinkedHashSet<>(chainsIds);
+        resultChainsIds.addAll(chainRepository.findChainsWithSubChains(chainsIds));
+        return new ArrayList<>(resultChainsIds);
     }
 
     public boolean setOverriddenById(String chainId, String overriddenById) {
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.SystemModelLibraryGenerationException;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
+import org.qubership.integration.platform.runtime.catalog.model.system.OperationProtocol;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.*;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.codegen.SystemModelCodeGenerator;
+import org.qubership.integration.platform.runtime.catalog.service.codegen.TargetProtocol;
+import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilationError;
+import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilerService;
+import org.qubership.integration.platform.runtime.catalog.service.compiler.JarBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.jar.Manifest;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Builds system model libraries in the background. Sources are generated in a short transaction,
+ * compilation runs outside of any transaction, and the result is stored with {@link CompiledLibraryStatus#READY}
+ * or {@link CompiledLibraryStatus#FAILED} status, unless the model was saved again in the meantime.
+ * <p>
+ * Repeated requests for a model queued for a build are coalesced, a request for a model being built
+ * makes it build once more after the current build.
+ */
+@Slf4j
+@Component
+public class CompiledLibraryBuildQueue {
+    private static final String LIBRARY_BUILD_TIMER_NAME = "qip.system-model.library.build";
+
+    private final SystemModelRepository systemModelRepository;
+    private final List<SystemModelCodeGenerator> codeGenerators;
+    private final CompilerService compilerService;
+    private final TransactionHandler transactionHandler;
+    private final Executor buildExecutor;
+    private final Timer codegenTimer;
+    private final Timer compileTimer;
+    private final Timer jarTimer;
+    private final Timer latencyTimer;
+
+    // Models queued or being built
+    private final Map<String, BuildState> builds = new HashMap<>();
+
+    private static class BuildState {
+        private long requestedAt;
+        private boolean running;
+        private boolean rebuildRequested;
+
+        BuildState(long requestedAt) {
+            this.requestedAt = requestedAt;
+        }
+    }
+
+    @Autowired
+    public CompiledLibraryBuildQueue(
+            SystemModelRepository systemModelRepository,
+            List<SystemModelCodeGenerator> codeGenerators,
+            CompilerService compilerService,
+            TransactionHandler transactionHandler,
+            @Qualifier("compiledLibraryBuildExecutor") Executor buildExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.systemModelRepository = systemModelRepository;
+        this.codeGenerators = codeGenerators;
+        this.compilerService = compilerService;
+        this.transactionHandler = transactionHandler;
+        this.buildExecutor = buildExecutor;
+        this.codegenTimer = buildLibraryBuildTimer(meterRegistry, "codegen");
+        this.compileTimer = buildLibraryBuildTimer(meterRegistry, "javac");
+        this.jarTimer = buildLibraryBuildTimer(meterRegistry, "jar");
+        this.latencyTimer = Timer.builder(LIBRARY_BUILD_TIMER_NAME + ".latency")
+                .description("Time from a library build request until the library is stored")
+                .register(meterRegistry);
+        Gauge.builder(LIBRARY_BUILD_TIMER_NAME + ".queue", this, CompiledLibraryBuildQueue::getQueueSize)
+                .description("Number of system model libraries queued or being built")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Libraries left pending by a previous run of the service are built again
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        List<String> modelIds = systemModelRepository.findIdsByCompiledLibraryStatus(CompiledLibraryStatus.PENDING);
+        if (!modelIds.isEmpty()) {
+            log.info("Resuming build of {} pending system model libraries", modelIds.size());
+            modelIds.forEach(this::enqueue);
+        }
+    }
+
+    /**
+     * Requests a build of the model library. Inside a transaction the build is queued after the commit,
+     * so the build sees the saved model.
+     */
+    public void submit(String modelId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(modelId);
+                }
+            });
+        } else {
+            enqueue(modelId);
+        }
+    }
+
+    public int getQueueSize() {
+        synchronized (builds) {
+            return builds.size();
+        }
+    }
+
+    private void enqueue(String modelId) {
+        synchronized (builds) {
+            BuildState state = builds.get(modelId);
+            if (state == null) {
+                builds.put(modelId, new BuildState(System.nanoTime()));
+                execute(modelId);
+            } else if (state.running && !state.rebuildRequested) {
+                state.rebuildRequested = true;
+                state.requestedAt = System.nanoTime();
+            }
+        }
+    }
+
+    // Must be called holding the builds lock. A rejected build leaves the library pending,
+    // it is built on the next request or the next start of the service.
+    private void execute(String modelId) {
+        try {
+            buildExecutor.execute(() -> build(modelId));
+        } catch (RejectedExecutionException e) {
+            builds.remove(modelId);
+            log.warn("Build of library for system model {} was rejected: {}", modelId, e.getMessage());
+        }
+    }
+
+    private boolean isRebuildRequested(String modelId) {
+        synchronized (builds) {
+            BuildState state = builds.get(modelId);
+            return state != null && state.rebuildRequested;
+        }
+    }
+
+    private void build(String modelId) {
+        long requestedAt;
+        synchronized (builds) {
+            BuildState state = builds.get(modelId);
+            state.running = true;
+            state.rebuildRequested = false;
+            requestedAt = state.requestedAt;
+        }
+
+        try {
+            buildLibrary(modelId);
+            latencyTimer.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.error("Failed to build library for system model {}", modelId, e);
+        } finally {
+            synchronized (builds) {
+                BuildState state = builds.get(modelId);
+                if (state.rebuildRequested) {
+                    state.running = false;
+                    execute(modelId);
+                } else {
+                    builds.remove(modelId);
+                }
+            }
+        }
+    }
+
+    private void buildLibrary(String modelId) {
+        // Library revision the sources are generated for
+        AtomicLong revision = new AtomicLong();
+        byte[] data;
+        try {
+            Optional<GeneratedSources> sources = transactionHandler.supplyInNewTransaction(() ->
+                    systemModelRepository.findById(modelId).map(model -> {
+                        revision.set(Optional.ofNullable(model.getCompiledLibrary())
+                                .map(CompiledLibrary::getRevision)
+                                .orElse(0L));
+                        return generateSources(model);
+                    }));
+            if (sources.isEmpty()) {
+                log.debug("System model {} was removed before its library was built", modelId);
+                return;
+            }
+            data = buildJar(modelId, sources.get());
+        } catch (Exception exception) {
+            log.warn("Library build failed for system model {}: {}", modelId, exception.getMessage());
+            updateLibrary(modelId, revision.get(), library -> {
+                library.setStatus(CompiledLibraryStatus.FAILED);
+                library.setErrorMessage(buildErrorMessage(exception));
+            });
+            return;
+        }
+
+        if (updateLibrary(modelId, revision.get(), library -> {
+            library.setData(data);
+            library.setStatus(CompiledLibraryStatus.READY);
+            library.setErrorMessage(null);
+        })) {
+            log.debug("Library built for system model {}", modelId);
+        }
+    }
+
+    /**
+     * Stores the build result unless the build is superseded: the model was saved again since its sources were
+     * generated, here or on another instance of the service, or a rebuild is already requested.
+     * The library row is locked, so results of concurrent builds are checked and stored one at a time.
+     *
+     * @return whether the result is stored
+     */
+    private boolean updateLibrary(String modelId, long revision, Consumer<CompiledLibrary> update) {
+        if (isRebuildRequested(modelId)) {
+            log.debug("Library build for system model {} is superseded by a rebuild request", modelId);
+            return false;
+        }
+        return transactionHandler.supplyInNewTransaction(() ->
+                systemModelRepository.findCompiledLibraryWithLockingByModelId(modelId)
+                        .filter(library -> {
+                            if (library.getRevision() != revision) {
+                                log.debug("Library build for system model {} is superseded by revision {}",
+                                        modelId, library.getRevision());
+                                return false;
+                            }
+                            return true;
+                        })
+                        .map(library -> {
+                            update.accept(library);
+                            return true;
+                        })
+                        .orElse(false));
+    }
+
+    private static String buildErrorMessage(Exception exception) {
+        Throwable cause = exception.getCause();
+        return isNull(cause) || isNull(cause.getMessage())
+                ? exception.getMessage()
+                : exception.getMessage() + " " + cause.getMessage();
+    }
+
+    /**
+     * Generated code and manifest of a library, or no library when there is no code generator for the protocol
+     */
+    private record GeneratedSources(Map<String, String> code, Manifest manifest) {
+    }
+
+    private GeneratedSources generateSources(SystemModel model) {
+        SystemModelCodeGenerator codeGenerator = getCodeGenerator(model);
+        if (isNull(codeGenerator)) {
+            return new GeneratedSources(null, null);
+        }
+        try {
+            log.debug("Generating library source code for system model with id {}", model.getId());
+            Timer.Sample sample = Timer.start();
+            Map<String, String> code = codeGenerator.generateCode(model);
+            if (code.isEmpty()) {
+                log.debug("System model has no DTO classes: {}", model.getId());
+            }
+            Manifest manifest = codeGenerator.generateManifest(model);
+            sample.stop(codegenTimer);
+            return new GeneratedSources(code, manifest);
+        } catch (Exception exception) {
+            throw new SystemModelLibraryGenerationException("Failed to generate source code.", exception);
+        }
+    }
+
+    private byte[] buildJar(String modelId, GeneratedSources sources) {
+        if (isNull(sources.code())) {
+            return null;
+        }
+        try {
+            log.debug("Compiling library for system model with id {}", modelId);
+            Timer.Sample sample = Timer.start();
+            Map<String, byte[]> compiledCode = sources.code().isEmpty()
+                    ? Collections.emptyMap()
+                    : compilerService.compile(sources.code());
+            sample.stop(compileTimer);
+
+            sample = Timer.start();
+            JarBuilder jarBuilder = new JarBuilder();
+            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                jarBuilder.writeJar(outputStream, compiledCode, sources.manifest());
+                outputStream.close();
+                return outputStream.toByteArray();
+            } catch (IOException exception) {
+                throw new SystemModelLibraryGenerationException("Failed to build jar.", exception);
+            } finally {
+                sample.stop(jarTimer);
+            }
+        } catch (CompilationError exception) {
+            throw new SystemModelLibraryGenerationException("Failed to compile code.", exception);
+        }
+    }
+
+    private SystemModelCodeGenerator getCodeGenerator(SystemModel model) {
+        OperationProtocol protocol = Optional.ofNullable(model)
+                .map(SystemModel::getSpecificationGroup)
+                .map(SpecificationGroup::getSystem)
+                .map(IntegrationSystem::getProtocol)
+                .orElse(null);
+        if (isNull(protocol)) {
+            return null;
+        }
+        return codeGenerators.stream().filter(generator ->
+                Optional.ofNullable(generator.getClass().getAnnotation(TargetProtocol.class))
+                        .map(TargetProtocol::protocol).map(protocol::equals).orElse(false)
+        ).findFirst().orElse(null);
+    }
+
+    private static Timer buildLibraryBuildTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder(LIBRARY_BUILD_TIMER_NAME)
+                .description("Time spent building system model libraries, by build phase")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
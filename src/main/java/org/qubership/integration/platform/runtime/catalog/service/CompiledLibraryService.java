@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryContent;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryDescriptor;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.qubership.integration.platform.runtime.catalog.service.SystemModelBaseService.SYSTEM_MODEL_WITH_ID_NOT_FOUND_MESSAGE;
+
+/**
+ * Serves compiled library downloads. Library metadata is read without the library content,
+ * and the content is kept in a size-bounded cache keyed by its hash,
+ * so repeated downloads of an unchanged library don't hit the database.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class CompiledLibraryService {
+    private final SystemModelRepository systemModelRepository;
+    private final Cache<String, byte[]> libraryDataCache;
+
+    @Autowired
+    public CompiledLibraryService(
+            SystemModelRepository systemModelRepository,
+            @Value("${qip.compiled-libraries.cache.max-size-bytes:134217728}") long cacheMaxSizeBytes
+    ) {
+        this.systemModelRepository = systemModelRepository;
+        this.libraryDataCache = CacheBuilder.newBuilder()
+                .maximumWeight(cacheMaxSizeBytes)
+                .<String, byte[]>weigher((hash, data) -> data.length)
+                .build();
+    }
+
+    public Optional<CompiledLibraryDescriptor> findCompiledLibraryDescriptor(String modelId) {
+        List<Object[]> rows = systemModelRepository.findCompiledLibraryNameAndHash(modelId);
+        if (rows.isEmpty() && !systemModelRepository.existsById(modelId)) {
+            throw new EntityNotFoundException(SYSTEM_MODEL_WITH_ID_NOT_FOUND_MESSAGE + modelId);
+        }
+        return rows.stream()
+                .findFirst()
+                .map(row -> {
+                    String name = (String) row[0];
+                    String dataHash = (String) row[1];
+                    if (dataHash == null) {
+                        // Library stored before content hashes were introduced
+                        dataHash = getCompiledLibraryContent(modelId, null)
+                                .map(CompiledLibraryContent::dataHash)
+                                .orElse(null);
+                    }
+                    return dataHash == null ? null : new CompiledLibraryDescriptor(name, dataHash);
+                });
+    }
+
+    /**
+     * Returns the library content, from the cache when the content with the given hash was read before.
+     * The returned hash is the hash of the returned content, which differs from the given one
+     * if the library was rebuilt since the hash was read.
+     */
+    public Optional<CompiledLibraryContent> getCompiledLibraryContent(String modelId, String dataHash) {
+        byte[] data = dataHash == null ? null : libraryDataCache.getIfPresent(dataHash);
+        if (data != null) {
+            return Optional.of(new CompiledLibraryContent(dataHash, data));
+        }
+        return systemModelRepository.findCompiledLibraryData(modelId).map(bytes -> {
+            String hash = DigestUtils.sha256Hex(bytes);
+            libraryDataCache.put(hash, bytes);
+            return new CompiledLibraryContent(hash, bytes);
+        });
+    }
+}
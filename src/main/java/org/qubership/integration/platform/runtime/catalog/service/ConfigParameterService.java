@@ -21,6 +21,7 @@
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -62,6 +63,10 @@ public void deleteAllByNamespace(String namespace) {
         configParameterRepository.deleteAllByNamespace(namespace);
     }
 
+    public void deleteAllByNamespaceModifiedBefore(String namespace, Timestamp timestamp) {
+        configParameterRepository.deleteAllByNamespaceModifiedBefore(namespace, timestamp);
+    }
+
     public List<ConfigParameter> update(List<ConfigParameter> params) {
         return params.stream().map(this::update).collect(Collectors.toList());
     }
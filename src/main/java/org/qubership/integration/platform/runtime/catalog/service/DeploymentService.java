@@ -29,6 +29,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.MultiConsumer;
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames;
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.DeployedTriggerType;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.RouteType;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.EngineDeploymentsDTO;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.update.DeploymentInfo;
@@ -41,22 +42,26 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeployedRoute;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeploymentRoute;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Environment;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.DeployedRouteRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.DeploymentRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentResponse;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentStatus;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.event.GenericMessageType;
+import org.qubership.integration.platform.runtime.catalog.service.deployment.DeployedRoutesIndex;
 import org.qubership.integration.platform.runtime.catalog.service.deployment.DeploymentBuilderService;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.util.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
@@ -65,7 +70,10 @@
 
 import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -81,8 +89,18 @@
 public class DeploymentService {
 
     private static final String DEPLOYMENT_WITH_ID_NOT_FOUND_MESSAGE = "Can't find deployment with id: ";
+    private static final List<String> CHECKED_TRIGGER_TYPES = List.of(
+            CamelNames.HTTP_TRIGGER_COMPONENT, CamelNames.SDS_TRIGGER_COMPONENT);
+    private static final List<String> ROUTE_ELEMENT_TYPES = List.of(
+            HTTP_TRIGGER_COMPONENT, HTTP_SENDER_COMPONENT, GRAPHQL_SENDER_COMPONENT, SERVICE_CALL_COMPONENT);
+    private static final List<String> BULK_DEPLOYMENT_ELEMENT_TYPES = Stream.concat(
+            CHECKED_TRIGGER_TYPES.stream(), ROUTE_ELEMENT_TYPES.stream()).distinct().toList();
+    private static final List<RouteType> GATEWAY_ROUTE_TYPES = Arrays.stream(RouteType.values())
+            .filter(RouteType::triggerRouteWithGateway)
+            .toList();
 
     private final DeploymentRepository deploymentRepository;
+    private final DeployedRouteRepository deployedRouteRepository;
     private final ElementRepository elementRepository;
 
     private final ChainFinderService chainFinderService;
@@ -91,6 +109,7 @@ public class DeploymentService {
     private final ActionsLogService actionLogger;
     private final DeploymentBuilderService deploymentBuilderService;
     private final TransactionHandler transactionHandler;
+    private final Executor deploymentRoutesExecutor;
 
     @Value("${qip.chains.triggers.check.enabled}")
     private boolean triggersCheckEnabled;
@@ -130,14 +149,17 @@ public LoggingInfo(Optional<Deployment> deploymentOptional) {
 
     @Autowired
     public DeploymentService(DeploymentRepository deploymentRepository,
+                             DeployedRouteRepository deployedRouteRepository,
                              ElementRepository elementRepository,
                              ChainFinderService chainFinderService,
                              SystemService systemService,
                              SnapshotService snapshotService,
                              ActionsLogService actionLogger,
                              DeploymentBuilderService deploymentBuilderService,
-                             TransactionHandler transactionHandler) {
+                             TransactionHandler transactionHandler,
+                             @Qualifier("deploymentRoutesExecutor") Executor deploymentRoutesExecutor) {
         this.deploymentRepository = deploymentRepository;
+        this.deployedRouteRepository = deployedRouteRepository;
         this.elementRepository = elementRepository;
         this.chainFinderService = chainFinderService;
         this.systemService = systemService;
@@ -145,6 +167,7 @@ public DeploymentService(DeploymentRepository deploymentRepository,
         this.actionLogger = actionLogger;
         this.deploymentBuilderService = deploymentBuilderService;
         this.transactionHandler = transactionHandler;
+        this.deploymentRoutesExecutor = deploymentRoutesExecutor;
     }
 
     @Transactional
@@ -158,6 +181,10 @@ public List<Deployment> findAllByChainId(String chainId) {
         return deploymentRepository.findAllByChainId(chainId);
     }
 
+    public List<Deployment> findAllByChainIdIn(Collection<String> chainIds) {
+        return deploymentRepository.findAllByChainIdIn(chainIds);
+    }
+
     @Transactional
     public long getDeploymentsCountByDomain(String domainName) {
         return deploymentRepository.countByDomain(domainName);
@@ -215,9 +242,20 @@ public Deployment create(Deployment deployment, Chain chain, Snapshot snapshot,
 
 
         transactionHandler.runInNewTransaction(() -> {
-            checkTriggers(deployment.getDomain(), snapshot.getId(), chain.getId(), excludeDeployments);
+            List<ChainElement> triggers = elementRepository.findAllBySnapshotIdAndTypeIn(snapshot.getId(), CHECKED_TRIGGER_TYPES);
+            List<DeployedRoute> deployedRoutes = DeployedRoute.fromTriggers(triggers);
+            if (triggersCheckEnabled) {
+                List<String> excludeDeploymentIds = excludeDeployments == null
+                        ? Collections.emptyList()
+                        : excludeDeployments.stream().map(Deployment::getId).toList();
+                lockRoutes(deployedRoutes);
+                checkTriggers(deployment.getDomain(), chain.getId(), triggers,
+                        loadDeployedRoutes(deployedRoutes, excludeDeploymentIds));
+            }
             prepareDeployment(deployment, snapshot, chain);
             savedDeployment.set(deploymentRepository.save(deployment));
+            deployedRoutes.forEach(route -> route.bindTo(savedDeployment.get()));
+            deployedRouteRepository.saveAll(deployedRoutes);
             logDeploymentAction(savedDeployment.get(), chain.getId(), chain.getName(), LogOperation.CREATE);
         });
         return savedDeployment.get();
@@ -262,15 +300,11 @@ public Pair<Boolean, List<BulkDeploymentResponse>> bulkCreate(BulkDeploymentRequ
             case LAST_CREATED -> snapshotService.findLastCreatedOrBuild(chains.keySet(), errorHandler);
         };
 
+        BulkDeploymentPlan plan = planBulkDeployment(snapshots.values(), request.getDomains());
+        List<Deployment> createdDeployments = new ArrayList<>();
         for (Map.Entry<String, Snapshot> entry : snapshots.entrySet()) {
-            List<Deployment> deps = request.getDomains().stream().map(domain -> {
-                Deployment dep = new Deployment();
-                dep.setDomain(domain);
-                return dep;
-            }).toList();
-
             try {
-                createAll(deps, entry.getKey(), entry.getValue());
+                createdDeployments.addAll(createPlanned(plan, chains.get(entry.getKey()), entry.getValue(), request.getDomains()));
                 statuses.add(BulkDeploymentResponse.builder()
                         .chainId(entry.getKey())
                         .chainName(chains.get(entry.getKey()).getName())
@@ -287,35 +321,135 @@ public Pair<Boolean, List<BulkDeploymentResponse>> bulkCreate(BulkDeploymentRequ
                 failed.set(true);
             }
         }
+        createdDeployments.forEach(deployment -> logDeploymentAction(
+                deployment, deployment.getChain().getId(), deployment.getChain().getName(), LogOperation.CREATE));
 
         return Pair.of(failed.get(), statuses);
     }
 
+    /**
+     * Elements and deployed routes of all snapshots of a bulk deployment, loaded at once.
+     * Gateway routes are built in parallel while deployments are being checked.
+     */
+    private record BulkDeploymentPlan(
+            Map<String, List<ChainElement>> triggers,
+            Map<String, CompletableFuture<List<List<DeploymentRoute>>>> deploymentRoutes,
+            DeployedRoutesIndex deployedRoutes
+    ) {
+    }
+
+    private BulkDeploymentPlan planBulkDeployment(Collection<Snapshot> snapshots, List<String> domains) {
+        List<String> snapshotIds = snapshots.stream().map(Snapshot::getId).toList();
+        Map<String, List<ChainElement>> elements = snapshotIds.isEmpty()
+                ? Collections.emptyMap()
+                : elementRepository.findAllBySnapshotIdInAndTypeIn(snapshotIds, BULK_DEPLOYMENT_ELEMENT_TYPES).stream()
+                        .collect(Collectors.groupingBy(element -> element.getSnapshot().getId()));
+        Map<String, ServiceGateway> serviceGateways = findServiceGateways(
+                elements.values().stream().flatMap(Collection::stream).toList());
+
+        Map<String, List<ChainElement>> triggers = new HashMap<>();
+        Map<String, CompletableFuture<List<List<DeploymentRoute>>>> deploymentRoutes = new HashMap<>();
+        List<DeployedRoute> pendingRoutes = new ArrayList<>();
+        for (String snapshotId : snapshotIds) {
+            List<ChainElement> snapshotElements = elements.getOrDefault(snapshotId, Collections.emptyList());
+            List<ChainElement> snapshotTriggers = snapshotElements.stream()
+                    .filter(element -> CHECKED_TRIGGER_TYPES.contains(element.getType()))
+                    .toList();
+            triggers.put(snapshotId, snapshotTriggers);
+            pendingRoutes.addAll(DeployedRoute.fromTriggers(snapshotTriggers));
+            // each deployment owns its routes
+            deploymentRoutes.put(snapshotId, CompletableFuture.supplyAsync(() -> domains.stream()
+                    .map(domain -> buildDeploymentRoutes(snapshotElements, serviceGateways))
+                    .toList(), deploymentRoutesExecutor));
+        }
+
+        DeployedRoutesIndex deployedRoutes = new DeployedRoutesIndex(Collections.emptyList());
+        if (triggersCheckEnabled) {
+            lockRoutes(pendingRoutes);
+            deployedRoutes = loadDeployedRoutes(pendingRoutes, Collections.emptyList());
+        }
+        return new BulkDeploymentPlan(triggers, deploymentRoutes, deployedRoutes);
+    }
+
+    /**
+     * Creates deployments of the snapshot the same way {@link #createAll} does, but checks triggers against
+     * the plan, which also contains routes of deployments created earlier in the bulk deployment.
+     * Deployments of all domains are checked before any of them is persisted, so a chain that fails
+     * on one of the domains leaves no deployments behind.
+     */
+    private List<Deployment> createPlanned(BulkDeploymentPlan plan, Chain chain, Snapshot snapshot, List<String> domains) {
+        List<ChainElement> triggers = plan.triggers().get(snapshot.getId());
+        if (domains.size() > 1 && !checkTriggersInBulkDeploy(triggers)) {
+            throw new DeploymentProcessingException("Found external or private triggers while deploying to multiple domains");
+        }
+
+        List<Deployment> createdDeployments = new ArrayList<>(domains.size());
+        List<DeployedRoute> chainRoutes = new ArrayList<>();
+        // routes of the deployments of this chain on the domains checked so far
+        DeployedRoutesIndex chainRoutesIndex = new DeployedRoutesIndex(Collections.emptyList());
+        for (int i = 0; i < domains.size(); i++) {
+            Deployment deployment = new Deployment();
+            deployment.setDomain(domains.get(i));
+
+            if (triggersCheckEnabled) {
+                checkTriggers(deployment.getDomain(), chain.getId(), triggers, plan.deployedRoutes());
+                checkTriggers(deployment.getDomain(), chain.getId(), triggers, chainRoutesIndex);
+            }
+            List<DeploymentRoute> routes;
+            try {
+                routes = plan.deploymentRoutes().get(snapshot.getId()).join().get(i);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+
+            deployment.setSnapshot(snapshot);
+            deployment.setChain(chain);
+            deployment.setName(snapshot.getName());
+            deployment.setDeploymentRoutes(routes);
+
+            List<DeployedRoute> deployedRoutes = DeployedRoute.fromTriggers(triggers);
+            deployedRoutes.forEach(route -> route.bindTo(deployment));
+            chainRoutesIndex.addAll(deployedRoutes);
+            chainRoutes.addAll(deployedRoutes);
+            createdDeployments.add(deployment);
+        }
+
+        createdDeployments.forEach(deploymentRepository::persist);
+        chainRoutes.forEach(deployedRouteRepository::persist);
+        plan.deployedRoutes().addAll(chainRoutes);
+        return createdDeployments;
+    }
+
     private void prepareDeployment(Deployment deployment, Snapshot snapshot, Chain chain) {
         deployment.setSnapshot(snapshot);
         deployment.setChain(chain);
         deployment.setName(snapshot.getName());
 
-        deployment.setDeploymentRoutes(buildDeploymentRoutes(deployment));
+        List<ChainElement> elements = elementRepository.findAllBySnapshotIdAndTypeIn(snapshot.getId(), ROUTE_ELEMENT_TYPES);
+        deployment.setDeploymentRoutes(buildDeploymentRoutes(elements, findServiceGateways(elements)));
     }
 
-    private List<DeploymentRoute> buildDeploymentRoutes(Deployment deployment) {
-        String snapshotId = deployment.getSnapshot().getId();
-
+    /**
+     * Does not access the database, so routes of different snapshots may be built concurrently
+     *
+     * @param elements route elements of the snapshot
+     * @param serviceGateways gateways of the systems called by the elements
+     */
+    private List<DeploymentRoute> buildDeploymentRoutes(List<ChainElement> elements, Map<String, ServiceGateway> serviceGateways) {
         try {
             List<DeploymentRoute> allRoutes = new ArrayList<>();
 
             if (registerOnIncomingGateways) {
                 // external and internal triggers
-                List<DeploymentRoute> triggers = buildTriggersRoutes(snapshotId);
+                List<DeploymentRoute> triggers = buildTriggersRoutes(elements);
                 allRoutes.addAll(triggers);
             }
             if (registerOnEgress) {
                 // external senders
-                List<DeploymentRoute> senders = buildHttpSendersRoutes(snapshotId);
+                List<DeploymentRoute> senders = buildHttpSendersRoutes(elements);
                 allRoutes.addAll(senders);
                 // external services
-                List<DeploymentRoute> serviceRoutes = buildServicesRoutes(snapshotId);
+                List<DeploymentRoute> serviceRoutes = buildServicesRoutes(elements, serviceGateways);
                 allRoutes.addAll(serviceRoutes);
             }
 
@@ -347,37 +481,57 @@ private Stream<ChainElement> findElementsThatUseRoute(ElementRoute route, String
                 .filter(element -> getHttpTriggerRoute(element).intersectsWith(route));
     }
 
-    private void checkTriggers(String domain, String snapshotId, String chainId, List<Deployment> excludeDeployments) {
-        if (!triggersCheckEnabled) {
-            return;
+    /**
+     * Routes being deployed are locked first, so a concurrent deployment of the same routes
+     * waits until this one is committed and then sees it.
+     */
+    private void lockRoutes(Collection<DeployedRoute> routes) {
+        if (!routes.isEmpty()) {
+            deployedRouteRepository.lockKeys(routes.stream().map(DeployedRoute::getLockKey).distinct().toList());
         }
+    }
 
-        List<String> excludeDeploymentIds = excludeDeployments == null
-                ? null
-                : excludeDeployments.stream().map(Deployment::getId).collect(Collectors.toList());
+    private DeployedRoutesIndex loadDeployedRoutes(Collection<DeployedRoute> pendingRoutes, Collection<String> excludeDeploymentIds) {
+        Set<String> paths = pendingRoutes.stream()
+                .filter(route -> DeployedTriggerType.HTTP == route.getTriggerType())
+                .map(DeployedRoute::getPath)
+                .collect(Collectors.toSet());
+        Set<String> jobIds = pendingRoutes.stream()
+                .filter(route -> DeployedTriggerType.SDS == route.getTriggerType())
+                .map(DeployedRoute::getSdsJobId)
+                .collect(Collectors.toSet());
 
-        checkHttpTriggers(snapshotId, chainId, excludeDeploymentIds, domain);
+        List<DeployedRoute> routes = new ArrayList<>();
+        if (!paths.isEmpty()) {
+            routes.addAll(deployedRouteRepository.findAllByTriggerTypeAndPathIn(DeployedTriggerType.HTTP, paths));
+        }
+        if (!jobIds.isEmpty()) {
+            routes.addAll(deployedRouteRepository.findAllByTriggerTypeAndSdsJobIdIn(DeployedTriggerType.SDS, jobIds));
+        }
+        if (!excludeDeploymentIds.isEmpty()) {
+            routes.removeIf(route -> excludeDeploymentIds.contains(route.getDeployment().getId()));
+        }
+        return new DeployedRoutesIndex(routes);
+    }
 
-        checkSdsTriggers(snapshotId, chainId, excludeDeploymentIds, domain);
+    private void checkTriggers(String domain, String chainId, List<ChainElement> triggers, DeployedRoutesIndex deployedRoutes) {
+        checkHttpTriggers(triggers, chainId, domain, deployedRoutes);
 
+        checkSdsTriggers(triggers, chainId, domain, deployedRoutes);
     }
 
-    private void checkSdsTriggers(String snapshotId, String chainId, List<String> excludeDeploymentIds, String domain) {
-        List<String> triggersToCheck = List.of(CamelNames.SDS_TRIGGER_COMPONENT);
-        List<String> pendingJobIds = mapSdsTriggerJobIds(
-                elementRepository.findAllBySnapshotIdAndTypeIn(
-                        snapshotId,
-                        triggersToCheck));
-        if (pendingJobIds.isEmpty()) {
+    private void checkSdsTriggers(List<ChainElement> triggers, String chainId, String domain, DeployedRoutesIndex deployedRoutes) {
+        List<String> pendingJobIds = mapSdsTriggerJobIds(triggers.stream()
+                .filter(trigger -> CamelNames.SDS_TRIGGER_COMPONENT.equals(trigger.getType()))
+                .toList());
+        List<String> jobIdsToCheck = pendingJobIds.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if (jobIdsToCheck.isEmpty()) {
             return;
         }
 
-        List<String> domainJobIds = mapSdsTriggerJobIds(
-                elementRepository.findElementsForDomainTriggerCheck(
-                        triggersToCheck,
-                        domain,
-                        chainId,
-                        SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
+        List<String> domainJobIds = deployedRoutes.findSdsRoutesOfChainOnOtherDomains(jobIdsToCheck, chainId, domain).stream()
+                .map(DeployedRoute::getSdsJobId)
+                .toList();
 
         Set<String> domainEqualJobIds = findSameSdsTriggerJobIds(pendingJobIds, domainJobIds);
         if (!domainEqualJobIds.isEmpty()) {
@@ -386,29 +540,22 @@ private void checkSdsTriggers(String snapshotId, String chainId, List<String> ex
         }
     }
 
-    private void checkHttpTriggers(String snapshotId, String chainId, List<String> excludeDeploymentIds, String domain) {
-        List<String> triggersToCheck = List.of(CamelNames.HTTP_TRIGGER_COMPONENT);
-
-        List<ElementRoute> pendingRoutes = mapHttpTriggerRoutes(
-                elementRepository.findAllBySnapshotIdAndTypeIn(
-                        snapshotId,
-                        triggersToCheck));
+    private void checkHttpTriggers(List<ChainElement> triggers, String chainId, String domain, DeployedRoutesIndex deployedRoutes) {
+        List<ElementRoute> pendingRoutes = mapHttpTriggerRoutes(triggers.stream()
+                .filter(TriggerUtils::isHttpTrigger)
+                .toList());
         if (pendingRoutes.isEmpty()) {
             return;
         }
 
-        List<ElementRoute> allRoutes = mapHttpTriggerRoutes(
-                elementRepository.findElementsForTriggerCheck(
-                        triggersToCheck,
-                        chainId,
-                        SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
-
-        List<ElementRoute> otherDomainsRoutes = mapHttpTriggerRoutes(
-                elementRepository.findElementsForDomainTriggerCheck(
-                        triggersToCheck,
-                        domain,
-                        chainId,
-                        SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
+        Set<String> pendingPaths = pendingRoutes.stream()
+                .map(ElementRoute::getPath)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet());
+        List<ElementRoute> allRoutes = mapDeployedRoutes(
+                deployedRoutes.findHttpRoutesOfOtherChains(pendingPaths, chainId, GATEWAY_ROUTE_TYPES));
+        List<ElementRoute> otherDomainsRoutes = mapDeployedRoutes(
+                deployedRoutes.findHttpRoutesOfChainOnOtherDomains(pendingPaths, chainId, domain));
 
         Set<String> gatewayEqualPaths = findSameHttpTriggerPaths(pendingRoutes, allRoutes, true);
         Set<String> otherDomainsEqualPaths = findSameHttpTriggerPaths(pendingRoutes, otherDomainsRoutes, false);
@@ -425,19 +572,25 @@ private void checkHttpTriggers(String snapshotId, String chainId, List<String> e
     private boolean checkTriggersInBulkDeploy(List<Deployment> deployments) {
         if (deployments.size() > 1) {
             String snapshotId = deployments.get(0).getSnapshot().getId();
-            List<ChainElement> triggers =
-                    elementRepository.findAllBySnapshotIdAndType(snapshotId, getHttpTriggerTypeName());
-
-            return triggers.stream().noneMatch(trigger ->
-                    TriggerUtils.isExternalHttpTrigger(trigger) || TriggerUtils.isPrivateHttpTrigger(trigger));
+            return checkTriggersInBulkDeploy(elementRepository.findAllBySnapshotIdAndType(snapshotId, getHttpTriggerTypeName()));
         }
         return true;
     }
 
+    private boolean checkTriggersInBulkDeploy(Collection<ChainElement> triggers) {
+        return triggers.stream()
+                .filter(TriggerUtils::isHttpTrigger)
+                .noneMatch(trigger -> TriggerUtils.isExternalHttpTrigger(trigger) || TriggerUtils.isPrivateHttpTrigger(trigger));
+    }
+
     private List<ElementRoute> mapHttpTriggerRoutes(Collection<ChainElement> listOfObjects) {
         return listOfObjects.stream().map(TriggerUtils::getHttpTriggerRoute).toList();
     }
 
+    private List<ElementRoute> mapDeployedRoutes(Collection<DeployedRoute> routes) {
+        return routes.stream().map(DeployedRoute::toElementRoute).toList();
+    }
+
     private List<String> mapSdsTriggerJobIds(Collection<ChainElement> listOfObjects) {
         return listOfObjects.stream().map(TriggerUtils::getSdsTriggerJobId).toList();
     }
@@ -486,6 +639,18 @@ public void deleteAllByChainId(String chainId) throws DeploymentProcessingExcept
         });
      }
 
+    @DeploymentModification
+    public void deleteAllByChainIds(Collection<String> chainIds) throws DeploymentProcessingException {
+        if (chainIds.isEmpty()) {
+            return;
+        }
+        transactionHandler.runInNewTransaction(() -> {
+            List<Deployment> deployments = deploymentRepository.findAllByChainIdInWithChain(chainIds);
+            deploymentRepository.deleteAllByChainIdIn(chainIds);
+            deployments.forEach(deployment -> logDeploymentAction(deployment, deployment.getId(), deployment.getChain().getName(), LogOperation.DELETE));
+        });
+    }
+
     @DeploymentModification
     public void deleteAllBySnapshotId(String snapshotId) throws DeploymentProcessingException {
         Snapshot snapshot = snapshotService.findById(snapshotId);
@@ -548,7 +713,11 @@ public DeploymentsUpdate getDeploymentsForDomain(String domainName, EngineDeploy
             stop.addAll(deploymentBuilderService.buildDeploymentsStop(toRemove));
         }
 
-        DeploymentsUpdate result = DeploymentsUpdate.builder().update(update).stop(stop).build();
+        DeploymentsUpdate result = DeploymentsUpdate.builder()
+                .update(update)
+                .stop(stop)
+                .version(currentDeploymentVersion)
+                .build();
         if (fullDeploymentsRequest) {
             if (Objects.equals(currentDeploymentVersion, deploymentsUpdateVersion)) {
                 fullDeploymentsUpdateCache.put(domainName, result);
@@ -560,10 +729,10 @@ public DeploymentsUpdate getDeploymentsForDomain(String domainName, EngineDeploy
     /**
      * Post egress routes for [http-sender, graphql-sender]
      */
-    private List<DeploymentRoute> buildHttpSendersRoutes(String snapshotId) {
-        return elementRepository.findAllBySnapshotIdAndTypeIn(
-                        snapshotId, List.of(HTTP_SENDER_COMPONENT, GRAPHQL_SENDER_COMPONENT))
-                .stream()
+    private List<DeploymentRoute> buildHttpSendersRoutes(List<ChainElement> elements) {
+        return elements.stream()
+                .filter(element -> HTTP_SENDER_COMPONENT.equals(element.getType())
+                        || GRAPHQL_SENDER_COMPONENT.equals(element.getType()))
                 .filter(sender -> {
                     Object isExternalCall = sender.getProperty(CamelOptions.IS_EXTERNAL_CALL);
                     return isExternalCall == null || (boolean) isExternalCall;
@@ -592,8 +761,9 @@ private List<DeploymentRoute> buildHttpSendersRoutes(String snapshotId) {
                 .toList();
     }
 
-    private List<DeploymentRoute> buildTriggersRoutes(String snapshotId) {
-        return elementRepository.findAllBySnapshotIdAndType(snapshotId, getHttpTriggerTypeName()).stream()
+    private List<DeploymentRoute> buildTriggersRoutes(List<ChainElement> elements) {
+        return elements.stream()
+                .filter(TriggerUtils::isHttpTrigger)
                 .map(TriggerUtils::getHttpTriggerRoute)
                 .map(route -> DeploymentRoute.builder()
                         .path("/" + route.getPath())
@@ -603,27 +773,55 @@ private List<DeploymentRoute> buildTriggersRoutes(String snapshotId) {
                 .collect(Collectors.toList());
     }
 
-    private List<DeploymentRoute> buildServicesRoutes(String snapshotId) {
-        List<ChainElement> serviceCallElements = elementRepository.findAllBySnapshotIdAndType(snapshotId, SERVICE_CALL_COMPONENT);
-        Map<String, List<ChainElement>> systemsIds = serviceCallElements
+    /**
+     * Gateway of a system called by service call elements, resolved before routes are built
+     */
+    private record ServiceGateway(RouteType routeType, Environment environment) {
+    }
+
+    private Map<String, ServiceGateway> findServiceGateways(Collection<ChainElement> elements) {
+        if (!registerOnEgress) {
+            return Collections.emptyMap();
+        }
+
+        Set<String> systemIds = elements.stream()
+                .filter(element -> SERVICE_CALL_COMPONENT.equals(element.getType()))
+                .map(element -> (String) element.getProperty(CamelOptions.SYSTEM_ID))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, ServiceGateway> gateways = new LinkedHashMap<>();
+        for (IntegrationSystem system : systemService.findSystemsRequiredGatewayRoutes(systemIds)) {
+            gateways.put(system.getId(), new ServiceGateway(
+                    getRouteTypeForSystemType(system.getIntegrationSystemType()),
+                    systemService.getActiveEnvironment(system)));
+        }
+        return gateways;
+    }
+
+    private List<DeploymentRoute> buildServicesRoutes(List<ChainElement> elements, Map<String, ServiceGateway> serviceGateways) {
+        Map<String, List<ChainElement>> systemsIds = elements
                 .stream()
+                .filter(element -> SERVICE_CALL_COMPONENT.equals(element.getType()))
                 .collect(Collectors.groupingBy(
                         element -> (String) element.getProperty(CamelOptions.SYSTEM_ID),
                         Collectors.mapping(Function.identity(), Collectors.toList())
                 ));
 
-        List<IntegrationSystem> systems = systemService.findSystemsRequiredGatewayRoutes(systemsIds.keySet());
         List<DeploymentRoute> routes = new ArrayList<>();
-        for (IntegrationSystem system : systems) {
-            Environment environment = systemService.getActiveEnvironment(system);
+        for (Map.Entry<String, ServiceGateway> gateway : serviceGateways.entrySet()) {
+            List<ChainElement> systemElements = systemsIds.get(gateway.getKey());
+            if (systemElements == null) {
+                continue;
+            }
+            Environment environment = gateway.getValue().environment();
 
             String path = systemService.getActiveEnvAddress(environment);
             Long connectionTimeout = systemService.getConnectTimeout(environment);
 
-            RouteType routeType = getRouteTypeForSystemType(system.getIntegrationSystemType());
+            RouteType routeType = gateway.getValue().routeType();
 
-            List<ChainElement> elements = systemsIds.get(system.getId());
-            for (ChainElement element : elements) {
+            for (ChainElement element : systemElements) {
                 String gatewayPrefix = String.format("/system/%s", element.getOriginalId());
 
                 routes.add(DeploymentRoute.builder()
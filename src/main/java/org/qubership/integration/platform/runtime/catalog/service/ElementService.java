@@ -120,6 +120,13 @@ public void deleteAllByChainIdAndFlush(String chainId) {
     }
 
     public void fillElementsEnvironment(List<ChainElement> elements) {
+        fillElementsEnvironment(elements, generateElementsEnvironments(elements));
+    }
+
+    /**
+     * Assigns previously generated environments, see {@link #generateElementsEnvironments(List)}, to the elements.
+     */
+    public void fillElementsEnvironment(List<ChainElement> elements, List<ServiceEnvironment> environments) {
         if (log.isDebugEnabled()) {
             log.debug("Fill Elements Environment request accepted {}",
                     elements.stream().map(ChainElement::getOriginalId).collect(Collectors.toList()));
@@ -129,10 +136,19 @@ public void fillElementsEnvironment(List<ChainElement> elements) {
             return;
         }
 
-        List<ServiceEnvironment> environments = systemEnvironmentsGenerator.generateSystemEnvironments(elementsBySystemId.keySet());
         mergeElementsBySystemIdWithEnvironments(elementsBySystemId, environments);
     }
 
+    /**
+     * Generates the environments of the services used by the elements without assigning them.
+     */
+    public List<ServiceEnvironment> generateElementsEnvironments(List<ChainElement> elements) {
+        Set<String> systemIds = getElementsBySystemId(elements).keySet();
+        return systemIds.isEmpty()
+                ? Collections.emptyList()
+                : systemEnvironmentsGenerator.generateSystemEnvironments(systemIds);
+    }
+
     public void mergeElementsBySystemIdWithEnvironments(HashMap<String, List<ChainElement>> elementsBySystemId,
                                                         List<ServiceEnvironment> environments) {
         for (ServiceEnvironment serviceEnvironment : environments) {
@@ -557,32 +573,55 @@ public ChainDiff updateRelativeProperties(ChainElement element, Map<String, Obje
 
     @ChainModification
     public ChainDiff deleteAllByIdsAndUpdateUnsaved(List<String> ids) {
-        ChainDiff chainDiff = new ChainDiff();
-        for (String id : ids) {
-            chainDiff.merge(deleteByIdAndUpdateUnsaved(id));
-        }
-        return chainDiff;
+        return deleteByIds(ids, false);
     }
 
     @ChainModification
     public ChainDiff deleteByIdAndUpdateUnsaved(String id) {
-        return deleteById(id, false);
+        return deleteByIds(List.of(id), false);
     }
 
-    private ChainDiff deleteById(String id, boolean isImportProcess) {
+    /**
+     * Deletes the selected elements with their nested elements. The selection is loaded at once,
+     * elements nested into other selected elements are deleted as a part of their ancestor,
+     * and references to all deleted elements are removed in a single pass per chain.
+     */
+    private ChainDiff deleteByIds(Collection<String> ids, boolean isImportProcess) {
         final ChainDiff chainDiff = new ChainDiff();
 
-        Optional<ChainElement> elementOptional = elementRepository.findById(id);
-        if (elementOptional.isPresent()) {
-            ChainElement element = elementOptional.get();
+        List<ChainElement> selectedElements = elementRepository.findAllById(ids);
+        Set<String> selectedIds = selectedElements.stream()
+                .map(ChainElement::getId)
+                .collect(Collectors.toSet());
+
+        List<ChainElement> rootElements = new ArrayList<>();
+        for (ChainElement element : selectedElements) {
             if (element instanceof SwimlaneChainElement) {
-                return swimlaneService.delete(id);
+                chainDiff.merge(swimlaneService.delete(element.getId()));
+            } else if (!hasAncestorIn(element, selectedIds)) {
+                rootElements.add(element);
             }
-            List<ChainElement> elements = new ArrayList<>();
+        }
+        if (rootElements.isEmpty()) {
+            return chainDiff;
+        }
+
+        // Load all container children of affected chains in one query instead of one per container
+        rootElements.stream()
+                .filter(ContainerChainElement.class::isInstance)
+                .map(ChainElement::getChain)
+                .filter(Objects::nonNull)
+                .map(Chain::getId)
+                .distinct()
+                .forEach(elementRepository::fetchChildrenByChainId);
+
+        List<ChainElement> elements = new ArrayList<>();
+        List<ChainElement> elementsToUpdate = new ArrayList<>();
+        for (ChainElement element : rootElements) {
             elements.add(element);
             if (orderedElementService.isOrdered(element)) {
                 ChainDiff orderedChainDiff = orderedElementService.removeOrderedElement(element.getParent(), element);
-                saveAll(orderedChainDiff.getUpdatedElements());
+                elementsToUpdate.addAll(orderedChainDiff.getUpdatedElements());
                 chainDiff.merge(orderedChainDiff);
             }
             if (element instanceof ContainerChainElement containerElement) {
@@ -592,23 +631,36 @@ private ChainDiff deleteById(String id, boolean isImportProcess) {
             if (parentElement != null) {
                 chainDiff.addUpdatedElement(parentElement);
             }
-            chainDiff.addRemovedElements(elements);
-            Optional.ofNullable(libraryService.getElementDescriptor(element))
-                    .filter(ElementDescriptor::isReferencedByAnotherElement)
-                    .ifPresent(descriptor -> deleteElementReferences(chainDiff, element));
-
-            for (ChainElement elementToRemove : elements) {
-                chainDiff.addRemovedDependencies(elementToRemove.getInputDependencies());
-                chainDiff.addRemovedDependencies(elementToRemove.getOutputDependencies());
-            }
+        }
+        chainDiff.addRemovedElements(elements);
 
-            elementRepository.deleteAll(elements);
+        Set<ChainElement> removedElements = new HashSet<>(elements);
+        elementsToUpdate.addAll(deleteElementReferences(chainDiff, elements, removedElements));
+        elementsToUpdate.removeIf(removedElements::contains);
+        if (!elementsToUpdate.isEmpty()) {
+            saveAll(elementsToUpdate);
+        }
 
-            logElementsAction(elements, LogOperation.DELETE);
+        for (ChainElement elementToRemove : elements) {
+            chainDiff.addRemovedDependencies(elementToRemove.getInputDependencies());
+            chainDiff.addRemovedDependencies(elementToRemove.getOutputDependencies());
         }
+
+        elementRepository.deleteAll(elements);
+
+        logElementsAction(elements, LogOperation.DELETE);
         return chainDiff;
     }
 
+    private boolean hasAncestorIn(ChainElement element, Set<String> ids) {
+        for (ChainElement parent = element.getParent(); parent != null; parent = parent.getParent()) {
+            if (ids.contains(parent.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void collectAllNestedElements(List<ChainElement> elements, ContainerChainElement container) {
         elements.addAll(container.getElements());
         for (ChainElement element : container.getElements()) {
@@ -618,34 +670,57 @@ private void collectAllNestedElements(List<ChainElement> elements, ContainerChai
         }
     }
 
-    private void deleteElementReferences(ChainDiff chainDiff, ChainElement referencedElement) {
-        String chainId = Optional.ofNullable(referencedElement.getChain())
-                .map(Chain::getId)
-                .orElse(null);
-        Map<String, ElementDescriptor> elementDescriptors = libraryService.getElementsWithReferenceProperties();
-        List<ChainElement> elements = elementRepository.findAllByChainIdAndTypeIn(chainId, elementDescriptors.keySet());
+    /**
+     * Removes reference properties pointing to any of the deleted elements.
+     * Reference-holding elements are loaded once per chain.
+     *
+     * @return elements whose properties were changed
+     */
+    private List<ChainElement> deleteElementReferences(
+            ChainDiff chainDiff,
+            List<ChainElement> deletedElements,
+            Set<ChainElement> removedElements
+    ) {
+        Map<String, Set<String>> referencedIdsByChain = new HashMap<>();
+        for (ChainElement element : deletedElements) {
+            boolean referenced = Optional.ofNullable(libraryService.getElementDescriptor(element))
+                    .map(ElementDescriptor::isReferencedByAnotherElement)
+                    .orElse(false);
+            if (referenced && element.getChain() != null) {
+                referencedIdsByChain.computeIfAbsent(element.getChain().getId(), key -> new HashSet<>())
+                        .add(element.getId());
+            }
+        }
+        if (referencedIdsByChain.isEmpty()) {
+            return Collections.emptyList();
+        }
 
+        Map<String, ElementDescriptor> elementDescriptors = libraryService.getElementsWithReferenceProperties();
         List<ChainElement> elementsToUpdate = new ArrayList<>();
-        for (ChainElement element : elements) {
-            ElementDescriptor elementDescriptor = elementDescriptors.get(element.getType());
-            List<ElementProperty> referenceProperties = elementDescriptor.getReferenceProperties();
-
-            boolean elementUpdated = false;
-            for (ElementProperty referenceProperty : referenceProperties) {
-                String propertyValue = element.getPropertyAsString(referenceProperty.getName());
-                if (StringUtils.equals(propertyValue, referencedElement.getId())) {
-                    element.getProperties().remove(referenceProperty.getName());
-                    elementUpdated = true;
+        referencedIdsByChain.forEach((chainId, referencedIds) -> {
+            List<ChainElement> elements = elementRepository.findAllByChainIdAndTypeIn(chainId, elementDescriptors.keySet());
+            for (ChainElement element : elements) {
+                if (removedElements.contains(element)) {
+                    continue;
+                }
+                List<ElementProperty> referenceProperties = elementDescriptors.get(element.getType()).getReferenceProperties();
+
+                boolean elementUpdated = false;
+                for (ElementProperty referenceProperty : referenceProperties) {
+                    String propertyValue = element.getPropertyAsString(referenceProperty.getName());
+                    if (propertyValue != null && referencedIds.contains(propertyValue)) {
+                        element.getProperties().remove(referenceProperty.getName());
+                        elementUpdated = true;
+                    }
+                }
+                if (elementUpdated) {
+                    elementsToUpdate.add(element);
                 }
             }
-            if (elementUpdated) {
-                elementsToUpdate.add(element);
-            }
-        }
+        });
 
-        if (!elementsToUpdate.isEmpty()) {
-            chainDiff.addUpdatedElements(saveAll(elementsToUpdate));
-        }
+        chainDiff.addUpdatedElements(elementsToUpdate);
+        return elementsToUpdate;
     }
 
     @ChainModification
@@ -720,48 +795,11 @@ private void logElementAction(ChainElement element, LogOperation operation) {
     }
 
     public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        List<ChainElement> elements = getChainElementsWithSystemUsage();
-
-        for (String chainId : chainIds) {
-            for (ChainElement chainElement : elements) {
-                if (chainElement.getChain() != null) {
-                    if (Objects.equals(chainElement.getChain().getId(), chainId)) {
-                        String contextServiceId = (String) chainElement.getProperties().get(CONTEXT_SYSTEM_ID);
-                        String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                        String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-                        if (!StringUtils.isBlank(contextServiceId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(contextServiceId))) {
-                                UsedSystem usedSystem = new UsedSystem(contextServiceId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-                        }
-                        if (!StringUtils.isBlank(systemId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                                UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-
-                            if (!StringUtils.isBlank(specificationId)) {
-                                UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                                if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                                    usedSystem.getUsedSystemModelIds().add(specificationId);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return usedSystems;
+        return toUsedSystems(elementRepository.findUsedSystemsByChainIdInAndTypeIn(chainIds, getElementTypesWithSystemUsage()));
     }
 
     public List<UsedSystem> getAllUsedSystemIds() {
-        List<ChainElement> elements = getChainElementsWithSystemUsage();
-
-        return getUsedSystemsFromElements(elements);
+        return toUsedSystems(elementRepository.findUsedSystemsByTypeIn(getElementTypesWithSystemUsage()));
     }
 
     /**
@@ -833,36 +871,18 @@ public void validateElementProperties(ChainElement element) {
         }
     }
 
-    private List<UsedSystem> getUsedSystemsFromElements(List<ChainElement> elements) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        for (ChainElement chainElement : elements) {
-            if (chainElement.getChain() != null) {
-                String contextServiceId = (String) chainElement.getProperties().get(CONTEXT_SYSTEM_ID);
-                String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-                if (!StringUtils.isBlank(contextServiceId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(contextServiceId))) {
-                        UsedSystem usedSystem = new UsedSystem(contextServiceId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-                }
-                if (!StringUtils.isBlank(systemId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                        UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-
-                    if (!StringUtils.isBlank(specificationId)) {
-                        UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                        if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                            usedSystem.getUsedSystemModelIds().add(specificationId);
-                        }
-                    }
-                }
+    private List<UsedSystem> toUsedSystems(List<Object[]> systemModelPairs) {
+        Map<String, UsedSystem> usedSystems = new LinkedHashMap<>();
+        for (Object[] systemModelPair : systemModelPairs) {
+            String systemId = (String) systemModelPair[0];
+            String specificationId = (String) systemModelPair[1];
+            UsedSystem usedSystem = usedSystems.computeIfAbsent(systemId,
+                    id -> new UsedSystem(id, new ArrayList<>()));
+            if (!StringUtils.isBlank(specificationId) && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
+                usedSystem.getUsedSystemModelIds().add(specificationId);
             }
         }
-        return usedSystems;
+        return new ArrayList<>(usedSystems.values());
     }
 
     /**
@@ -906,13 +926,17 @@ private List<SystemUsageResponse> fetchSystemUsageData(List<ChainElement> elemen
     }
 
     private List<ChainElement> getChainElementsWithSystemUsage() {
+        return elementRepository.findAllByTypeInAndChainNotNull(getElementTypesWithSystemUsage());
+    }
+
+    private List<String> getElementTypesWithSystemUsage() {
         List<String> elementTypes = new ArrayList<>();
 
         for (var element : ElementsWithSystemUsage.values()) {
             elementTypes.add(element.getElementName());
         }
 
-        return elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
+        return elementTypes;
     }
 
     private List<ChainElement> getAllChildElements(List<ChainElement> chainElementList) {
@@ -18,7 +18,6 @@
 
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.kubernetes.KubeApiException;
-import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
 import org.qubership.integration.platform.runtime.catalog.model.MultiConsumer;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.EventActionType;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
@@ -39,17 +38,13 @@
 @Slf4j
 @Component
 public class EngineService {
-    private static final String ENGINE_NAME_LABEL = "name";
-    private final KubeOperator operator;
+    private final EngineTopologyCache topologyCache;
     private final DeploymentService deploymentService;
     private final DevModeUtil devModeUtil;
     private final EngineDomainUtils domainUtils;
     // <id, pod, domainName, actionType, userId>
     private final Map<String, MultiConsumer.Consumer5<String, KubePod, String, EventActionType, String>> enginesCallbacks = new ConcurrentHashMap<>();
 
-    @Value("${qip.engine.app-check-custom-label}")
-    private String engineAppCheckLabel;
-
     @Value("${qip.domain.default}")
     private String engineDefaultDomain;
 
@@ -57,14 +52,16 @@ public class EngineService {
     private String namespace;
 
     @Autowired
-    public EngineService(KubeOperator operator,
+    public EngineService(EngineTopologyCache topologyCache,
                          DeploymentService deploymentService,
                          DevModeUtil devModeUtil,
                          EngineDomainUtils domainUtils) {
-        this.operator = operator;
+        this.topologyCache = topologyCache;
         this.deploymentService = deploymentService;
         this.devModeUtil = devModeUtil;
         this.domainUtils = domainUtils;
+        topologyCache.addPodListener((pod, domainName, actionType) -> enginesCallbacks.values().forEach(
+                callback -> callback.accept(UUID.randomUUID().toString(), pod, domainName, actionType, null)));
     }
 
     /**
@@ -87,7 +84,16 @@ public List<KubeDeployment> getDomains() throws KubeApiException {
     }
 
     public KubeDeployment getDomainByName(String domainName) {
-        return getDomains().stream().filter(domain -> domain.getName().equals(domainName)).findFirst().orElse(null);
+        if (isDevMode()) {
+            return getDomains().stream().filter(domain -> domain.getName().equals(domainName)).findFirst().orElse(null);
+        }
+        return topologyCache.getDeploymentsByDomain(domainName).stream()
+                .findFirst()
+                .map(deployment -> {
+                    deployment.setName(domainName);
+                    return deployment;
+                })
+                .orElse(null);
     }
 
     /**
@@ -95,11 +101,11 @@ public KubeDeployment getDomainByName(String domainName) {
      * @throws KubeApiException
      */
     private List<KubeDeployment> getDeployments() throws KubeApiException {
-        return operator.getDeploymentsByLabel(engineAppCheckLabel);
+        return topologyCache.getDeployments();
     }
 
     public List<KubePod> getEnginesPods(String domainName) throws KubeApiException {
-        return operator.getPodsByLabel(ENGINE_NAME_LABEL, getActiveKubeDeploymentNameByDomain(domainName));
+        return topologyCache.getPods(getActiveKubeDeploymentNameByDomain(domainName));
     }
 
     public boolean isDevMode() {
@@ -117,11 +123,9 @@ public long deploymentsCountByDomain(String domainName) {
     }
 
     public String getActiveKubeDeploymentNameByDomain(String domainName) {
-        for (KubeDeployment deployment : getDeployments()) {
-            if (domainUtils.convertKubeDeploymentToDomainName(deployment.getName()).equals(domainName)) {
-                return deployment.getName();
-            }
-        }
-        return null;
+        return topologyCache.getDeploymentsByDomain(domainName).stream()
+                .findFirst()
+                .map(KubeDeployment::getName)
+                .orElse(null);
     }
 }
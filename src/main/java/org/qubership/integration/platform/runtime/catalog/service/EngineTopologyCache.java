@@ -0,0 +1,317 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.kubernetes.KubeApiException;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.EventActionType;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubePod;
+import org.qubership.integration.platform.runtime.catalog.util.DevModeUtil;
+import org.qubership.integration.platform.runtime.catalog.util.EngineDomainUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory model of engine deployments and their pods, kept up to date by Kubernetes informers.
+ * <p>
+ * Reads are served from the informer caches once both of them are synced. Until then, or if the
+ * informers are disabled, reads go to the Kubernetes API as before. Reads also go to the API when
+ * the informers have received nothing for two resync periods, since every resync redelivers all
+ * watched objects: a broken watch is not noticed by the informers themselves.
+ */
+@Slf4j
+@Component
+public class EngineTopologyCache {
+    public static final String ENGINE_NAME_LABEL = "name";
+
+    private static final String DOMAIN_INDEX = "domain";
+    private static final String DEPLOYMENT_INDEX = "deployment";
+    private static final String METRIC_PREFIX = "qip.engine.topology";
+
+    /**
+     * Receives changes of engine pods, after the initial listing has been loaded
+     */
+    @FunctionalInterface
+    public interface PodListener {
+        void onPodChanged(KubePod pod, String domainName, EventActionType actionType);
+    }
+
+    private final KubeOperator operator;
+    private final EngineDomainUtils domainUtils;
+    private final DevModeUtil devModeUtil;
+    private final String engineAppCheckLabel;
+    private final boolean enabled;
+    private final Duration resyncPeriod;
+    private final long maxStalenessMillis;
+    private final Clock clock;
+
+    private final List<PodListener> podListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastUpdateMillis;
+    private final Counter deploymentResyncs;
+    private final Counter podResyncs;
+    private final Counter apiFallbacks;
+
+    private SharedInformerFactory informerFactory;
+    private volatile SharedIndexInformer<V1Deployment> deploymentsInformer;
+    private volatile SharedIndexInformer<V1Pod> podsInformer;
+
+    @Autowired
+    public EngineTopologyCache(KubeOperator operator,
+                               EngineDomainUtils domainUtils,
+                               DevModeUtil devModeUtil,
+                               MeterRegistry meterRegistry,
+                               @Value("${qip.engine.app-check-custom-label}") String engineAppCheckLabel,
+                               @Value("${qip.engine.topology-cache.enabled:true}") boolean enabled,
+                               @Value("${qip.engine.topology-cache.resync-period:PT5M}") Duration resyncPeriod) {
+        this(operator, domainUtils, devModeUtil, meterRegistry, engineAppCheckLabel, enabled, resyncPeriod, Clock.systemUTC());
+    }
+
+    EngineTopologyCache(KubeOperator operator,
+                        EngineDomainUtils domainUtils,
+                        DevModeUtil devModeUtil,
+                        MeterRegistry meterRegistry,
+                        String engineAppCheckLabel,
+                        boolean enabled,
+                        Duration resyncPeriod,
+                        Clock clock) {
+        this.operator = operator;
+        this.domainUtils = domainUtils;
+        this.devModeUtil = devModeUtil;
+        this.engineAppCheckLabel = engineAppCheckLabel;
+        this.enabled = enabled;
+        this.resyncPeriod = resyncPeriod;
+        this.maxStalenessMillis = 2 * resyncPeriod.toMillis();
+        this.clock = clock;
+        this.lastUpdateMillis = new AtomicLong(clock.millis());
+
+        Gauge.builder(METRIC_PREFIX + ".synced", this, cache -> cache.isSynced() ? 1 : 0)
+                .description("Whether engine deployments and pods are served from the informer cache")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".staleness", this, cache -> cache.getStalenessMillis() / 1000.0)
+                .description("Seconds since the last watch event or resync received by the engine topology informers")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deploymentResyncs = resyncCounter(meterRegistry, "deployment");
+        this.podResyncs = resyncCounter(meterRegistry, "pod");
+        this.apiFallbacks = Counter.builder(METRIC_PREFIX + ".api.fallbacks")
+                .description("Engine topology reads sent to the Kubernetes API because the informers were not synced or stale")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || devModeUtil.isDevMode() || !operator.isConfigured() || informerFactory != null) {
+            return;
+        }
+        long resyncMillis = resyncPeriod.toMillis();
+        informerFactory = operator.createInformerFactory();
+
+        SharedIndexInformer<V1Deployment> deployments = operator.createDeploymentsInformer(
+                informerFactory, engineAppCheckLabel, resyncMillis);
+        deployments.addIndexers(Map.of(DOMAIN_INDEX,
+                deployment -> List.of(domainUtils.convertKubeDeploymentToDomainName(deployment.getMetadata().getName()))));
+        deployments.addEventHandler(new TopologyEventHandler<>(deploymentResyncs, object -> { }));
+
+        SharedIndexInformer<V1Pod> pods = operator.createPodsInformer(informerFactory, ENGINE_NAME_LABEL, resyncMillis);
+        pods.addIndexers(Map.of(DEPLOYMENT_INDEX, pod -> {
+            String deploymentName = getLabel(pod.getMetadata(), ENGINE_NAME_LABEL);
+            return deploymentName == null ? List.of() : List.of(deploymentName);
+        }));
+        pods.addEventHandler(new TopologyEventHandler<>(podResyncs, this::notifyPodListeners));
+
+        deploymentsInformer = deployments;
+        podsInformer = pods;
+        informerFactory.startAllRegisteredInformers();
+        log.info("Engine topology informers started, resync period {}", resyncPeriod);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (informerFactory != null) {
+            informerFactory.stopAllRegisteredInformers();
+            informerFactory = null;
+            deploymentsInformer = null;
+            podsInformer = null;
+        }
+    }
+
+    /**
+     * @return whether both informers are synced and have received an event or a resync recently
+     */
+    public boolean isSynced() {
+        SharedIndexInformer<V1Deployment> deployments = deploymentsInformer;
+        SharedIndexInformer<V1Pod> pods = podsInformer;
+        return deployments != null && pods != null && deployments.hasSynced() && pods.hasSynced()
+                && getStalenessMillis() <= maxStalenessMillis;
+    }
+
+    private long getStalenessMillis() {
+        return clock.millis() - lastUpdateMillis.get();
+    }
+
+    public void addPodListener(PodListener listener) {
+        podListeners.add(listener);
+    }
+
+    /**
+     * @return engine deployments sorted by name, deployment names are returned as is
+     */
+    public List<KubeDeployment> getDeployments() throws KubeApiException {
+        SharedIndexInformer<V1Deployment> deployments = deploymentsInformer;
+        if (!isSynced()) {
+            apiFallbacks.increment();
+            return operator.getDeploymentsByLabel(engineAppCheckLabel);
+        }
+        return toSortedDeployments(deployments.getIndexer().list());
+    }
+
+    /**
+     * @return engine deployments serving the domain sorted by name, deployment names are returned as is
+     */
+    public List<KubeDeployment> getDeploymentsByDomain(String domainName) throws KubeApiException {
+        SharedIndexInformer<V1Deployment> deployments = deploymentsInformer;
+        if (!isSynced()) {
+            apiFallbacks.increment();
+            return operator.getDeploymentsByLabel(engineAppCheckLabel).stream()
+                    .filter(deployment -> domainUtils.convertKubeDeploymentToDomainName(deployment.getName()).equals(domainName))
+                    .collect(Collectors.toList());
+        }
+        return toSortedDeployments(deployments.getIndexer().byIndex(DOMAIN_INDEX, domainName));
+    }
+
+    public List<KubePod> getPods(String deploymentName) throws KubeApiException {
+        SharedIndexInformer<V1Pod> pods = podsInformer;
+        if (deploymentName == null) {
+            return new ArrayList<>();
+        }
+        if (!isSynced()) {
+            apiFallbacks.increment();
+            return operator.getPodsByLabel(ENGINE_NAME_LABEL, deploymentName);
+        }
+        return pods.getIndexer().byIndex(DEPLOYMENT_INDEX, deploymentName).stream()
+                .sorted(Comparator.comparing(pod -> pod.getMetadata().getName()))
+                .map(operator::toKubePod)
+                .collect(Collectors.toList());
+    }
+
+    private List<KubeDeployment> toSortedDeployments(Collection<V1Deployment> deployments) {
+        return deployments.stream()
+                .sorted(Comparator.comparing(deployment -> deployment.getMetadata().getName()))
+                .map(operator::toKubeDeployment)
+                .collect(Collectors.toList());
+    }
+
+    private void notifyPodListeners(TopologyEvent<V1Pod> event) {
+        if (podListeners.isEmpty() || !isSynced()) {
+            return;
+        }
+        String deploymentName = getLabel(event.object().getMetadata(), ENGINE_NAME_LABEL);
+        SharedIndexInformer<V1Deployment> deployments = deploymentsInformer;
+        if (deploymentName == null || deployments == null
+                || deployments.getIndexer().getByKey(namespacedKey(event.object().getMetadata(), deploymentName)) == null) {
+            // pod of some other application
+            return;
+        }
+        KubePod pod = operator.toKubePod(event.object());
+        String domainName = domainUtils.convertKubeDeploymentToDomainName(deploymentName);
+        for (PodListener listener : podListeners) {
+            try {
+                listener.onPodChanged(pod, domainName, event.actionType());
+            } catch (Exception e) {
+                log.warn("Engine pod listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static String namespacedKey(V1ObjectMeta podMetadata, String deploymentName) {
+        return podMetadata.getNamespace() == null ? deploymentName : podMetadata.getNamespace() + "/" + deploymentName;
+    }
+
+    private static String getLabel(V1ObjectMeta metadata, String label) {
+        return metadata == null || metadata.getLabels() == null ? null : metadata.getLabels().get(label);
+    }
+
+    private static Counter resyncCounter(MeterRegistry meterRegistry, String resource) {
+        return Counter.builder(METRIC_PREFIX + ".resyncs")
+                .description("Unchanged objects redelivered by periodic resyncs of the engine topology informers")
+                .tag("resource", resource)
+                .register(meterRegistry);
+    }
+
+    private record TopologyEvent<T>(T object, EventActionType actionType) {
+    }
+
+    private class TopologyEventHandler<T extends KubernetesObject> implements ResourceEventHandler<T> {
+        private final Counter resyncs;
+        private final Consumer<TopologyEvent<T>> consumer;
+
+        TopologyEventHandler(Counter resyncs, Consumer<TopologyEvent<T>> consumer) {
+            this.resyncs = resyncs;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onAdd(T object) {
+            lastUpdateMillis.set(clock.millis());
+            consumer.accept(new TopologyEvent<>(object, EventActionType.ADDED));
+        }
+
+        @Override
+        public void onUpdate(T oldObject, T newObject) {
+            lastUpdateMillis.set(clock.millis());
+            if (Objects.equals(resourceVersion(oldObject), resourceVersion(newObject))) {
+                resyncs.increment();
+                return;
+            }
+            consumer.accept(new TopologyEvent<>(newObject, EventActionType.MODIFIED));
+        }
+
+        @Override
+        public void onDelete(T object, boolean deletedFinalStateUnknown) {
+            lastUpdateMillis.set(clock.millis());
+            consumer.accept(new TopologyEvent<>(object, EventActionType.DELETED));
+        }
+
+        private String resourceVersion(T object) {
+            return object.getMetadata() == null ? null : object.getMetadata().getResourceVersion();
+        }
+    }
+}
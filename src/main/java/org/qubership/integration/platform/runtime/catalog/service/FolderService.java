@@ -98,8 +98,13 @@ public Folder findEntityByIdOrNull(String folderId) {
     }
 
     public Map<String, String> provideNavigationPath(String folderId) {
-        var folder = findById(folderId);
-        return folder.getAncestors();
+        List<Folder> path = folderRepository.getPath(folderId);
+        if (path.isEmpty()) {
+            throw new EntityNotFoundException(FOLDER_WITH_ID_NOT_FOUND_MESSAGE + folderId);
+        }
+        Map<String, String> navigationMap = new LinkedHashMap<>();
+        path.forEach(folder -> navigationMap.put(folder.getId(), folder.getName()));
+        return navigationMap;
     }
 
     public Folder save(Folder folder, String parentFolderId) {
@@ -240,66 +245,35 @@ public List<Folder> getFoldersHierarchically(List<? extends FoldableEntity> rela
     }
 
     public void deleteById(String folderId) {
-        Folder folder = findById(folderId);
-        deleteRuntimeDeployments(folder);
-        List<FoldableEntity> nestedEntities = findAllNestedFoldableEntity(folderId);
-        folderRepository.deleteById(folderId);
-
-        for (FoldableEntity entity : nestedEntities) {
-            if (!(entity instanceof Folder)) {
-                actionLogger.logAction(ActionLog.builder()
-                        .entityType(EntityType.CHAIN)
-                        .entityId(entity.getId())
-                        .entityName(entity.getName())
-                        .parentType(entity.getParentFolder() == null ? null : EntityType.FOLDER)
-                        .parentId(entity.getParentFolder() == null ? null : entity.getParentFolder().getId())
-                        .parentName(entity.getParentFolder() == null ? null : entity.getParentFolder().getName())
-                        .operation(LogOperation.DELETE)
-                        .build());
-            }
-        }
+        findById(folderId);
+        deleteByIds(List.of(folderId));
     }
 
     public void deleteByIds(List<String> folderIds) {
         List<Chain> chains = chainRepository.findAllChainsInFolders(folderIds);
-        chains.forEach(FoldableEntity::getParentFolder); // To ensure that parent folders are loaded.
-        chains.stream().map(Chain::getId).toList().forEach(deploymentService::deleteAllByChainId);
+        // To ensure that parent folders are loaded with a single query before they are deleted.
+        folderRepository.findAllById(chains.stream()
+                .map(Chain::getParentFolder)
+                .filter(Objects::nonNull)
+                .map(Folder::getId)
+                .collect(Collectors.toSet()));
+        List<ActionLog> chainDeleteActions = chains.stream()
+                .map(chain -> {
+                    Optional<Folder> folder = Optional.ofNullable(chain.getParentFolder());
+                    return ActionLog.builder()
+                            .entityType(EntityType.CHAIN)
+                            .entityId(chain.getId())
+                            .entityName(chain.getName())
+                            .parentType(folder.isPresent() ? EntityType.FOLDER : null)
+                            .parentId(folder.map(Folder::getId).orElse(null))
+                            .parentName(folder.map(Folder::getName).orElse(null))
+                            .operation(LogOperation.DELETE)
+                            .build();
+                })
+                .toList();
+        deploymentService.deleteAllByChainIds(chains.stream().map(Chain::getId).toList());
         folderRepository.deleteFolderTree(folderIds);
-        chains.forEach(chain -> {
-            Optional<Folder> folder = Optional.ofNullable(chain.getParentFolder());
-            actionLogger.logAction(ActionLog.builder()
-                    .entityType(EntityType.CHAIN)
-                    .entityId(chain.getId())
-                    .entityName(chain.getName())
-                    .parentType(folder.isPresent() ? EntityType.FOLDER : null)
-                    .parentId(folder.map(Folder::getId).orElse(null))
-                    .parentName(folder.map(Folder::getName).orElse(null))
-                    .operation(LogOperation.DELETE)
-                    .build());
-        });
-    }
-
-    private void deleteRuntimeDeployments(Folder folder) {
-        for (Chain chain : folder.getChainList()) {
-            deploymentService.deleteAllByChainId(chain.getId());
-        }
-        for (Folder subfolder : folder.getFolderList()) {
-            deleteRuntimeDeployments(subfolder);
-        }
-    }
-
-    private List<FoldableEntity> findAllNestedFoldableEntity(String folderId) {
-        List<FoldableEntity> entities = new ArrayList<>();
-        folderRepository.findById(folderId).ifPresent(value -> collectAllNestedFoldableEntityRecursive(entities, value));
-        return entities;
-    }
-
-    private void collectAllNestedFoldableEntityRecursive(List<FoldableEntity> entities, Folder folder) {
-        entities.add(folder);
-        entities.addAll(folder.getChainList());
-        for (Folder subfolder : folder.getFolderList()) {
-            collectAllNestedFoldableEntityRecursive(entities, subfolder);
-        }
+        chainDeleteActions.forEach(actionLogger::logAction);
     }
 
     public List<Chain> findNestedChains(String folderId, FolderContentFilter filter) {
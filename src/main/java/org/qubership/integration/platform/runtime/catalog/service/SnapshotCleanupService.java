@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.qubership.integration.platform.runtime.catalog.context.RequestIdContext;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.SnapshotRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.SnapshotRepository.SnapshotPruneCandidate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.Period;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes old snapshots in the background.
+ * <p>
+ * Snapshots are scanned in keyset batches by creation time. Each batch resolves in one query
+ * which snapshots can be deleted and the names of their chains. The batch is then deleted in its own
+ * short transaction, at a limited rate, and the deletions are written to the actions log in bulk.
+ */
+@Slf4j
+@Service
+public class SnapshotCleanupService {
+
+    private static final String SNAPSHOT_CLEANUP_METRIC_NAME = "qip.snapshots.cleanup";
+    private static final Timestamp MIN_CREATED_WHEN = new Timestamp(0);
+
+    private final SnapshotRepository snapshotRepository;
+    private final ActionsLogService actionLogger;
+    private final TransactionHandler transactionHandler;
+    private final Executor cleanupExecutor;
+    private final int keepLatest;
+    private final RateLimiter rateLimiter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong deleted = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Timer durationTimer;
+
+    @Autowired
+    public SnapshotCleanupService(
+            SnapshotRepository snapshotRepository,
+            ActionsLogService actionLogger,
+            TransactionHandler transactionHandler,
+            @Qualifier("snapshotCleanupExecutor") Executor cleanupExecutor,
+            @Value("${qip.snapshots.cleanup.keep-latest}") int keepLatest,
+            @Value("${qip.snapshots.cleanup.rate-limit}") double rateLimit,
+            MeterRegistry meterRegistry
+    ) {
+        this.snapshotRepository = snapshotRepository;
+        this.actionLogger = actionLogger;
+        this.transactionHandler = transactionHandler;
+        this.cleanupExecutor = cleanupExecutor;
+        this.keepLatest = keepLatest;
+        this.rateLimiter = rateLimit > 0 ? RateLimiter.create(rateLimit) : null;
+        this.deletedCounter = Counter.builder(SNAPSHOT_CLEANUP_METRIC_NAME + ".deleted")
+                .description("Number of snapshots deleted by the cleanup")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder(SNAPSHOT_CLEANUP_METRIC_NAME + ".duration")
+                .description("Time spent on a snapshot cleanup run")
+                .register(meterRegistry);
+        Gauge.builder(SNAPSHOT_CLEANUP_METRIC_NAME + ".running", running, flag -> flag.get() ? 1 : 0)
+                .description("Whether a snapshot cleanup is running")
+                .register(meterRegistry);
+        Gauge.builder(SNAPSHOT_CLEANUP_METRIC_NAME + ".progress.scanned", scanned, AtomicLong::get)
+                .description("Number of snapshots scanned by the current or last cleanup run")
+                .register(meterRegistry);
+        Gauge.builder(SNAPSHOT_CLEANUP_METRIC_NAME + ".progress.deleted", deleted, AtomicLong::get)
+                .description("Number of snapshots deleted by the current or last cleanup run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts deletion of snapshots older than the given number of days, unless a cleanup is already running.
+     *
+     * @param olderThanDays snapshots created earlier are deleted
+     * @param batchSize number of snapshots scanned and deleted at once
+     */
+    public void pruneSnapshotsAsync(int olderThanDays, int batchSize) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Snapshot cleanup is already running, skipping");
+            return;
+        }
+
+        actionLogger.logAction(ActionLog.builder()
+                .entityType(EntityType.SNAPSHOT_CLEANUP)
+                .operation(LogOperation.EXECUTE)
+                .build());
+
+        String requestId = RequestIdContext.get();
+        try {
+            cleanupExecutor.execute(() -> {
+                RequestIdContext.set(requestId);
+                try {
+                    pruneSnapshots(olderThanDays, batchSize);
+                } catch (Exception e) {
+                    log.error("Exception during snapshot cleanup", e);
+                } finally {
+                    running.set(false);
+                    RequestIdContext.clear();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.error("Failed to start snapshot cleanup", e);
+        }
+    }
+
+    private void pruneSnapshots(int olderThanDays, int batchSize) {
+        long startTime = System.currentTimeMillis();
+        Timestamp deletionDate = Timestamp.from(Instant.now().minus(Period.ofDays(olderThanDays)));
+        Timestamp afterCreatedWhen = MIN_CREATED_WHEN;
+        String afterId = "";
+        scanned.set(0);
+        deleted.set(0);
+
+        Timer.Sample sample = Timer.start();
+        List<SnapshotPruneCandidate> candidates;
+        do {
+            candidates = snapshotRepository.findPruneCandidates(
+                    deletionDate, keepLatest, afterCreatedWhen, afterId, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            SnapshotPruneCandidate last = candidates.get(candidates.size() - 1);
+            afterCreatedWhen = last.getCreatedWhen();
+            afterId = last.getId();
+            scanned.addAndGet(candidates.size());
+
+            Map<String, SnapshotPruneCandidate> victims = candidates.stream()
+                    .filter(candidate -> Boolean.TRUE.equals(candidate.getPrunable()))
+                    .collect(Collectors.toMap(SnapshotPruneCandidate::getId, Function.identity(),
+                            (first, second) -> first, LinkedHashMap::new));
+            if (!victims.isEmpty()) {
+                deleteBatch(victims);
+            }
+        } while (candidates.size() == batchSize);
+        sample.stop(durationTimer);
+
+        String durationStr = DurationFormatUtils.formatDurationWords(
+                System.currentTimeMillis() - startTime, true, false);
+        log.info("Snapshots removed successfully: {} of {} scanned. Time elapsed: {}",
+                deleted.get(), scanned.get(), durationStr);
+    }
+
+    private void deleteBatch(Map<String, SnapshotPruneCandidate> victims) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(victims.size());
+        }
+        List<String> deletedIds = transactionHandler.supplyInNewTransaction(
+                () -> snapshotRepository.deleteUnusedByIdIn(victims.keySet()));
+        deletedCounter.increment(deletedIds.size());
+        long deletedTotal = deleted.addAndGet(deletedIds.size());
+
+        actionLogger.logActions(deletedIds.stream()
+                .map(victims::get)
+                .filter(Objects::nonNull)
+                .map(SnapshotCleanupService::buildDeleteAction)
+                .toList());
+
+        log.debug("Snapshots chunk of {} removed, currently removed {}", deletedIds.size(), deletedTotal);
+    }
+
+    private static ActionLog buildDeleteAction(SnapshotPruneCandidate snapshot) {
+        return ActionLog.builder()
+                .entityType(EntityType.SNAPSHOT)
+                .entityId(snapshot.getId())
+                .entityName(snapshot.getName())
+                .parentType(snapshot.getChainId() == null ? null : EntityType.CHAIN)
+                .parentId(snapshot.getChainId())
+                .parentName(snapshot.getChainName())
+                .operation(LogOperation.DELETE)
+                .build();
+    }
+}
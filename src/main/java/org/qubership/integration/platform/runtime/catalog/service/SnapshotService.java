@@ -19,12 +19,9 @@
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.qubership.integration.platform.runtime.catalog.builder.XmlBuilder;
-import org.qubership.integration.platform.runtime.catalog.context.RequestIdContext;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.SnapshotCreationException;
-import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
-import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractLabel;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
@@ -37,10 +34,15 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.SnapshotXmlDefinitionRepository;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.service.verification.ElementPropertiesVerificationService;
 import org.qubership.integration.platform.runtime.catalog.service.verification.properties.VerificationError;
+import org.qubership.integration.platform.runtime.catalog.util.ChainContentHashUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.info.BuildProperties;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -48,11 +50,7 @@
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
-import java.time.Instant;
-import java.time.Period;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -65,6 +63,7 @@ public class SnapshotService {
     private static final String CONFIGURATION_WITH_ID_NOT_FOUND_MESSAGE = "Can't find configuration with id ";
 
     private final SnapshotRepository snapshotRepository;
+    private final SnapshotXmlDefinitionRepository snapshotXmlDefinitionRepository;
     private final ElementRepository elementRepository;
     private final ChainRepository chainRepository;
     private final ElementService elementService;
@@ -75,11 +74,13 @@ public class SnapshotService {
     private final ActionsLogService actionLogger;
     private final ElementPropertiesVerificationService elementPropertiesVerificationService;
     private final MaskedFieldsService maskedFieldsService;
-    private final TransactionHandler transactionHandler;
     private final SnapshotService self;
+    private final boolean reuseIdenticalSnapshots;
+    private final String builderVersion;
 
     @Autowired
     public SnapshotService(SnapshotRepository snapshotRepository,
+                           SnapshotXmlDefinitionRepository snapshotXmlDefinitionRepository,
                            ElementRepository elementRepository,
                            ChainRepository chainRepository,
                            ElementService elementService,
@@ -91,8 +92,11 @@ public SnapshotService(SnapshotRepository snapshotRepository,
                            ActionsLogService actionLogger,
                            ElementPropertiesVerificationService elementPropertiesVerificationService,
                            MaskedFieldsService maskedFieldsService,
-                           TransactionHandler transactionHandler) {
+                           @Value("${qip.snapshots.reuse-identical}") boolean reuseIdenticalSnapshots,
+                           @Value("${qip.build.artifact-descriptor-version}") String artifactDescriptorVersion,
+                           ObjectProvider<BuildProperties> buildProperties) {
         this.snapshotRepository = snapshotRepository;
+        this.snapshotXmlDefinitionRepository = snapshotXmlDefinitionRepository;
         this.elementRepository = elementRepository;
         this.chainRepository = chainRepository;
         this.elementService = elementService;
@@ -103,8 +107,9 @@ public SnapshotService(SnapshotRepository snapshotRepository,
         this.actionLogger = actionLogger;
         this.elementPropertiesVerificationService = elementPropertiesVerificationService;
         this.maskedFieldsService = maskedFieldsService;
-        this.transactionHandler = transactionHandler;
         this.self = self;
+        this.reuseIdenticalSnapshots = reuseIdenticalSnapshots;
+        this.builderVersion = getBuilderVersion(artifactDescriptorVersion, buildProperties.getIfAvailable());
     }
 
     public Snapshot findById(String snapshotId) {
@@ -112,6 +117,27 @@ public Snapshot findById(String snapshotId) {
                 .orElseThrow(() -> new EntityNotFoundException(CONFIGURATION_WITH_ID_NOT_FOUND_MESSAGE + snapshotId));
     }
 
+    /**
+     * Loads the snapshot with its elements and container children, which is what building
+     * a deployment configuration reads, in a fixed number of queries.
+     */
+    public Snapshot findByIdForDeployment(String snapshotId) {
+        Snapshot snapshot = snapshotRepository.findWithElementsById(snapshotId)
+                .orElseThrow(() -> new EntityNotFoundException(CONFIGURATION_WITH_ID_NOT_FOUND_MESSAGE + snapshotId));
+        elementRepository.fetchChildrenBySnapshotId(snapshotId);
+        return snapshot;
+    }
+
+    /**
+     * Same as {@link #findByIdForDeployment(String)}, with element dependencies loaded as well.
+     */
+    public Snapshot findByIdWithElementTree(String snapshotId) {
+        Snapshot snapshot = findByIdForDeployment(snapshotId);
+        elementRepository.fetchInputDependenciesBySnapshotId(snapshotId);
+        elementRepository.fetchOutputDependenciesBySnapshotId(snapshotId);
+        return snapshot;
+    }
+
     // Map<chainId, snapshot>
     public Map<String, Snapshot> findLastCreatedOrBuild(Collection<String> chainIds, BiConsumer<String, String> errorHandler) {
         Map<String, Snapshot> snapshots = snapshotRepository.findAllLastCreated(chainIds).stream()
@@ -125,6 +151,12 @@ public Map<String, Snapshot> findLastCreatedOrBuild(Collection<String> chainIds,
         return snapshots;
     }
 
+    public String getXmlDefinition(String snapshotId) {
+        return snapshotXmlDefinitionRepository.findById(snapshotId)
+                .map(SnapshotXmlDefinition::getXml)
+                .orElseThrow(() -> new EntityNotFoundException(CONFIGURATION_WITH_ID_NOT_FOUND_MESSAGE + snapshotId));
+    }
+
     public Optional<Snapshot> tryFindById(String snapshotId) {
         return snapshotRepository.findById(snapshotId);
     }
@@ -152,16 +184,35 @@ public Snapshot build(String chainId) {
         return build(chainId, null);
     }
 
+    /**
+     * Builds a snapshot of the chain. If the chain content, including the environments of the used services,
+     * has not changed since the latest snapshot was built and that snapshot has the requested technical labels,
+     * the latest snapshot is made current and returned instead of copying the chain again.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Snapshot build(String chainId, Set<String> technicalLabels) {
-        Chain chain = chainFinderService.findById(chainId);
+        Chain chain = chainFinderService.findByIdWithElementTree(chainId);
         verifyElementProperties(chain);
 
+        List<ServiceEnvironment> environments = elementService.generateElementsEnvironments(chain.getElements());
+        String contentHash = ChainContentHashUtils.treeHash(builderVersion, chain.getElements(), chain.getMaskedFields(),
+                environments, chain.getDefaultSwimlane(), chain.getReuseSwimlane());
+
+        Optional<Snapshot> identicalSnapshot = findIdenticalSnapshot(chainId, contentHash, technicalLabels);
+        if (identicalSnapshot.isPresent()) {
+            Snapshot snapshot = identicalSnapshot.get();
+            log.info("Chain {} has not changed since snapshot {} was built, reusing it", chainId, snapshot.getId());
+            chainRepository.updateCurrentSnapshot(chainId, snapshot);
+            chainRepository.updateUnsavedChanges(chainId, false);
+            return snapshot;
+        }
+
         String name = snapshotRepository.getNextAvailableName(chainId);
 
         Snapshot snapshot = Snapshot.builder()
                         .name(name)
                         .chain(chain)
+                        .contentHash(contentHash)
                         .build();
         if (CollectionUtils.isNotEmpty(technicalLabels)) {
             snapshot.addLabels(getSnapshotTechnicalLabels(technicalLabels, snapshot));
@@ -172,10 +223,11 @@ public Snapshot build(String chainId, Set<String> technicalLabels) {
         moveElementsToSnapshot(chain, snapshot);
         moveMaskedFields(chain.getMaskedFields(), snapshot);
         List<ChainElement> snapshotElements = snapshot.getElements();
-        fillServiceEnvironments(snapshotElements);
+        fillServiceEnvironments(snapshotElements, environments);
 
         try {
-            snapshot.setXmlDefinition(xmlBuilder.build(snapshotElements));
+            String xml = xmlBuilder.build(snapshotElements);
+            snapshotXmlDefinitionRepository.save(SnapshotXmlDefinition.of(snapshot.getId(), xml));
         } catch (Exception e) {
             log.error("Failed to build xml configuration: {}", e.getMessage());
             throw (e instanceof RuntimeException)
@@ -198,8 +250,31 @@ private Collection<SnapshotLabel> getSnapshotTechnicalLabels(Set<String> technic
         return snapshotLabels;
     }
 
-    private void fillServiceEnvironments(List<ChainElement> newElements) {
-        elementService.fillElementsEnvironment(newElements);
+    // Snapshot XML depends on the builder and templates, so snapshots built by another build of the service are not reused
+    private static String getBuilderVersion(String artifactDescriptorVersion, @Nullable BuildProperties buildProperties) {
+        if (buildProperties == null) {
+            return artifactDescriptorVersion;
+        }
+        return String.join(":", artifactDescriptorVersion, buildProperties.getVersion(),
+                String.valueOf(buildProperties.getTime()));
+    }
+
+    private Optional<Snapshot> findIdenticalSnapshot(String chainId, String contentHash, Set<String> technicalLabels) {
+        if (!reuseIdenticalSnapshots) {
+            return Optional.empty();
+        }
+        return snapshotRepository.findAllLastCreated(List.of(chainId)).stream()
+                .filter(snapshot -> contentHash.equals(snapshot.getContentHash()))
+                .filter(snapshot -> CollectionUtils.isEmpty(technicalLabels) || snapshot.getLabels().stream()
+                        .filter(AbstractLabel::isTechnical)
+                        .map(AbstractLabel::getName)
+                        .collect(Collectors.toSet())
+                        .containsAll(technicalLabels))
+                .findFirst();
+    }
+
+    private void fillServiceEnvironments(List<ChainElement> newElements, List<ServiceEnvironment> environments) {
+        elementService.fillElementsEnvironment(newElements, environments);
         elementRepository.saveAll(newElements);
     }
 
@@ -222,7 +297,7 @@ public Snapshot revert(String chainId, String snapshotId) {
         elementService.deleteAllByChainIdAndFlush(chainId);
         maskedFieldsService.deleteAllByChainIdAndFlush(chainId);
         Chain chain = chainFinderService.findById(chainId);
-        Snapshot snapshot = findById(snapshotId);
+        Snapshot snapshot = findByIdWithElementTree(snapshotId);
         revertElements(snapshot, chain);
         revertMaskedFields(snapshot.getMaskedFields(), chain);
         chain.setCurrentSnapshot(snapshot);
@@ -420,50 +495,4 @@ private void logSnapshotAction(String snapshotId, String snapshotName, String ch
                 .operation(operation)
                 .build());
     }
-
-    public void pruneSnapshotsAsync(int olderThanDays, int chunk) {
-        actionLogger.logAction(ActionLog.builder()
-                .entityType(EntityType.SNAPSHOT_CLEANUP)
-                .operation(LogOperation.EXECUTE)
-                .build());
-
-        String requestId = RequestIdContext.get();
-        CompletableFuture.runAsync(() -> {
-            RequestIdContext.set(requestId);
-            pruneSnapshots(olderThanDays, chunk);
-        }).whenCompleteAsync((ignored, throwable) -> {
-            RequestIdContext.set(requestId);
-            if (throwable != null) {
-                log.error("Exception during snapshot cleanup", throwable);
-            }
-        });
-    }
-
-    private void pruneSnapshots(int olderThanDays, int chunk) {
-        long deletedTotal = 0;
-        int deletedCurrent;
-
-        long startTime = System.currentTimeMillis();
-        Timestamp deletionDate = Timestamp.from(Instant.now().minus(Period.ofDays(olderThanDays)));
-
-        do {
-            deletedCurrent = transactionHandler.supplyInNewTransaction(() -> {
-                List<Map<String, String>> result = snapshotRepository.pruneByCreatedWhen(deletionDate, chunk);
-                result.forEach(s -> logSnapshotAction(
-                        s.get(AbstractEntity.Fields.id), s.get(AbstractEntity.Fields.name), s.get(Snapshot.Fields.chain),
-                        chainFinderService.tryFindById(s.get(Snapshot.Fields.chain)).map(Chain::getName).orElse(null), // XXX Potential performance improvement
-                        LogOperation.DELETE));
-                return result.size();
-            });
-            deletedTotal += deletedCurrent;
-
-            if (deletedCurrent > 0) {
-                log.debug("Snapshots chunk of {} removed, currently removed {}", deletedCurrent, deletedTotal);
-            }
-        } while (deletedCurrent > 0);
-
-        String durationStr = DurationFormatUtils.formatDurationWords(
-                System.currentTimeMillis() - startTime, true, false);
-        log.info("Snapshots removed successfully: {}. Time elapsed: {}", deletedTotal, durationStr);
-    }
 }
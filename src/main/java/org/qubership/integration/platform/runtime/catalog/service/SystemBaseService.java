@@ -72,6 +72,11 @@ public IntegrationSystem getByIdOrNull(String id) {
         return systemRepository.findById(id).orElse(null);
     }
 
+    @Transactional
+    public IntegrationSystem getByIdWithLockingOrNull(String id) {
+        return systemRepository.findWithLockingById(id).orElse(null);
+    }
+
     @Transactional
     public String getNameByIdOrNull(String id) {
         return systemRepository.findNameById(id);
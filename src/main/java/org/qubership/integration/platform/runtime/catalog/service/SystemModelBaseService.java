@@ -19,30 +19,18 @@
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.qubership.integration.platform.runtime.catalog.exception.exceptions.SystemModelLibraryGenerationException;
-import org.qubership.integration.platform.runtime.catalog.model.system.OperationProtocol;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.*;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelLabelsRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
-import org.qubership.integration.platform.runtime.catalog.service.codegen.SystemModelCodeGenerator;
-import org.qubership.integration.platform.runtime.catalog.service.codegen.TargetProtocol;
-import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilationError;
-import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilerService;
-import org.qubership.integration.platform.runtime.catalog.service.compiler.JarBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.jar.Manifest;
 import javax.annotation.Nullable;
 
 import static java.util.Objects.isNull;
@@ -55,24 +43,21 @@ public class SystemModelBaseService {
     protected static final String EMPTY_STRING = "";
 
     protected final SystemModelRepository systemModelRepository;
-    protected final List<SystemModelCodeGenerator> codeGenerators;
-    protected final CompilerService compilerService;
     protected final SystemModelLabelsRepository systemModelLabelsRepository;
     protected final ActionsLogService actionLogger;
+    private final CompiledLibraryBuildQueue compiledLibraryBuildQueue;
 
     @Autowired
     public SystemModelBaseService(
             SystemModelRepository systemModelRepository,
-            List<SystemModelCodeGenerator> codeGenerators,
-            CompilerService compilerService,
             SystemModelLabelsRepository systemModelLabelsRepository,
-            ActionsLogService actionLogger
+            ActionsLogService actionLogger,
+            CompiledLibraryBuildQueue compiledLibraryBuildQueue
     ) {
         this.systemModelRepository = systemModelRepository;
-        this.codeGenerators = codeGenerators;
-        this.compilerService = compilerService;
         this.systemModelLabelsRepository = systemModelLabelsRepository;
         this.actionLogger = actionLogger;
+        this.compiledLibraryBuildQueue = compiledLibraryBuildQueue;
     }
 
     public SystemModel getSystemModel(String modelId) {
@@ -142,19 +127,34 @@ public void updateCompiledLibrariesForSystem(String systemId) {
                 .forEach(this::patchModelWithCompiledLibrary);
     }
 
+    /**
+     * Marks the model library as pending. The library is built in the background
+     * after the current transaction is committed, see {@link CompiledLibraryBuildQueue}.
+     */
     @Transactional
     public void patchModelWithCompiledLibrary(SystemModel model) {
         if (isNull(model)) {
             return;
         }
-        byte[] data = generateJar(model);
         CompiledLibrary compiledLibrary = model.getCompiledLibrary();
         if (isNull(compiledLibrary)) {
             compiledLibrary = new CompiledLibrary();
             model.setCompiledLibrary(compiledLibrary);
         }
         compiledLibrary.setName(buildJarFileName(model));
-        compiledLibrary.setData(data);
+        compiledLibrary.setStatus(CompiledLibraryStatus.PENDING);
+        compiledLibrary.setErrorMessage(null);
+        compiledLibrary.setRevision(compiledLibrary.getRevision() + 1);
+        compiledLibraryBuildQueue.submit(model.getId());
+    }
+
+    /**
+     * Saves the model and requests a build of its library once the model is committed
+     */
+    @Transactional
+    public SystemModel saveWithCompiledLibrary(SystemModel model) {
+        patchModelWithCompiledLibrary(model);
+        return save(model);
     }
 
     protected void logModelAction(SystemModel model, SpecificationGroup group, LogOperation operation) {
@@ -178,49 +178,4 @@ private String buildJarFileName(SystemModel model) {
     private static String sanitizeString(String s) {
         return StringUtils.strip(s.replaceAll("[^\\d\\w_\\-.]+", "_"), "_");
     }
-
-
-    private byte[] generateJar(SystemModel model) {
-        try {
-            SystemModelCodeGenerator codeGenerator = getCodeGenerator(model);
-            if (isNull(codeGenerator)) {
-                return null;
-            }
-            log.debug("Generating library source code for system model with id {}", model.getId());
-            Map<String, String> code = codeGenerator.generateCode(model);
-            if (code.isEmpty()) {
-                log.debug("System model has no DTO classes: {}", model.getId());
-            }
-            Manifest manifest = codeGenerator.generateManifest(model);
-            log.debug("Compiling library for system model with id {}", model.getId());
-            Map<String, byte[]> compiledCode = code.isEmpty() ? Collections.emptyMap() : compilerService.compile(code);
-            JarBuilder jarBuilder = new JarBuilder();
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                jarBuilder.writeJar(outputStream, compiledCode, manifest);
-                outputStream.close();
-                return outputStream.toByteArray();
-            } catch (IOException exception) {
-                throw new SystemModelLibraryGenerationException("Failed to build jar.", exception);
-            }
-        } catch (CompilationError exception) {
-            throw new SystemModelLibraryGenerationException("Failed to compile code.", exception);
-        } catch (Exception exception) {
-            throw new SystemModelLibraryGenerationException("Failed to generate source code.", exception);
-        }
-    }
-
-    private SystemModelCodeGenerator getCodeGenerator(SystemModel model) {
-        OperationProtocol protocol = Optional.ofNullable(model)
-                .map(SystemModel::getSpecificationGroup)
-                .map(SpecificationGroup::getSystem)
-                .map(IntegrationSystem::getProtocol)
-                .orElse(null);
-        if (isNull(protocol)) {
-            return null;
-        }
-        return codeGenerators.stream().filter(generator ->
-                Optional.ofNullable(generator.getClass().getAnnotation(TargetProtocol.class))
-                        .map(TargetProtocol::protocol).map(protocol::equals).orElse(false)
-        ).findFirst().orElse(null);
-    }
 }
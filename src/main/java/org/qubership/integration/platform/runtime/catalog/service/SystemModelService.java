@@ -17,28 +17,21 @@
 package org.qubership.integration.platform.runtime.catalog.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.SpecificationDeleteException;
-import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractLabel;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
-import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.*;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelLabelsRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
-import org.qubership.integration.platform.runtime.catalog.service.codegen.SystemModelCodeGenerator;
-import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilerService;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ElementHelperService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static java.util.Objects.isNull;
 import static org.qubership.integration.platform.runtime.catalog.model.system.SystemModelSource.DISCOVERED;
 
 @Slf4j
@@ -50,13 +43,12 @@ public class SystemModelService extends SystemModelBaseService {
     @Autowired
     public SystemModelService(
             SystemModelRepository systemModelRepository,
-            List<SystemModelCodeGenerator> codeGenerators,
-            CompilerService compilerService,
             SystemModelLabelsRepository systemModelLabelsRepository,
             ElementHelperService elementHelperService,
-            ActionsLogService actionLogger
+            ActionsLogService actionLogger,
+            CompiledLibraryBuildQueue compiledLibraryBuildQueue
     ) {
-        super(systemModelRepository, codeGenerators, compilerService, systemModelLabelsRepository, actionLogger);
+        super(systemModelRepository, systemModelLabelsRepository, actionLogger, compiledLibraryBuildQueue);
         this.elementHelperService = elementHelperService;
     }
 
@@ -74,16 +66,12 @@ public SystemModel getLastDiscoveredSystemModelInGroup(String specificationGroup
     }
 
     public List<SystemModel> getSystemModelsBySystemId(String systemId) {
-        return systemModelRepository.findSystemModelsBySpecificationGroupSystemId(systemId).stream()
-                .peek(this::enrichSystemModelWithChains)
-                .collect(Collectors.toList());
+        return enrichSystemModelsWithChains(systemModelRepository.findSystemModelsBySpecificationGroupSystemId(systemId));
     }
 
     @Override
     public List<SystemModel> getSystemModelsBySpecificationGroupId(String specificationGroupId) {
-        return super.getSystemModelsBySpecificationGroupId(specificationGroupId).stream()
-                .peek(this::enrichSystemModelWithChains)
-                .collect(Collectors.toList());
+        return enrichSystemModelsWithChains(super.getSystemModelsBySpecificationGroupId(specificationGroupId));
     }
 
     public SystemModel getSystemModelByVersionAndSpecificationGroupId(String specificationGroupId, String version) {
@@ -91,18 +79,6 @@ public SystemModel getSystemModelByVersionAndSpecificationGroupId(String specifi
                 version);
     }
 
-    @Transactional
-    public Pair<byte[], String> getCompiledLibrary(String modelId) {
-        SystemModel model = getSystemModel(modelId);
-        CompiledLibrary compiledLibrary = model.getCompiledLibrary();
-        if (isNull(compiledLibrary)) {
-            return null;
-        }
-        String name = compiledLibrary.getName();
-        byte[] data = compiledLibrary.getData();
-        return isNull(data) ? null : Pair.of(data, name);
-    }
-
     public Optional<SystemModel> deleteSystemModelByIdIfExists(String modelId) {
         Optional<SystemModel> specificationOptional = systemModelRepository.findById(modelId);
         if (specificationOptional.isPresent()) {
@@ -170,19 +146,18 @@ public void deleteSystemModel(SystemModel model) {
         logModelAction(model, specificationGroup, LogOperation.DELETE);
     }
 
-    private void enrichSystemModelWithChains(SystemModel model) {
-        List<Chain> chains = elementHelperService.findBySystemAndModelId(null, model.getId());
-        model.setChains(chains);
-
-        for (Operation operation : model.getOperations()) {
-            List<Chain> operationChains = chains.stream()
-                    .flatMap(operationChain -> operationChain.getElements().stream())
-                    .filter(chainElement -> StringUtils.equals(operation.getId(), chainElement.getPropertyAsString(CamelOptions.OPERATION_ID)))
-                    .map(ChainElement::getChain)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-            operation.setChains(operationChains);
+    private List<SystemModel> enrichSystemModelsWithChains(List<SystemModel> models) {
+        Map<String, ElementHelperService.ModelChainUsages> usages = elementHelperService.findChainUsagesByModelIds(
+                models.stream().map(SystemModel::getId).collect(Collectors.toSet()));
+        for (SystemModel model : models) {
+            ElementHelperService.ModelChainUsages modelUsages = usages.get(model.getId());
+            model.setChains(modelUsages == null ? new ArrayList<>() : new ArrayList<>(modelUsages.chains()));
+            for (Operation operation : model.getOperations()) {
+                Set<Chain> operationChains = modelUsages == null
+                        ? null : modelUsages.operationChains().get(operation.getId());
+                operation.setChains(operationChains == null ? new ArrayList<>() : new ArrayList<>(operationChains));
+            }
         }
+        return models;
     }
 }
@@ -16,6 +16,8 @@
 
 package org.qubership.integration.platform.runtime.catalog.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -26,157 +28,20 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
 import org.qubership.integration.platform.runtime.catalog.util.MapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @Transactional
 public class UsedPropertiesAnalyzer {
 
-    /**
-     * Match examples:
-     * <code>
-     * <br/>exchange.message.headers.test1.tea
-     * <br/>exchange.message.headers.test1
-     * <br/>exchange.message.headers.'test1'
-     * <br/>exchange.message.headers.'test1--daAAAa_123fsfwsf'
-     * <br/>exchange.message.headers."test1"
-     * <br/>exchange.message.headers['test1']
-     * <br/>exchange.message.headers["test1"]
-     * <br/>exchange.message.getHeader('test1')
-     * <br/>exchange.message.getHeader("test1")
-     * <br/>exchange.getMessage().headers.test1
-     * <br/>exchange.getMessage().headers.'test1'
-     * <br/>exchange.getMessage().headers."test1"
-     * <br/>exchange.getMessage().headers['test1']
-     * <br/>exchange.getMessage().headers["test1"]
-     * <br/>exchange.getMessage().getHeader('test1')
-     * <br/>exchange.getMessage().getHeader("test1")
-     * <br/>exchange.getMessage().getHeaders().get('test1')
-     * <br/>exchange.getMessage().getHeaders().get("test1")
-     * <br/>exchange.message.getHeaders().get('test1')
-     * <br/>exchange.message.getHeaders().get("test1")
-     * </code>
-     */
-    private static final Pattern GROOVY_GET_HEADERS_PATTERN = Pattern.compile(
-            "exchange\\.(message|getMessage\\(\\))\\.(headers|getHeader\\(|getHeaders\\(\\))"
-                    + "((\\[(['\"]))|(\\.?((get\\(([\"']))|([\"'])?)))([a-zA-Z0-9_.\\-]+)(?!([^\\n\\r]*[=(]))", Pattern.CASE_INSENSITIVE);
-    public static final int[] GROOVY_GET_HEADER_GROUPS = {11};
-    /**
-     * Match examples:
-     * <code>
-     * <br/>exchange.message.headers.test1 = "test_value"
-     * <br/>exchange.message.headers['test1'] = "test_value"
-     * <br/>exchange.message.headers["test1"] = "test_value"
-     * <br/>exchange.message.setHeader('test1', "test_value")
-     * <br/>exchange.message.setHeader("test1", "test_value")
-     * <br/>exchange.getMessage().headers.test1 = "test_value"
-     * <br/>exchange.getMessage().headers['test1'] = "test_value"
-     * <br/>exchange.getMessage().headers["test1"] = "test_value"
-     * <br/>exchange.getMessage().setHeader('test1', "test_value")
-     * <br/>exchange.getMessage().setHeader("test1", "test_value")
-     * <p>
-     * <br/>exchange.getMessage().headers.remove('test1')
-     * <br/>exchange.getMessage().headers.remove("test1")
-     * <br/>exchange.message.headers.remove('test1')
-     * <br/>exchange.message.headers.remove("test1")
-     * <br/>exchange.message.removeHeader('test1')
-     * <br/>exchange.message.removeHeader("test1")
-     * <br/>exchange.getMessage().removeHeader('test1')
-     * <br/>exchange.getMessage().removeHeader("test1")
-     * </code>
-     */
-    private static final Pattern GROOVY_SET_HEADERS_PATTERN = Pattern.compile(
-            "exchange\\.(message|getMessage\\(\\))\\.((headers([\\[.]['\"]?)([a-zA-Z0-9_.\\-]+)(['\"]]?)?\\s+=)|"
-                    + "(setHeader\\(['\"]([a-zA-Z0-9_.\\-]+)(['\")]?))|"
-                    + "(((getHeaders\\(\\)|headers)\\.remove|removeHeader)(\\(['\"])([a-zA-Z0-9_.\\-]+)))", Pattern.CASE_INSENSITIVE);
-    public static final int[] GROOVY_SET_HEADER_GROUPS = {5, 8, 14};
-
-    /**
-     * Match examples:
-     * <code>
-     * <br/>exchange.properties.test1
-     * <br/>exchange.properties.'test1'
-     * <br/>exchange.properties."test1"
-     * <br/>exchange.properties['test1']
-     * <br/>exchange.properties["test1"]
-     * <br/>exchange.getProperty('test1')
-     * <br/>exchange.getProperty("test1")
-     * </code>
-     */
-    private static final Pattern GROOVY_GET_PROPERTIES_PATTERN = Pattern.compile(
-            "exchange\\.((properties|getProperty)((([\\[(])|(\\.))['\"]?)([a-zA-Z0-9_.\\-]+)(?!([^\\n\\r]*[=(])))", Pattern.CASE_INSENSITIVE);
-    public static final int[] GROOVY_GET_PROPERTIES_GROUPS = {7};
-
-    /**
-     * Match examples:
-     * <code>
-     * <br/>exchange.properties.test1 = "test_value"
-     * <br/>exchange.properties.'test1' = "test_value"
-     * <br/>exchange.properties."test1" = "test_value"
-     * <br/>exchange.properties['test1'] = "test_value"
-     * <br/>exchange.properties["test1"] = "test_value"
-     * <br/>exchange.setProperty('test1', "test_value")
-     * <br/>exchange.setProperty("test1", "test_value")
-     * <p>
-     * <br/>exchange.properties.remove('test1')
-     * <br/>exchange.properties.remove("test1")
-     * <br/>exchange.getProperties().remove('test1')
-     * <br/>exchange.getProperties().remove("test1")
-     * <br/>exchange.removeProperty('test1')
-     * <br/>exchange.removeProperty("test1")
-     * </code>
-     */
-    private static final Pattern GROOVY_SET_PROPERTIES_PATTERN = Pattern.compile(
-            "exchange\\.((properties[\\[.]['\"]?([a-zA-Z0-9_.\\-]+)(['\"]]?)?\\s+=)|"
-                    + "(setProperty\\(['\"]([a-zA-Z0-9_.\\-]+)['\"]\\)?)|"
-                    + "(properties\\.remove|getProperties\\(\\)\\.remove|removeProperty)(\\(['\"])([a-zA-Z0-9_.\\-]+))", Pattern.CASE_INSENSITIVE);
-    public static final int[] GROOVY_SET_PROPERTIES_GROUPS = {3, 6, 9};
-
-    /**
-     * Match examples:
-     * <code>
-     * <br/>${exchangeProperty.foo}
-     * <br/>${exchangeProperty.foo.size()}
-     * <br/>${exchangeProperty.'foo'.size()}
-     * <br/>${exchangeProperty.foo?.bar}
-     * <br/>${exchangeProperty[foo]}
-     * <br/>${exchangeProperty['foo']}
-     * <br/>${exchangeProperty[foo]?.bar}
-     * <br/>${exchangeProperty[foo.bar]}
-     * <br/>${exchangeProperty['foo']}
-     * <br/>${exchangeProperty['foo.bar']}
-     * </code>
-     */
-    private static final Pattern PROPS_SIMPLE_PATTERN = Pattern.compile(
-            "\\$\\{exchangeProperty((\\.([a-zA-Z0-9_\\-]+))|([.\\[]'?([a-zA-Z0-9_.\\-]+)))[^}]*}", Pattern.CASE_INSENSITIVE);
-    public static final int[] EX_PROP_GROUPS = {3, 5};
-
-    /**
-     * Match examples:
-     * <code>
-     * <br/>${header(s).foo}
-     * <br/>${header(s).foo.size()}
-     * <br/>${header(s).'foo'}
-     * <br/>${header(s).foo?.bar}
-     * <br/>${header(s)[foo]}
-     * <br/>${header(s)[foo.bar]}
-     * <br/>${header(s)['foo']}
-     * <br/>${header(s)['foo']?.bar}
-     * <br/>${headerAs('foo', Type)}
-     * </code>
-     */
-    private static final Pattern HEADERS_SIMPLE_PATTERN = Pattern.compile(
-            "\\$\\{headera?s?((\\.([a-zA-Z0-9_\\-]+))|([.\\[(]'?([a-zA-Z0-9_.\\-]+)))[^}]*}", Pattern.CASE_INSENSITIVE);
-    public static final int[] EX_HEADER_GROUPS = {3, 5};
-
     private static final Set<String> ELEMENTS_WITH_SCRIPT = Set.of(
             CamelNames.SCRIPT, CamelNames.SERVICE_CALL_COMPONENT, CamelNames.HTTP_TRIGGER_COMPONENT);
     private static final Set<String> ELEMENTS_WITH_MAPPER = Set.of(
@@ -187,10 +52,16 @@ public class UsedPropertiesAnalyzer {
     public static final String MAPPING_DESCRIPTION = "mappingDescription";
 
     private final ElementRepository elementRepository;
+    // Properties used by a single element, valid as long as the element is not modified
+    private final Cache<ElementKey, Map<String, UsedProperty>> elementPropertiesCache;
 
     @Autowired
-    public UsedPropertiesAnalyzer(ElementRepository elementRepository) {
+    public UsedPropertiesAnalyzer(ElementRepository elementRepository,
+                                  @Value("${qip.chains.used-properties.cache-size:10000}") long cacheSize) {
         this.elementRepository = elementRepository;
+        this.elementPropertiesCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
     }
 
     public List<UsedProperty> getUsedProperties(String chainId) {
@@ -198,16 +69,45 @@ public List<UsedProperty> getUsedProperties(String chainId) {
         // key = name + type
         Map<String, UsedProperty> usedProperties = new HashMap<>();
         for (ChainElement chainElement : chainElements) {
-            findUsedProperties(chainElement, chainElement.getProperties(), usedProperties);
-
-            findUsedPropertiesInScript(chainElement, usedProperties);
-            findUsedPropertiesInMapper(chainElement, usedProperties);
-            findUsedPropertiesInHeaderModification(chainElement, usedProperties);
+            for (Map.Entry<String, UsedProperty> entry : getElementUsedProperties(chainElement).entrySet()) {
+                UsedProperty elementProperty = entry.getValue();
+                UsedProperty usedProperty = usedProperties.computeIfAbsent(entry.getKey(), key ->
+                        UsedProperty.builder()
+                                .name(elementProperty.getName())
+                                .source(elementProperty.getSource())
+                                .type(elementProperty.getType())
+                                .isArray(elementProperty.isArray())
+                                .attributeDataType(elementProperty.getAttributeDataType())
+                                .build());
+                // element ids are unique, so an element never collides with elements merged before
+                usedProperty.getRelatedElements().putAll(elementProperty.getRelatedElements());
+            }
         }
 
         return new ArrayList<>(usedProperties.values());
     }
 
+    /**
+     * Returns the properties used by the element. The result is shared through the cache and must not be modified.
+     */
+    private Map<String, UsedProperty> getElementUsedProperties(ChainElement element) {
+        Timestamp modifiedWhen = element.getModifiedWhen();
+        ElementKey key = modifiedWhen == null ? null : new ElementKey(element.getId(), modifiedWhen);
+        Map<String, UsedProperty> usedProperties = key == null ? null : elementPropertiesCache.getIfPresent(key);
+        if (usedProperties == null) {
+            usedProperties = new HashMap<>();
+            findUsedProperties(element, element.getProperties(), usedProperties);
+
+            findUsedPropertiesInScript(element, usedProperties);
+            findUsedPropertiesInMapper(element, usedProperties);
+            findUsedPropertiesInHeaderModification(element, usedProperties);
+            if (key != null) {
+                elementPropertiesCache.put(key, usedProperties);
+            }
+        }
+        return usedProperties;
+    }
+
     private void findUsedPropertiesInMapper(ChainElement element, Map<String, UsedProperty> usedProperties) {
         String elementType = element.getType();
         if (ELEMENTS_WITH_MAPPER.contains(elementType)) {
@@ -234,18 +134,24 @@ private void findUsedPropertiesInMapper(ChainElement element, Map<String, UsedPr
 
             if (!mappingDescription.isEmpty()) {
                 for (Map<String, Object> map : mappingDescription) {
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
-                                    UsedPropertySource.HEADER), "source", "headers");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
-                                    UsedPropertySource.EXCHANGE_PROPERTY), "source", "properties");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
-                                    UsedPropertySource.HEADER), "target", "headers");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
-                                    UsedPropertySource.EXCHANGE_PROPERTY), "target", "properties");
+                    // headers and properties are collected in one walk over source and one walk over target
+                    Consumer<Object> sourceHeaders = mapperTraversalCallback(usedProperties,
+                            buildUsedPropertyElement(element, UsedPropertyElementOperation.GET), UsedPropertySource.HEADER);
+                    Consumer<Object> sourceProperties = mapperTraversalCallback(usedProperties,
+                            buildUsedPropertyElement(element, UsedPropertyElementOperation.GET), UsedPropertySource.EXCHANGE_PROPERTY);
+                    MapUtils.deepMapTraversalSafe(map, source -> {
+                        MapUtils.deepTraversalSafe(source, sourceHeaders, "headers");
+                        MapUtils.deepTraversalSafe(source, sourceProperties, "properties");
+                    }, "source");
+
+                    Consumer<Object> targetHeaders = mapperTraversalCallback(usedProperties,
+                            buildUsedPropertyElement(element, UsedPropertyElementOperation.SET), UsedPropertySource.HEADER);
+                    Consumer<Object> targetProperties = mapperTraversalCallback(usedProperties,
+                            buildUsedPropertyElement(element, UsedPropertyElementOperation.SET), UsedPropertySource.EXCHANGE_PROPERTY);
+                    MapUtils.deepMapTraversalSafe(map, target -> {
+                        MapUtils.deepTraversalSafe(target, targetHeaders, "headers");
+                        MapUtils.deepTraversalSafe(target, targetProperties, "properties");
+                    }, "target");
                 }
             }
         }
@@ -367,36 +273,9 @@ private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedPr
                         .type(element.getType())
                         .build();
 
-                // get headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_GET_HEADER_GROUPS);
-
-                // set headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_SET_HEADER_GROUPS);
-
-                // get properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_GET_PROPERTIES_GROUPS);
-
-                // set properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_SET_PROPERTIES_GROUPS);
-            }
-        }
-    }
-
-    private void buildUsedProperties(StringBuilder scripts, UsedPropertyElementOperation operation, UsedPropertyElement usedElement,
-                                     Map<String, UsedProperty> usedProperties,
-                                     Pattern pattern, UsedPropertySource usedPropertySource, int[] matchGroups) {
-        Matcher groovyGetHeadersMatcher = pattern.matcher(scripts);
-        while (groovyGetHeadersMatcher.find()) {
-            for (int group : matchGroups) {
-                String propertyName = groovyGetHeadersMatcher.group(group);
-                if (propertyName != null) {
-                    usedElement.getOperations().add(operation);
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
+                for (UsedPropertiesScanner.PropertyAccess access : UsedPropertiesScanner.scanScript(scripts)) {
+                    usedElement.getOperations().add(access.operation());
+                    buildUsedProperty(usedProperties, access.name(), access.source(), UsedPropertyType.UNKNOWN_TYPE, usedElement);
                 }
             }
         }
@@ -434,9 +313,6 @@ private void parseProperty(ChainElement element, Map<String, UsedProperty> usedP
             findUsedProperties(element, mapValue, usedProperties);
         }
         if (value instanceof String stringValue) {
-            Matcher exPropertiesMatcher = PROPS_SIMPLE_PATTERN.matcher(stringValue);
-            Matcher exHeadersMatcher = HEADERS_SIMPLE_PATTERN.matcher(stringValue);
-
             UsedPropertyElement usedElement = UsedPropertyElement.builder()
                     .id(element.getId())
                     .name(element.getName())
@@ -445,19 +321,8 @@ private void parseProperty(ChainElement element, Map<String, UsedProperty> usedP
 
             usedElement.getOperations().add(UsedPropertyElementOperation.GET); // constant operation for simple lang
 
-            findUsedPropertyMatches(usedProperties, exPropertiesMatcher, usedElement, UsedPropertySource.EXCHANGE_PROPERTY, EX_PROP_GROUPS);
-            findUsedPropertyMatches(usedProperties, exHeadersMatcher, usedElement, UsedPropertySource.HEADER, EX_HEADER_GROUPS);
-        }
-    }
-
-    private void findUsedPropertyMatches(Map<String, UsedProperty> usedProperties, Matcher exPropertiesMatcher, UsedPropertyElement usedElement, UsedPropertySource usedPropertySource, int[] groups) {
-        while (exPropertiesMatcher.find()) {
-            for (int group : groups) {
-                String propertyName = exPropertiesMatcher.group(group);
-                if (propertyName != null) {
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
-                }
+            for (UsedPropertiesScanner.PropertyAccess access : UsedPropertiesScanner.scanSimpleExpression(stringValue)) {
+                buildUsedProperty(usedProperties, access.name(), access.source(), UsedPropertyType.UNKNOWN_TYPE, usedElement);
             }
         }
     }
@@ -493,4 +358,7 @@ private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String
     private static String buildUsedPropertyKey(String name, UsedPropertySource source) {
         return name + source.toString();
     }
+
+    private record ElementKey(String elementId, Timestamp modifiedWhen) {
+    }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds header and exchange property accesses in Groovy scripts and Simple language expressions.
+ * Each text is read in a single left-to-right pass without backtracking.
+ */
+public final class UsedPropertiesScanner {
+
+    public record PropertyAccess(String name, UsedPropertySource source, UsedPropertyElementOperation operation) {
+    }
+
+    private record Match(int nameStart, int nameEnd, int end) {
+    }
+
+    private static final String EXCHANGE = "exchange.";
+    private static final String EXCHANGE_PROPERTY_EXPRESSION = "${exchangeProperty";
+    private static final String HEADER_EXPRESSION = "${header";
+
+    private static final int GET_HEADER = 0;
+    private static final int SET_HEADER = 1;
+    private static final int GET_PROPERTY = 2;
+    private static final int SET_PROPERTY = 3;
+    private static final UsedPropertySource[] SCRIPT_SOURCES = {
+            UsedPropertySource.HEADER, UsedPropertySource.HEADER,
+            UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertySource.EXCHANGE_PROPERTY
+    };
+    private static final UsedPropertyElementOperation[] SCRIPT_OPERATIONS = {
+            UsedPropertyElementOperation.GET, UsedPropertyElementOperation.SET,
+            UsedPropertyElementOperation.GET, UsedPropertyElementOperation.SET
+    };
+
+    private UsedPropertiesScanner() {
+    }
+
+    /**
+     * Finds accesses in a Groovy script. Accesses are returned grouped by kind: header reads, header writes,
+     * property reads, property writes, each group in the order of occurrence.
+     * <p>
+     * Recognized forms, on {@code exchange.message} or {@code exchange.getMessage()} for headers:
+     * <code>
+     * <br/>headers.name, headers.'name', headers['name'], getHeader('name'), getHeaders().get('name')
+     * <br/>headers.name = value, headers['name'] = value, setHeader('name', value)
+     * <br/>headers.remove('name'), getHeaders().remove('name'), removeHeader('name')
+     * </code>
+     * and on {@code exchange} for properties:
+     * <code>
+     * <br/>properties.name, properties['name'], getProperty('name')
+     * <br/>properties.name = value, properties['name'] = value, setProperty('name', value)
+     * <br/>properties.remove('name'), getProperties().remove('name'), removeProperty('name')
+     * </code>
+     * A read is only recognized if the rest of its line contains neither {@code =} nor {@code (}.
+     */
+    public static List<PropertyAccess> scanScript(CharSequence script) {
+        String text = script.toString();
+        List<List<PropertyAccess>> accesses = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        // Each kind is searched independently: a match of one kind does not hide a match of another one
+        int[] resumeAt = new int[accesses.size()];
+        LineBlockers blockers = new LineBlockers(text);
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if ((c != 'e' && c != 'E') || matchLiteral(text, i, EXCHANGE) < 0) {
+                continue;
+            }
+            int afterExchange = i + EXCHANGE.length();
+            for (int kind = 0; kind < accesses.size(); kind++) {
+                if (i < resumeAt[kind]) {
+                    continue;
+                }
+                Match match = switch (kind) {
+                    case GET_HEADER -> matchGetHeader(text, afterExchange, blockers);
+                    case SET_HEADER -> matchSetHeader(text, afterExchange);
+                    case GET_PROPERTY -> matchGetProperty(text, afterExchange, blockers);
+                    default -> matchSetProperty(text, afterExchange);
+                };
+                if (match != null) {
+                    accesses.get(kind).add(new PropertyAccess(
+                            text.substring(match.nameStart(), match.nameEnd()), SCRIPT_SOURCES[kind], SCRIPT_OPERATIONS[kind]));
+                    resumeAt[kind] = match.end();
+                }
+            }
+        }
+
+        List<PropertyAccess> result = new ArrayList<>();
+        accesses.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Finds reads in a Simple language expression: property reads first, then header reads.
+     * <code>
+     * <br/>${exchangeProperty.foo}, ${exchangeProperty.foo?.bar}, ${exchangeProperty['foo.bar']}, ${exchangeProperty[foo]}
+     * <br/>${header.foo}, ${headers.'foo'}, ${header[foo.bar]}, ${headers['foo']?.bar}, ${headerAs('foo', Type)}
+     * </code>
+     */
+    public static List<PropertyAccess> scanSimpleExpression(String text) {
+        List<PropertyAccess> properties = new ArrayList<>();
+        List<PropertyAccess> headers = new ArrayList<>();
+        int propertiesResumeAt = 0;
+        int headersResumeAt = 0;
+        NextCharFinder closingBraces = new NextCharFinder(text, '}');
+
+        int length = text.length();
+        for (int i = 0; i + 1 < length; i++) {
+            if (text.charAt(i) != '$' || text.charAt(i + 1) != '{') {
+                continue;
+            }
+            if (i >= propertiesResumeAt) {
+                int pos = matchLiteral(text, i, EXCHANGE_PROPERTY_EXPRESSION);
+                Match match = pos < 0 ? null : matchSimpleName(text, pos, false, closingBraces);
+                if (match != null) {
+                    properties.add(new PropertyAccess(text.substring(match.nameStart(), match.nameEnd()),
+                            UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET));
+                    propertiesResumeAt = match.end();
+                }
+            }
+            if (i >= headersResumeAt) {
+                int pos = matchLiteral(text, i, HEADER_EXPRESSION);
+                if (pos >= 0) {
+                    // header, headers, headerAs
+                    if (matchesIgnoreCase(text, pos, 'a')) {
+                        pos++;
+                    }
+                    if (matchesIgnoreCase(text, pos, 's')) {
+                        pos++;
+                    }
+                }
+                Match match = pos < 0 ? null : matchSimpleName(text, pos, true, closingBraces);
+                if (match != null) {
+                    headers.add(new PropertyAccess(text.substring(match.nameStart(), match.nameEnd()),
+                            UsedPropertySource.HEADER, UsedPropertyElementOperation.GET));
+                    headersResumeAt = match.end();
+                }
+            }
+        }
+
+        properties.addAll(headers);
+        return properties;
+    }
+
+    private static Match matchGetHeader(String text, int pos, LineBlockers blockers) {
+        int messageEnd = matchMessage(text, pos);
+        if (messageEnd < 0) {
+            return null;
+        }
+        int accessor = matchFirstLiteral(text, messageEnd, "headers", "getHeader(", "getHeaders()");
+        if (accessor < 0) {
+            return null;
+        }
+        if (charIs(text, accessor, '[') && isQuote(text, accessor + 1)) {
+            Match match = matchReadName(text, accessor + 2, blockers);
+            if (match != null) {
+                return match;
+            }
+        }
+        int[] nameOffsets = charIs(text, accessor, '.') ? new int[] {accessor + 1, accessor} : new int[] {accessor};
+        for (int offset : nameOffsets) {
+            int getter = matchLiteral(text, offset, "get(");
+            if (getter >= 0 && isQuote(text, getter)) {
+                Match match = matchReadName(text, getter + 1, blockers);
+                if (match != null) {
+                    return match;
+                }
+            }
+            if (isQuote(text, offset)) {
+                Match match = matchReadName(text, offset + 1, blockers);
+                if (match != null) {
+                    return match;
+                }
+            }
+            Match match = matchReadName(text, offset, blockers);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private static Match matchSetHeader(String text, int pos) {
+        int messageEnd = matchMessage(text, pos);
+        if (messageEnd < 0) {
+            return null;
+        }
+        int headers = matchLiteral(text, messageEnd, "headers");
+        Match match = headers < 0 ? null : matchAssignment(text, headers);
+        if (match == null) {
+            int setter = matchLiteral(text, messageEnd, "setHeader(");
+            match = setter < 0 ? null : matchSetterCall(text, setter, false);
+        }
+        if (match == null) {
+            int remove = matchFirstLiteral(text, messageEnd, "getHeaders().remove", "headers.remove", "removeHeader");
+            match = remove < 0 ? null : matchRemoveCall(text, remove);
+        }
+        return match;
+    }
+
+    private static Match matchGetProperty(String text, int pos, LineBlockers blockers) {
+        int accessor = matchFirstLiteral(text, pos, "properties", "getProperty");
+        if (accessor < 0 || !(charIs(text, accessor, '[') || charIs(text, accessor, '(') || charIs(text, accessor, '.'))) {
+            return null;
+        }
+        int nameStart = isQuote(text, accessor + 1) ? accessor + 2 : accessor + 1;
+        return matchReadName(text, nameStart, blockers);
+    }
+
+    private static Match matchSetProperty(String text, int pos) {
+        int properties = matchLiteral(text, pos, "properties");
+        Match match = properties < 0 ? null : matchAssignment(text, properties);
+        if (match == null) {
+            int setter = matchLiteral(text, pos, "setProperty(");
+            match = setter < 0 ? null : matchSetterCall(text, setter, true);
+        }
+        if (match == null) {
+            int remove = matchFirstLiteral(text, pos, "properties.remove", "getProperties().remove", "removeProperty");
+            match = remove < 0 ? null : matchRemoveCall(text, remove);
+        }
+        return match;
+    }
+
+    private static int matchMessage(String text, int pos) {
+        return matchFirstLiteral(text, pos, "message.", "getMessage().");
+    }
+
+    // name, not followed by '=' or '(' on the same line
+    private static Match matchReadName(String text, int pos, LineBlockers blockers) {
+        int nameEnd = nameEnd(text, pos, true);
+        if (nameEnd == pos || blockers.existsFrom(nameEnd)) {
+            return null;
+        }
+        return new Match(pos, nameEnd, nameEnd);
+    }
+
+    // [name] = or .name = with optional quotes
+    private static Match matchAssignment(String text, int pos) {
+        if (!charIs(text, pos, '[') && !charIs(text, pos, '.')) {
+            return null;
+        }
+        int nameStart = isQuote(text, pos + 1) ? pos + 2 : pos + 1;
+        int nameEnd = nameEnd(text, nameStart, true);
+        if (nameEnd == nameStart) {
+            return null;
+        }
+        int next = nameEnd;
+        if (isQuote(text, next)) {
+            next++;
+            if (charIs(text, next, ']')) {
+                next++;
+            }
+        }
+        int spacesEnd = next;
+        while (spacesEnd < text.length() && isWhitespace(text.charAt(spacesEnd))) {
+            spacesEnd++;
+        }
+        if (spacesEnd == next || !charIs(text, spacesEnd, '=')) {
+            return null;
+        }
+        return new Match(nameStart, nameEnd, spacesEnd + 1);
+    }
+
+    private static Match matchSetterCall(String text, int pos, boolean closingQuoteRequired) {
+        if (!isQuote(text, pos)) {
+            return null;
+        }
+        int nameEnd = nameEnd(text, pos + 1, true);
+        if (nameEnd == pos + 1) {
+            return null;
+        }
+        int end = nameEnd;
+        if (closingQuoteRequired) {
+            if (!isQuote(text, end)) {
+                return null;
+            }
+            end++;
+            if (charIs(text, end, ')')) {
+                end++;
+            }
+        } else if (isQuote(text, end) || charIs(text, end, ')')) {
+            end++;
+        }
+        return new Match(pos + 1, nameEnd, end);
+    }
+
+    private static Match matchRemoveCall(String text, int pos) {
+        if (!charIs(text, pos, '(') || !isQuote(text, pos + 1)) {
+            return null;
+        }
+        int nameEnd = nameEnd(text, pos + 2, true);
+        return nameEnd == pos + 2 ? null : new Match(pos + 2, nameEnd, nameEnd);
+    }
+
+    // .name up to the next dot, or [name] / .'name' / (name) including dots, inside of ${...}
+    private static Match matchSimpleName(String text, int pos, boolean parenthesisAllowed, NextCharFinder closingBraces) {
+        if (charIs(text, pos, '.')) {
+            int nameEnd = nameEnd(text, pos + 1, false);
+            if (nameEnd > pos + 1) {
+                int closingBrace = closingBraces.find(nameEnd);
+                return closingBrace < 0 ? null : new Match(pos + 1, nameEnd, closingBrace + 1);
+            }
+        }
+        if (charIs(text, pos, '.') || charIs(text, pos, '[') || (parenthesisAllowed && charIs(text, pos, '('))) {
+            int nameStart = charIs(text, pos + 1, '\'') ? pos + 2 : pos + 1;
+            int nameEnd = nameEnd(text, nameStart, true);
+            if (nameEnd > nameStart) {
+                int closingBrace = closingBraces.find(nameEnd);
+                return closingBrace < 0 ? null : new Match(nameStart, nameEnd, closingBrace + 1);
+            }
+        }
+        return null;
+    }
+
+    private static int matchFirstLiteral(String text, int pos, String... literals) {
+        for (String literal : literals) {
+            int end = matchLiteral(text, pos, literal);
+            if (end >= 0) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    // ASCII case-insensitive, returns the position after the literal or -1
+    private static int matchLiteral(String text, int pos, String literal) {
+        if (pos + literal.length() > text.length()) {
+            return -1;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (!matchesIgnoreCase(text, pos + i, literal.charAt(i))) {
+                return -1;
+            }
+        }
+        return pos + literal.length();
+    }
+
+    private static boolean matchesIgnoreCase(String text, int pos, char expected) {
+        if (pos >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(pos);
+        return c == expected
+                || (isAsciiLetter(c) && isAsciiLetter(expected) && (c | 0x20) == (expected | 0x20));
+    }
+
+    private static int nameEnd(String text, int pos, boolean dotAllowed) {
+        int end = pos;
+        while (end < text.length() && isNameChar(text.charAt(end), dotAllowed)) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isNameChar(char c, boolean dotAllowed) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_' || c == '-' || (dotAllowed && c == '.');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isQuote(String text, int pos) {
+        return charIs(text, pos, '\'') || charIs(text, pos, '"');
+    }
+
+    private static boolean charIs(String text, int pos, char c) {
+        return pos < text.length() && text.charAt(pos) == c;
+    }
+
+    /**
+     * Answers whether '=' or '(' occurs between a position and the end of its line.
+     * The last such character of the current line is remembered, so a line is scanned only once.
+     */
+    private static final class LineBlockers {
+        private final String text;
+        private int lineStart = 0;
+        private int lineEnd = -1;
+        private int lastBlocker = -1;
+
+        LineBlockers(String text) {
+            this.text = text;
+        }
+
+        boolean existsFrom(int pos) {
+            if (pos < lineStart || pos > lineEnd) {
+                lineStart = pos;
+                while (lineStart > 0 && !isLineBreak(text.charAt(lineStart - 1))) {
+                    lineStart--;
+                }
+                lineEnd = pos;
+                while (lineEnd < text.length() && !isLineBreak(text.charAt(lineEnd))) {
+                    lineEnd++;
+                }
+                lastBlocker = -1;
+                for (int i = lineEnd - 1; i >= lineStart; i--) {
+                    char c = text.charAt(i);
+                    if (c == '=' || c == '(') {
+                        lastBlocker = i;
+                        break;
+                    }
+                }
+            }
+            return lastBlocker >= pos;
+        }
+
+        private static boolean isLineBreak(char c) {
+            return c == '\n' || c == '\r';
+        }
+    }
+
+    private static final class NextCharFinder {
+        private final String text;
+        private final char c;
+        private int searchedFrom = Integer.MAX_VALUE;
+        private int found = -1;
+
+        NextCharFinder(String text, char c) {
+            this.text = text;
+            this.c = c;
+        }
+
+        int find(int pos) {
+            if (pos < searchedFrom || (found >= 0 && pos > found)) {
+                searchedFrom = pos;
+                found = text.indexOf(c, pos);
+            }
+            return found;
+        }
+    }
+}
@@ -30,9 +30,7 @@
 import com.graphql_java_generator.plugin.language.*;
 import com.graphql_java_generator.plugin.language.Type.GraphQlType;
 import com.graphql_java_generator.plugin.language.impl.*;
-import graphql.parser.Parser;
-import graphql.parser.ParserEnvironment;
-import graphql.parser.ParserOptions;
+import graphql.language.Document;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -47,6 +45,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -80,9 +79,8 @@ public class GraphqlCodeDocumentParser extends CustomDocumentParser {
     /////////////////////////////////////////////////////////////////////////////////////////////
     // Internal attributes for this class
 
-    private final Parser parser;
-
-    private final ParserOptions parserOptions;
+    /** Parses the GraphQL schema text into its document. Parsed documents are immutable and may be shared. */
+    private final Function<String, Document> schemaParser;
 
     /** All {@link Relation}s that have been found in the GraphQL schema(s) */
     List<Relation> relations = new ArrayList<>();
@@ -111,10 +109,9 @@ public class GraphqlCodeDocumentParser extends CustomDocumentParser {
     /** The configuration for the code generation must implement the {@link GenerateCodeCommonConfiguration} */
     GenerateCodeCommonConfiguration configuration;
 
-    public GraphqlCodeDocumentParser(Parser parser, ParserOptions parserOptions, CommonConfiguration configuration) {
+    public GraphqlCodeDocumentParser(Function<String, Document> schemaParser, CommonConfiguration configuration) {
         super(configuration);
-        this.parser = parser;
-        this.parserOptions = parserOptions;
+        this.schemaParser = schemaParser;
         initConfiguration();
     }
 
@@ -129,8 +126,7 @@ private void initConfiguration() {
     }
 
     public void parseSchema(String schema) throws IOException {
-        ParserEnvironment parserEnvironment = ParserEnvironment.newParserEnvironment().document(schema).parserOptions(parserOptions).build();
-        super.documents = List.of(parser.parseDocument(parserEnvironment));
+        super.documents = List.of(schemaParser.apply(schema));
         super.parseDocuments();
     }
 
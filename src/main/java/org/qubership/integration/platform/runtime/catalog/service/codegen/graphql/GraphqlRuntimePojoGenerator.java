@@ -27,8 +27,6 @@
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
-import org.apache.velocity.runtime.RuntimeConstants;
-import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.qubership.integration.platform.runtime.catalog.configuration.GraphQLCodegenConfiguration;
 import org.qubership.integration.platform.runtime.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
@@ -55,24 +53,19 @@ public class GraphqlRuntimePojoGenerator {
     private final GenerateCodeCommonConfiguration configuration;
 
     /**
-     * The Velocity engine, that will merge the templates with their context
+     * The Velocity engine, that will merge the templates with their context.
+     * The engine is shared between generators and caches parsed templates.
      */
     private final VelocityEngine velocityEngine;
 
-    public GraphqlRuntimePojoGenerator(GraphqlCodeDocumentParser parser, GenerateCodeCommonConfiguration configuration) {
+    public GraphqlRuntimePojoGenerator(
+            GraphqlCodeDocumentParser parser,
+            GenerateCodeCommonConfiguration configuration,
+            VelocityEngine velocityEngine
+    ) {
         this.parser = parser;
         this.configuration = configuration;
-
-        // Initialization for Velocity
-        velocityEngine = new VelocityEngine();
-
-        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, "classpath, file");
-
-        // Configuration for 'real' executions of the plugin (that is: from the plugin's packaged jar)
-        velocityEngine.setProperty("resource.loader.classpath.description", "Velocity Classpath Resource Loader");
-        velocityEngine.setProperty("resource.loader.classpath.class", ClasspathResourceLoader.class.getName());
-
-        velocityEngine.init();
+        this.velocityEngine = velocityEngine;
     }
 
     public Map<String, String> generateCode(SystemModel model) throws Exception {
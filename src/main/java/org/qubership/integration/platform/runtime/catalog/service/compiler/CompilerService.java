@@ -16,14 +16,120 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.compiler;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
 
+@Slf4j
 @Service
 public class CompilerService {
+    private static final String COMPILED_CLASSES_CACHE_NAME = "qip.compiler.compiled-classes";
+
+    private final InMemoryCompiler compiler;
+    /**
+     * Standard file managers are reusable between compilations, but not thread safe.
+     * Each compilation borrows an idle one and returns it back when done.
+     */
+    private final Queue<StandardJavaFileManager> idleFileManagers = new ConcurrentLinkedQueue<>();
+    /**
+     * Compiled classes keyed by the hash of the sources, so identical models are compiled once.
+     */
+    private final Cache<String, Map<String, byte[]>> compiledClassesCache;
+
+    @Autowired
+    public CompilerService(
+            @Value("${qip.compiler.cache.max-size-bytes:67108864}") long cacheMaxSizeBytes,
+            MeterRegistry meterRegistry
+    ) {
+        this.compiler = new InMemoryCompiler(
+                ToolProvider.getSystemJavaCompiler(),
+                new PackageInternalsFinder(CompilerService.class.getClassLoader()));
+        this.compiledClassesCache = CacheBuilder.newBuilder()
+                .maximumWeight(cacheMaxSizeBytes)
+                .weigher(CompilerService::weigh)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, compiledClassesCache, COMPILED_CLASSES_CACHE_NAME);
+    }
+
     public Map<String, byte[]> compile(Map<String, String> sources) throws CompilationError {
-        InMemoryCompiler compiler = new InMemoryCompiler();
-        return compiler.compile(sources);
+        String key = buildCacheKey(sources);
+        Map<String, byte[]> compiledClasses = compiledClassesCache.getIfPresent(key);
+        if (compiledClasses != null) {
+            log.debug("Reusing compiled classes for sources with hash {}", key);
+            return compiledClasses;
+        }
+        compiledClasses = Collections.unmodifiableMap(compileSources(sources));
+        compiledClassesCache.put(key, compiledClasses);
+        return compiledClasses;
+    }
+
+    @PreDestroy
+    public void closeFileManagers() {
+        StandardJavaFileManager fileManager;
+        while ((fileManager = idleFileManagers.poll()) != null) {
+            closeFileManager(fileManager);
+        }
+    }
+
+    private Map<String, byte[]> compileSources(Map<String, String> sources) throws CompilationError {
+        StandardJavaFileManager fileManager = idleFileManagers.poll();
+        if (fileManager == null) {
+            fileManager = compiler.createStandardFileManager();
+        }
+        try {
+            Map<String, byte[]> result = compiler.compile(sources, fileManager);
+            idleFileManagers.offer(fileManager);
+            return result;
+        } catch (CompilationError | RuntimeException exception) {
+            // A failed compilation may leave the file manager in an unknown state
+            closeFileManager(fileManager);
+            throw exception;
+        }
+    }
+
+    private static void closeFileManager(StandardJavaFileManager fileManager) {
+        try {
+            fileManager.close();
+        } catch (IOException exception) {
+            log.warn("Failed to close java file manager", exception);
+        }
+    }
+
+    private static String buildCacheKey(Map<String, String> sources) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        new TreeMap<>(sources).forEach((className, code) -> {
+            digest.update(className.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(code.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        });
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static int weigh(String key, Map<String, byte[]> compiledClasses) {
+        long size = compiledClasses.entrySet().stream()
+                .mapToLong(entry -> entry.getKey().length() + entry.getValue().length)
+                .sum();
+        return (int) Math.min(size, Integer.MAX_VALUE);
     }
 }
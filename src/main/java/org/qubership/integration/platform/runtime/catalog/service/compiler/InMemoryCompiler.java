@@ -30,37 +30,60 @@
 
 @Slf4j
 public class InMemoryCompiler {
+    private final JavaCompiler compiler;
+    private final PackageInternalsFinder finder;
+
+    public InMemoryCompiler() {
+        this(ToolProvider.getSystemJavaCompiler(), new PackageInternalsFinder(InMemoryCompiler.class.getClassLoader()));
+    }
+
+    public InMemoryCompiler(JavaCompiler compiler, PackageInternalsFinder finder) {
+        this.compiler = compiler;
+        this.finder = finder;
+    }
+
+    public StandardJavaFileManager createStandardFileManager() {
+        return compiler.getStandardFileManager(null, null, null);
+    }
+
     public Map<String, byte[]> compile(Map<String, String> sources) throws CompilationError {
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager standardJavaFileManager = createStandardFileManager()) {
+            return compile(sources, standardJavaFileManager);
+        } catch (IOException exception) {
+            throw new CompilationError("Failed to compile code.", exception);
+        }
+    }
+
+    /**
+     * Compiles sources using the provided standard file manager.
+     * The file manager is not closed, so it can be reused by subsequent compilations,
+     * but it must not be used by several compilations at the same time.
+     */
+    public Map<String, byte[]> compile(
+            Map<String, String> sources,
+            StandardJavaFileManager standardJavaFileManager
+    ) throws CompilationError {
         FirstErrorCollectorDiagnosticListener<JavaFileObject> firstErrorCollector =
                 new FirstErrorCollectorDiagnosticListener<>();
         DiagnosticListener<? super JavaFileObject> diagnosticListener =
                 new CompoundDiagnosticListener<>(firstErrorCollector, new LoggingDiagnosticListener(log));
-        StandardJavaFileManager standardJavaFileManager = compiler.getStandardFileManager(diagnosticListener, null, null);
-        try (InMemoryFileManager fileManager = new InMemoryFileManager(
-                new CustomClassLoaderFileManager(
-                        this.getClass().getClassLoader(),
-                        standardJavaFileManager
-                )
-        )) {
-            List<? extends JavaFileObject> compilationUnits = sources.entrySet().stream().map(entry -> {
-                String className = entry.getKey();
-                String code = entry.getValue();
-                return new JavaSourceFromString(className, code);
-            }).collect(Collectors.toList());
-            JavaCompiler.CompilationTask compilationTask = compiler.getTask(
-                    null, fileManager, diagnosticListener, null, null, compilationUnits);
-            boolean isCompilationWasSuccessful = compilationTask.call();
-            if (!isCompilationWasSuccessful) {
-                String message = firstErrorCollector.getFirstErrorDiagnostic()
-                        .map(error -> error.getMessage(Locale.getDefault()))
-                        .orElse("Failed to compile code.");
-                throw new CompilationError(message);
-            }
-            return fileManager.getOutputFiles().stream().collect(
-                    Collectors.toMap(JavaFileObject::getName, InMemoryOutputFileObject::getBytes));
-        } catch (IOException exception) {
-            throw new CompilationError("Failed to compile code.", exception);
+        InMemoryFileManager fileManager = new InMemoryFileManager(
+                new CustomClassLoaderFileManager(finder, standardJavaFileManager));
+        List<? extends JavaFileObject> compilationUnits = sources.entrySet().stream().map(entry -> {
+            String className = entry.getKey();
+            String code = entry.getValue();
+            return new JavaSourceFromString(className, code);
+        }).collect(Collectors.toList());
+        JavaCompiler.CompilationTask compilationTask = compiler.getTask(
+                null, fileManager, diagnosticListener, null, null, compilationUnits);
+        boolean isCompilationWasSuccessful = compilationTask.call();
+        if (!isCompilationWasSuccessful) {
+            String message = firstErrorCollector.getFirstErrorDiagnostic()
+                    .map(error -> error.getMessage(Locale.getDefault()))
+                    .orElse("Failed to compile code.");
+            throw new CompilationError(message);
         }
+        return fileManager.getOutputFiles().stream().collect(
+                Collectors.toMap(JavaFileObject::getName, InMemoryOutputFileObject::getBytes));
     }
 }
@@ -23,8 +23,11 @@
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import javax.tools.JavaFileObject;
 
@@ -33,12 +36,23 @@
  * post. */
 public class PackageInternalsFinder {
     private final ClassLoader classLoader;
+    // Contents of the class loader don't change, so package listings are computed once per package
+    private final Map<String, List<JavaFileObject>> packageIndex = new ConcurrentHashMap<>();
 
     public PackageInternalsFinder(ClassLoader classLoader) {
         this.classLoader = classLoader;
     }
 
     public List<JavaFileObject> find(String packageName) throws IOException {
+        List<JavaFileObject> result = packageIndex.get(packageName);
+        if (result == null) {
+            result = Collections.unmodifiableList(listPackage(packageName));
+            packageIndex.putIfAbsent(packageName, result);
+        }
+        return result;
+    }
+
+    private List<JavaFileObject> listPackage(String packageName) throws IOException {
         String javaPackageName = packageName.replaceAll("\\.", "/");
 
         List<JavaFileObject> result = new ArrayList<>();
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.deployment;
+
+import org.qubership.integration.platform.runtime.catalog.model.deployment.DeployedTriggerType;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.RouteType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeployedRoute;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Routes of deployed triggers indexed by http path and SDS job id.
+ * Routes of deployments created during a bulk deployment are added to the index,
+ * so triggers are checked against each other the same way as against deployed ones.
+ */
+public class DeployedRoutesIndex {
+    private final Map<String, List<DeployedRoute>> httpRoutes = new HashMap<>();
+    private final Map<String, List<DeployedRoute>> sdsRoutes = new HashMap<>();
+
+    public DeployedRoutesIndex(Collection<DeployedRoute> routes) {
+        addAll(routes);
+    }
+
+    public void addAll(Collection<DeployedRoute> routes) {
+        for (DeployedRoute route : routes) {
+            if (DeployedTriggerType.HTTP == route.getTriggerType()) {
+                httpRoutes.computeIfAbsent(route.getPath(), path -> new ArrayList<>()).add(route);
+            } else {
+                sdsRoutes.computeIfAbsent(route.getSdsJobId(), jobId -> new ArrayList<>()).add(route);
+            }
+        }
+    }
+
+    public List<DeployedRoute> findHttpRoutesOfOtherChains(Collection<String> paths,
+                                                           String excludeChainId,
+                                                           Collection<RouteType> gatewayTypes) {
+        return find(httpRoutes, paths, route -> !Objects.equals(excludeChainId, route.getChainId())
+                && gatewayTypes.contains(route.getGatewayType()));
+    }
+
+    public List<DeployedRoute> findHttpRoutesOfChainOnOtherDomains(Collection<String> paths, String chainId, String domain) {
+        return find(httpRoutes, paths, route -> Objects.equals(chainId, route.getChainId())
+                && !Objects.equals(domain, route.getDomain()));
+    }
+
+    public List<DeployedRoute> findSdsRoutesOfChainOnOtherDomains(Collection<String> jobIds, String chainId, String domain) {
+        return find(sdsRoutes, jobIds, route -> Objects.equals(chainId, route.getChainId())
+                && !Objects.equals(domain, route.getDomain()));
+    }
+
+    private static List<DeployedRoute> find(Map<String, List<DeployedRoute>> index,
+                                            Collection<String> keys,
+                                            Predicate<DeployedRoute> filter) {
+        return keys.stream()
+                .distinct()
+                .flatMap(key -> index.getOrDefault(key, Collections.emptyList()).stream())
+                .filter(filter)
+                .toList();
+    }
+}
@@ -97,9 +97,9 @@ public List<DeploymentUpdate> buildDeploymentsUpdate(List<Deployment> deployment
         List<DeploymentUpdate> result = new ArrayList<>();
         for (Deployment deployment : deployments) {
             Chain chain = chainFinderService.findById(deployment.getChain().getId());
-            Snapshot snapshot = snapshotService.findById(deployment.getSnapshot().getId());
+            Snapshot snapshot = snapshotService.findByIdForDeployment(deployment.getSnapshot().getId());
 
-            DeploymentConfiguration config = createUpdateDeploymentConfiguration(deployment);
+            DeploymentConfiguration config = createUpdateDeploymentConfiguration(deployment, snapshot);
 
             result.add(DeploymentUpdate.builder()
                     .deploymentInfo(DeploymentInfo.builder()
@@ -131,9 +131,7 @@ public List<DeploymentUpdate> buildDeploymentsStop(List<DeploymentInfo> deployme
         return result;
     }
 
-    private DeploymentConfiguration createUpdateDeploymentConfiguration(Deployment deployment) {
-        Snapshot snapshot = deployment.getSnapshot();
-
+    private DeploymentConfiguration createUpdateDeploymentConfiguration(Deployment deployment, Snapshot snapshot) {
         Set<ChainElement> groupContainers = snapshot.getElements().stream()
                 .filter(item -> ElementService.CONTAINER_TYPE_NAME.equals(item.getType())
                         || Optional.ofNullable(libraryService.getElementDescriptor(item.getType()))
@@ -210,7 +208,7 @@ private boolean containsSchedulerElements(List<ElementProperties> elementPropert
 
     private String replacePlaceholders(Snapshot snapshot, Deployment deployment) {
         StringBuilder result = replacePlaceholder(
-                snapshot.getXmlDefinition(),
+                snapshotService.getXmlDefinition(snapshot.getId()),
                 UUID.randomUUID().toString(),
                 RANDOM_ID_PLACEHOLDER_PATTERN); // TODO deprecated and must not be used!
         result = replacePlaceholder(result.toString(), deployment.getId(), DEPLOYMENT_ID_PLACEHOLDER_PATTERN);
@@ -16,7 +16,10 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.designgenerator;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.runtime.catalog.model.designgenerator.DiagramLangType;
 import org.qubership.integration.platform.runtime.catalog.model.designgenerator.DiagramMode;
@@ -28,6 +31,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.library.chaindesign.ElementDesignParameters;
 import org.qubership.integration.platform.runtime.catalog.model.library.chaindesign.ElementDiagramOperation;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
@@ -37,12 +41,16 @@
 import org.qubership.integration.platform.runtime.catalog.service.designgenerator.processors.interfaces.DesignProcessor;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.runtime.catalog.util.ChainContentHashUtils;
 import org.qubership.integration.platform.runtime.catalog.util.DiagramBuilderEscapeUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.qubership.integration.platform.runtime.catalog.model.designgenerator.DiagramConstants.DEFAULT_RESPONSE_TITLE;
@@ -66,16 +74,28 @@ public class DesignGeneratorService {
     private final LibraryElementsService libraryService;
     private final ChainFinderService chainFinderService;
 
+    // Generated diagram sources. Snapshot diagrams are keyed by the snapshot, chain diagrams by the content of their elements.
+    private final Cache<DiagramKey, Map<DiagramLangType, String>> diagramCache;
+
     @Autowired
     public DesignGeneratorService(ElementService elementService,
                                   DependencyService dependencyService,
                                   LibraryElementsService libraryService,
                                   ChainFinderService chainFinderService,
-                                  List<DesignProcessor> processors) {
+                                  List<DesignProcessor> processors,
+                                  @Value("${qip.design-generator.diagram-cache.max-size-bytes:33554432}") long diagramCacheMaxSizeBytes,
+                                  @Value("${qip.design-generator.diagram-cache.ttl:PT1H}") Duration diagramCacheTtl) {
         this.elementService = elementService;
         this.dependencyService = dependencyService;
         this.libraryService = libraryService;
         this.chainFinderService = chainFinderService;
+        this.diagramCache = CacheBuilder.newBuilder()
+                .maximumWeight(diagramCacheMaxSizeBytes)
+                .<DiagramKey, Map<DiagramLangType, String>>weigher((key, sources) -> sources.values().stream()
+                        .mapToInt(source -> 2 * source.length())
+                        .sum())
+                .expireAfterWrite(diagramCacheTtl)
+                .build();
         for (DesignProcessor processor : processors) {
             for (String supportedElementType : processor.supportedElementTypes()) {
                 designProcessors.put(supportedElementType, processor);
@@ -84,59 +104,106 @@ public DesignGeneratorService(ElementService elementService,
     }
 
     public Map<DiagramMode, ElementsSequenceDiagram> generateChainSequenceDiagram(String chainId, List<DiagramMode> modes) {
-        List<ChainElement> elements = elementService.findAllByChainId(chainId);
-        List<Dependency> dependencies = dependencyService.findAllByElementsIDs(
-                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
-
-        return generateSequenceDiagrams(chainId, null, elements, dependencies, modes);
+        return generateSequenceDiagrams(chainId, null, () -> elementService.findAllByChainId(chainId), modes);
     }
 
     public Map<DiagramMode, ElementsSequenceDiagram> generateSnapshotSequenceDiagram(String chainId, String snapshotId, List<DiagramMode> modes) {
-        List<ChainElement> elements = elementService.findAllBySnapshotId(snapshotId);
-        List<Dependency> dependencies = dependencyService.findAllByElementsIDs(
-                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
-
-        return generateSequenceDiagrams(chainId, snapshotId, elements, dependencies, modes);
+        return generateSequenceDiagrams(chainId, snapshotId, () -> elementService.findAllBySnapshotId(snapshotId), modes);
     }
 
-    private Map<DiagramMode, ElementsSequenceDiagram> generateSequenceDiagrams(String chainId, String snapshotId, List<ChainElement> elements,
-                                                                               List<Dependency> dependencies, List<DiagramMode> modes) {
+    private Map<DiagramMode, ElementsSequenceDiagram> generateSequenceDiagrams(String chainId, String snapshotId,
+                                                                               Supplier<List<ChainElement>> elementsSupplier,
+                                                                               List<DiagramMode> modes) {
+        Chain chain = chainFinderService.findById(chainId);
+        // Snapshots are immutable, a chain is versioned by the content of its elements and dependencies
+        List<ChainElement> elements = null;
+        List<Dependency> dependencies = null;
+        String contentHash = null;
+        if (snapshotId == null) {
+            elements = elementsSupplier.get();
+            dependencies = findDependencies(elements);
+            contentHash = diagramContentHash(elements, dependencies);
+        }
+
         Map<DiagramMode, ElementsSequenceDiagram> result = new HashMap<>();
+        DiagramSource source = null;
         for (DiagramMode mode : modes) {
+            DiagramKey key = new DiagramKey(chainId, snapshotId, contentHash, chain.getName(), mode);
+            Map<DiagramLangType, String> diagramSources = diagramCache.getIfPresent(key);
+            if (diagramSources == null) {
+                if (source == null) {
+                    if (elements == null) {
+                        elements = elementsSupplier.get();
+                        dependencies = findDependencies(elements);
+                    }
+                    source = prepareDiagramSource(elements, dependencies);
+                }
+                diagramSources = generateSequenceDiagram(chainId, chain.getName(), source, mode);
+                diagramCache.put(key, diagramSources);
+            }
             result.put(
                     mode,
                     ElementsSequenceDiagram.builder()
                             .chainId(chainId)
                             .snapshotId(snapshotId)
-                            .diagramSources(generateSequenceDiagram(chainId, elements, dependencies, mode))
+                            .diagramSources(diagramSources)
                             .build()
             );
         }
         return result;
     }
 
-    private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, List<ChainElement> elements,
-                                                                 List<Dependency> dependencies, DiagramMode mode) {
-
+    /**
+     * Builds the dependency graph and finds triggers once, so that it can be shared by all diagram modes.
+     */
+    private DiagramSource prepareDiagramSource(List<ChainElement> elements, List<Dependency> dependencies) {
         // <fromElementId, elementTo>
         Map<String, List<ChainElement>> fromElementMap = dependencies.stream()
                 .collect(Collectors.groupingBy(e -> e.getElementFrom().getId(), Collectors.mapping(Dependency::getElementTo, Collectors.toList())));
         collectReuseDependencies(elements, fromElementMap);
 
+        List<ChainElement> triggers = elements.stream()
+                .filter(chainElement -> Optional.ofNullable(libraryService.getElementDescriptor(chainElement))
+                        .map(descriptor -> descriptor.getType() == ElementType.TRIGGER)
+                        .orElse(false))
+                .sorted(Comparator.comparing(AbstractEntity::getName))
+                .collect(Collectors.toList());
+
+        return new DiagramSource(fromElementMap, triggers);
+    }
+
+    private List<Dependency> findDependencies(List<ChainElement> elements) {
+        return dependencyService.findAllByElementsIDs(
+                elements.stream().map(AbstractEntity::getId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Hashes everything of a chain a diagram is built from: element content, nesting and dependencies.
+     */
+    private String diagramContentHash(List<ChainElement> elements, List<Dependency> dependencies) {
+        List<String> lines = new ArrayList<>();
+        for (ChainElement element : elements) {
+            String parentId = element.getParent() == null ? "" : element.getParent().getId();
+            lines.add(element.getId() + ":" + parentId + ":" + ChainContentHashUtils.computeContentHash(element));
+        }
+        for (Dependency dependency : dependencies) {
+            lines.add("next:" + dependency.getElementFrom().getId() + ":" + dependency.getElementTo().getId());
+        }
+        Collections.sort(lines);
+        return DigestUtils.sha256Hex(String.join("\n", lines));
+    }
+
+    private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, String chainName, DiagramSource source, DiagramMode mode) {
+        Map<String, List<ChainElement>> fromElementMap = source.fromElementMap();
+        List<ChainElement> triggers = source.triggers();
+
         SequenceDiagramBuilder builder = new SequenceDiagramBuilder();
         Set<String> addedElementsIds = new HashSet<>();
 
         builder.append(DOCUMENT_START).append(AUTONUMBER);
         builder.append(BLOCK_DELIMITER);
 
-        List<ChainElement> triggers = elements.stream()
-                .filter(chainElement ->
-                        libraryService.getElementDescriptor(chainElement) != null
-                                && libraryService.getElementDescriptor(chainElement).getType() == ElementType.TRIGGER)
-                .sorted(Comparator.comparing(AbstractEntity::getName))
-                .collect(Collectors.toList());
-
-        addParticipants(chainId, builder, triggers, fromElementMap, addedElementsIds, mode);
+        addParticipants(chainId, chainName, builder, triggers, fromElementMap, addedElementsIds, mode);
 
         for (ChainElement trigger : triggers) {
             String refChainId = DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId);
@@ -161,6 +228,7 @@ private Map<DiagramLangType, String> generateSequenceDiagram(String chainId, Lis
     }
 
     private void addParticipants(String chainId,
+                                 String chainName,
                                  SequenceDiagramBuilder builder,
                                  List<ChainElement> triggers,
                                  Map<String, List<ChainElement>> fromElementMap,
@@ -169,7 +237,7 @@ private void addParticipants(String chainId,
         Map<String, String> participants = new LinkedHashMap<>();
 
         participants.put(DiagramBuilderEscapeUtil.removeOrReplaceUnsupportedCharacters(chainId),
-                "QIP chain: " + chainFinderService.findById(chainId).getName());
+                "QIP chain: " + chainName);
 
         for (ChainElement trigger : triggers) {
             addedElementsIds.add(trigger.getId());
@@ -528,6 +596,12 @@ private void collectReuseDependencies(List<ChainElement> elements, Map<String, L
         }
     }
 
+    private record DiagramKey(String chainId, String snapshotId, String chainContentHash, String chainName, DiagramMode mode) {
+    }
+
+    private record DiagramSource(Map<String, List<ChainElement>> fromElementMap, List<ChainElement> triggers) {
+    }
+
     private static boolean shouldWriteElement(ChainElement currentElement, DiagramMode mode) {
         return !(mode == DiagramMode.SIMPLE
                 && SIMPLE_DIAGRAM_ELEMENT_EXCLUDE_SET.contains(currentElement.getType()));
@@ -25,14 +25,11 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.SnapshotBaseRepository;
+import org.qubership.integration.platform.runtime.catalog.util.ChainContentHashUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * Finds the differences between two chains/snapshots.
@@ -147,35 +144,71 @@ private Chain findChainById(String id) {
                 .orElseThrow(() -> new ComparisonEntityNotFoundException("Chain with id " + id + " not found"));
     }
 
+    /**
+     * Pairs up the elements of both sides and finds the differences of each pair. Elements of the same chain
+     * are paired by id, elements of different chains by their content. Paired elements with equal content hashes
+     * are reported as identical without comparing their fields. The content hash of each element is computed once.
+     */
     private List<DifferenceResult<ChainElement>> findElementsDifferences(
             List<ChainElement> leftElements,
             List<ChainElement> rightElements,
             boolean differentChains
     ) {
-        List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>();
-        List<String> processedElementIds = new ArrayList<>();
+        Map<ChainElement, String> contentHashes = new IdentityHashMap<>();
+        Map<String, Deque<ChainElement>> rightElementsByKey = new HashMap<>();
+        for (ChainElement rightElement : rightElements) {
+            rightElementsByKey.computeIfAbsent(extractMatchingKey(rightElement, differentChains, contentHashes), key -> new ArrayDeque<>())
+                    .add(rightElement);
+        }
 
+        List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>();
+        Set<ChainElement> processedElements = Collections.newSetFromMap(new IdentityHashMap<>());
         for (ChainElement leftElement : leftElements) {
             ChainElement comparableRightElement = null;
-            Queue<ChainElement> comparableRightElements = rightElements.stream()
-                    .filter(rightElement -> compareElements(leftElement, rightElement, differentChains))
-                    .collect(Collectors.toCollection(LinkedList::new));
-            while (comparableRightElements.peek() != null) {
-                ChainElement currentElement = comparableRightElements.poll();
-                if (comparableRightElement == null && !processedElementIds.contains(currentElement.getId())) {
-                    comparableRightElement = currentElement;
-                    processedElementIds.add(comparableRightElement.getId());
+            Deque<ChainElement> candidates = rightElementsByKey.get(extractMatchingKey(leftElement, differentChains, contentHashes));
+            if (candidates != null) {
+                Iterator<ChainElement> iterator = candidates.iterator();
+                while (iterator.hasNext()) {
+                    ChainElement candidate = iterator.next();
+                    if (compareElements(leftElement, candidate, differentChains)) {
+                        iterator.remove();
+                        comparableRightElement = candidate;
+                        processedElements.add(candidate);
+                        break;
+                    }
                 }
             }
-            diffResults.add(chainElementDiffService.findDifferences(leftElement, comparableRightElement));
+            diffResults.add(findElementDifferences(leftElement, comparableRightElement, contentHashes));
         }
 
         rightElements.stream()
-                .filter(rightElement -> !processedElementIds.contains(rightElement.getId()))
+                .filter(rightElement -> !processedElements.contains(rightElement))
                 .forEach(rightElement -> diffResults.add(chainElementDiffService.findDifferences(null, rightElement)));
         return diffResults;
     }
 
+    private DifferenceResult<ChainElement> findElementDifferences(
+            ChainElement leftElement,
+            ChainElement rightElement,
+            Map<ChainElement, String> contentHashes
+    ) {
+        if (rightElement != null && StringUtils.equals(
+                contentHash(leftElement, contentHashes),
+                contentHash(rightElement, contentHashes))) {
+            return new DifferenceResult<>(leftElement, rightElement,
+                    Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+        }
+        return chainElementDiffService.findDifferences(leftElement, rightElement);
+    }
+
+    private String extractMatchingKey(ChainElement element, boolean differentChains, Map<ChainElement, String> contentHashes) {
+        return differentChains ? contentHash(element, contentHashes) : extractElementId(element);
+    }
+
+    private String contentHash(ChainElement element, Map<ChainElement, String> contentHashes) {
+        return contentHashes.computeIfAbsent(element, ChainContentHashUtils::computeContentHash);
+    }
+
     private boolean compareElements(ChainElement leftElement, ChainElement rightElement, boolean differentChains) {
         if (!differentChains) {
             String leftElementId = extractElementId(leftElement);
@@ -197,6 +230,6 @@ private List<ChainElement> filterOutElementsFromSwimlanes(List<ChainElement> ele
     }
 
     private String extractElementId(ChainElement element) {
-        return element.getChain() != null ? element.getId() : element.getOriginalId();
+        return ChainContentHashUtils.elementIdentity(element);
     }
 }
@@ -19,6 +19,8 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.*;
@@ -49,9 +51,11 @@
 import org.qubership.integration.platform.runtime.catalog.model.apispec.ApiSpecificationType;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationSource;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.operations.OperationRepository;
 import org.qubership.integration.platform.runtime.catalog.service.SystemModelService;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.qubership.integration.platform.runtime.catalog.util.TriggerUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -89,14 +93,24 @@ private static class SpecificationBuildParameters {
         boolean externalRoutes;
     }
 
+    private record PathOperation(String path, PathItem.HttpMethod method, Operation operation) {
+    }
+
     private final String externalRoutesBasePath;
     private final ElementRepository elementRepository;
     private final OperationRepository operationRepository;
     private final SystemModelService systemModelService;
 
+    /**
+     * Parsed specification documents keyed by specification id and source hash.
+     * Cached trees are never modified, components are bound from them anew for each export.
+     */
+    private final Cache<String, JsonNode> parsedSpecificationCache;
+
     @Autowired
     public ApiSpecificationExportService(
             @Value("${qip.chains.external-routes.base-path:/qip-routes}") String externalRoutesBasePath,
+            @Value("${qip.export.api-spec.parsed-specifications-cache-size:100}") long parsedSpecificationCacheSize,
             ElementRepository elementRepository,
             OperationRepository operationRepository,
             SystemModelService systemModelService
@@ -107,6 +121,9 @@ public ApiSpecificationExportService(
         this.elementRepository = elementRepository;
         this.operationRepository = operationRepository;
         this.systemModelService = systemModelService;
+        this.parsedSpecificationCache = CacheBuilder.newBuilder()
+                .maximumSize(parsedSpecificationCacheSize)
+                .build();
     }
 
     public Pair<String, byte[]> exportApiSpecification(
@@ -277,19 +294,58 @@ private Chain getElementChain(ChainElement element) {
     }
 
     private Paths buildPaths(Collection<ChainElement> elements) {
+        elements.forEach(this::verifyElement);
+
+        // Everything that needs the persistence context is resolved here,
+        // so operations can be built concurrently without touching lazy associations
+        Map<String, JsonNode> operationSpecifications = findOperationSpecifications(elements);
+        Map<String, String> operationSummaries = elements.stream()
+                .collect(Collectors.toMap(ChainElement::getId, this::buildOperationSummary, (s0, s1) -> s0));
+
+        List<List<PathOperation>> elementsOperations = elements.stream()
+                .parallel()
+                .map(element -> buildPathOperations(element, operationSpecifications, operationSummaries))
+                .toList();
+
+        // Merging in the elements order keeps the resulting specification deterministic
         Paths paths = new Paths();
-        // TODO process operations in parallel manner
-        for (ChainElement element : elements) {
-            verifyElement(element);
-            ElementRoute route = getHttpTriggerRoute(element);
-            PathItem pathItem = paths.computeIfAbsent("/" + route.getPath(), path -> new PathItem());
-            for (HttpMethod method : route.getMethods()) {
-                pathItem.operation(toOpenApiHttpMethod(method), buildOperation(element, route, method));
-            }
-        }
+        elementsOperations.stream().flatMap(Collection::stream).forEach(pathOperation ->
+                paths.computeIfAbsent(pathOperation.path(), path -> new PathItem())
+                        .operation(pathOperation.method(), pathOperation.operation()));
         return paths;
     }
 
+    private List<PathOperation> buildPathOperations(
+            ChainElement element,
+            Map<String, JsonNode> operationSpecifications,
+            Map<String, String> operationSummaries
+    ) {
+        ElementRoute route = getHttpTriggerRoute(element);
+        String path = "/" + route.getPath();
+        return route.getMethods().stream()
+                .map(method -> new PathOperation(path, toOpenApiHttpMethod(method), isImplementedServiceTrigger(element)
+                        ? buildOperationForImplementedServiceTrigger(element, operationSpecifications)
+                        : buildOperationForCustomUriTrigger(element, route, method, operationSummaries.get(element.getId()))))
+                .toList();
+    }
+
+    private Map<String, JsonNode> findOperationSpecifications(Collection<ChainElement> elements) {
+        Set<String> operationIds = elements.stream()
+                .filter(TriggerUtils::isImplementedServiceTrigger)
+                .map(TriggerUtils::getImplementedServiceTriggerOperationId)
+                .collect(Collectors.toSet());
+        Map<String, JsonNode> specifications = new HashMap<>();
+        operationRepository.findAllById(operationIds)
+                .forEach(operation -> specifications.put(operation.getId(), operation.getSpecification()));
+        operationIds.stream()
+                .filter(operationId -> !specifications.containsKey(operationId))
+                .findAny()
+                .ifPresent(operationId -> {
+                    throw new EntityNotFoundException(OPERATION_WITH_ID_NOT_FOUND_MESSAGE + operationId);
+                });
+        return specifications;
+    }
+
     private void verifyElement(ChainElement element) {
         if (!TriggerUtils.isHttpTrigger(element)) {
             throw new WrongChainElementTypeException(element, Collections.singletonList(getHttpTriggerTypeName()));
@@ -300,16 +356,16 @@ private void verifyElement(ChainElement element) {
     }
 
     private Components buildComponents(Collection<ChainElement> elements) {
-        Stream<Components> implementedServiceTriggerComponents = elements.stream()
+        Map<String, JsonNode> specifications = elements.stream()
                 .filter(TriggerUtils::isImplementedServiceTrigger)
                 .map(TriggerUtils::getImplementedServiceTriggerSpecificationId)
                 .distinct()
+                .collect(Collectors.toMap(Function.identity(), this::getSpecification, (s0, s1) -> s0, LinkedHashMap::new));
+        Stream<Components> implementedServiceTriggerComponents = specifications.entrySet().stream()
                 .parallel()
-                .map(specificationId -> {
-                    Components components = getSpecification(specificationId).getComponents();
-                    if (isNull(components)) {
-                        components = new Components();
-                    }
+                .map(specification -> {
+                    String specificationId = specification.getKey();
+                    Components components = bindComponents(specification.getValue());
                     updateReferencesForComponents(components, ref -> addSuffixToRef(ref, specificationId));
                     updateIdentifiersForComponents(components, specificationId);
                     return components;
@@ -361,12 +417,43 @@ private Components buildComponentsFromValidationSchema(String validationSchemaTe
         }
     }
 
-    private OpenAPI getSpecification(String specificationId) {
-        String specificationText = systemModelService.getMainSystemModelSource(specificationId);
+    private JsonNode getSpecification(String specificationId) {
+        SpecificationSource specificationSource = systemModelService.getMainSystemModelSpecSource(specificationId);
+        String specificationText = Optional.ofNullable(specificationSource)
+                .map(SpecificationSource::getSource)
+                .orElse("");
+        String sourceHash = Optional.ofNullable(specificationSource)
+                .map(SpecificationSource::getSourceHash)
+                .orElseGet(() -> HashUtils.sha256hex(specificationText));
+        String cacheKey = specificationId + ":" + sourceHash;
+        JsonNode specificationNode = parsedSpecificationCache.getIfPresent(cacheKey);
+        if (isNull(specificationNode)) {
+            specificationNode = parseSpecification(specificationText);
+            parsedSpecificationCache.put(cacheKey, specificationNode);
+        }
+        return specificationNode;
+    }
+
+    private JsonNode parseSpecification(String specificationText) {
         ApiSpecificationFormat format = guessFormat(specificationText);
-        ObjectMapper mapper = getSpecificationMapper(format);
         try {
-            return mapper.readValue(specificationText, OpenAPI.class);
+            JsonNode specificationNode = getSpecificationMapper(format).readTree(specificationText);
+            if (isNull(specificationNode) || specificationNode.isMissingNode()) {
+                throw new ApiSpecificationExportException("Failed to parse specification: specification is empty");
+            }
+            return specificationNode;
+        } catch (JsonProcessingException exception) {
+            throw new ApiSpecificationExportException("Failed to parse specification", exception);
+        }
+    }
+
+    private Components bindComponents(JsonNode specificationNode) {
+        JsonNode componentsNode = specificationNode.get("components");
+        if (isNull(componentsNode) || componentsNode.isNull()) {
+            return new Components();
+        }
+        try {
+            return Json.mapper().treeToValue(componentsNode, Components.class);
         } catch (JsonProcessingException exception) {
             throw new ApiSpecificationExportException("Failed to parse specification", exception);
         }
@@ -403,20 +490,11 @@ private PathItem.HttpMethod toOpenApiHttpMethod(HttpMethod method) {
         return PathItem.HttpMethod.valueOf(method.name());
     }
 
-    private Operation buildOperation(ChainElement element, ElementRoute route, HttpMethod method) {
-        return isImplementedServiceTrigger(element)
-                ? buildOperationForImplementedServiceTrigger(element)
-                : buildOperationForCustomUriTrigger(element, route, method);
-    }
-
-    private Operation buildOperationForImplementedServiceTrigger(ChainElement element) {
+    private Operation buildOperationForImplementedServiceTrigger(ChainElement element, Map<String, JsonNode> operationSpecifications) {
         String modelId = getImplementedServiceTriggerSpecificationId(element);
         String operationId = getImplementedServiceTriggerOperationId(element);
-        String operationSpecificationText = findOperation(operationId).getSpecification().toString();
-        ApiSpecificationFormat format = guessFormat(operationSpecificationText);
-        ObjectMapper mapper = getSpecificationMapper(format);
         try {
-            Operation operation = mapper.readValue(operationSpecificationText, Operation.class);
+            Operation operation = Json.mapper().treeToValue(operationSpecifications.get(operationId), Operation.class);
             updateOperationId(operation, element);
             updateReferencesForOperation(operation, ref -> addSuffixToRef(ref, modelId));
             return operation;
@@ -635,10 +713,10 @@ private ApiSpecificationFormat guessFormat(String text) {
         return text.trim().startsWith("{") ? ApiSpecificationFormat.JSON : ApiSpecificationFormat.YAML;
     }
 
-    private Operation buildOperationForCustomUriTrigger(ChainElement element, ElementRoute route, HttpMethod method) {
+    private Operation buildOperationForCustomUriTrigger(ChainElement element, ElementRoute route, HttpMethod method, String summary) {
         return new Operation()
                 .operationId(buildOperationId(element, route, method))
-                .summary(buildOperationSummary(element))
+                .summary(summary)
                 .description(element.getDescription())
                 .parameters(buildCustomUriTriggerParameters(route.getPath()))
                 .requestBody(buildRequestBodyForCustomUriTrigger(element))
@@ -697,9 +775,4 @@ private Content buildContentFromValidationSchema(String validationSchemaText) {
             throw new ApiSpecificationExportException("Failed to parse validation schema", exception);
         }
     }
-
-    private org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Operation findOperation(String operationId) {
-        return operationRepository.findById(operationId)
-                .orElseThrow(() -> new EntityNotFoundException(OPERATION_WITH_ID_NOT_FOUND_MESSAGE + operationId));
-    }
 }
@@ -16,12 +16,15 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.exportimport;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.qubership.integration.platform.runtime.catalog.context.RequestIdContext;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ChainDifferenceClientException;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ChainDifferenceException;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ChainImportException;
@@ -42,7 +45,6 @@
 import org.qubership.integration.platform.runtime.catalog.service.difference.ChainDifferenceRequest;
 import org.qubership.integration.platform.runtime.catalog.service.difference.ChainDifferenceService;
 import org.qubership.integration.platform.runtime.catalog.service.difference.EntityDifferenceResult;
-import org.qubership.integration.platform.runtime.catalog.service.exportimport.entity.ChainDeployPrepare;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.instructions.ImportInstructionsService;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.mapper.chain.ChainExternalEntityMapper;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.migrations.FileMigrationService;
@@ -52,14 +54,18 @@
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.util.ChainUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
-import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -92,11 +98,16 @@ public class ChainImportService {
     private final ImportInstructionsService importInstructionsService;
     private final FileMigrationService fileMigrationService;
     private final Collection<ChainImportFileMigration> chainImportFileMigrations;
+    private final Executor chainImportExecutor;
+    private final Executor chainSnapshotExecutor;
+    private final Executor chainDeployExecutor;
 
     @Value("${qip.build.artifact-descriptor-version}")
     private String artifactDescriptorVersion;
     @Value("${app.prefix}")
     private String appName;
+    @Value("${qip.import.chains.parallelism:4}")
+    private int importParallelism;
 
     @Autowired
     public ChainImportService(
@@ -117,7 +128,10 @@ public ChainImportService(
             ChainDifferenceService chainDifferenceService,
             ImportInstructionsService importInstructionsService,
             FileMigrationService fileMigrationService,
-            Collection<ChainImportFileMigration> chainImportFileMigrations
+            Collection<ChainImportFileMigration> chainImportFileMigrations,
+            @Qualifier("chainImportExecutor") Executor chainImportExecutor,
+            @Qualifier("chainSnapshotExecutor") Executor chainSnapshotExecutor,
+            @Qualifier("chainDeployExecutor") Executor chainDeployExecutor
     ) {
         this.yamlMapper = yamlMapper;
         this.transactionTemplate = transactionTemplate;
@@ -137,6 +151,9 @@ public ChainImportService(
         this.importInstructionsService = importInstructionsService;
         this.fileMigrationService = fileMigrationService;
         this.chainImportFileMigrations = chainImportFileMigrations;
+        this.chainImportExecutor = chainImportExecutor;
+        this.chainSnapshotExecutor = chainSnapshotExecutor;
+        this.chainDeployExecutor = chainDeployExecutor;
     }
 
     public List<ImportChainPreviewDTO> getChainsImportPreview(File importDirectory, ChainImportInstructionsConfig instructionsConfig) {
@@ -172,9 +189,7 @@ public EntityDifferenceResult compareChains(File importDirectory, ChainDifferenc
 
         Chain rightChain;
         try {
-            String chainYAML = Files.readString(getChainYAMLFile(chainDir).toPath());
-            chainYAML = migrateToActualFileVersion(chainYAML);
-            ChainExternalEntity chainExternalEntity = yamlMapper.readValue(chainYAML, ChainExternalEntity.class);
+            ChainExternalEntity chainExternalEntity = readChainExternalEntity(chainDir);
             rightChain = chainExternalEntityMapper.toInternalEntity(ChainExternalMapperEntity.builder()
                     .chainExternalEntity(chainExternalEntity)
                     .chainFilesDirectory(chainDir)
@@ -204,10 +219,15 @@ public ImportChainsAndInstructionsResult importChains(
             Set<String> technicalLabels,
             boolean validateByHash
     ) {
+        // Chains flow through save, snapshot build and deployment stages: snapshots are built
+        // on their own executor while the next chains are being saved
+        Map<String, ChainCommitRequest> deployRequests = indexCommitRequests(commitRequests);
+        List<ChainDeployTask> deployTasks = new ArrayList<>();
         ImportChainsAndInstructionsResult importResult = restoreChainsFromDir(
-                importDirectory, new ArrayList<>(commitRequests), importId, technicalLabels, validateByHash
+                importDirectory, new ArrayList<>(commitRequests), importId, technicalLabels, validateByHash,
+                chainResult -> startSnapshotBuild(chainResult, deployRequests, technicalLabels).ifPresent(deployTasks::add)
         );
-        makeDeployActions(importResult.chainResults(), commitRequests, importId, technicalLabels);
+        deployChains(deployTasks, importId);
 
         return importResult;
     }
@@ -216,9 +236,7 @@ private ImportChainPreviewDTO restoreChainsFromDirForPreview(File chainDir, Chai
         ImportChainPreviewDTO importChainPreview;
 
         try {
-            File chainYAMLFile = getChainYAMLFile(chainDir);
-            String chainYaml = migrateToActualFileVersion(Files.readString(chainYAMLFile.toPath()));
-            ChainExternalEntity chainExternalEntity = yamlMapper.readValue(chainYaml, ChainExternalEntity.class);
+            ChainExternalEntity chainExternalEntity = readChainExternalEntity(chainDir);
             Set<String> usedSystemIds = new HashSet<>();
             collectUsedSystemIds(chainExternalEntity.getContent().getElements(), usedSystemIds);
             Boolean chainExists = chainService.exists(chainExternalEntity.getId());
@@ -275,9 +293,11 @@ private ImportChainsAndInstructionsResult restoreChainsFromDir(
             ArrayList<ChainCommitRequest> commitRequests,
             String importId,
             Set<String> technicalLabels,
-            boolean validateByHash
+            boolean validateByHash,
+            Consumer<ImportChainResult> onChainRestored
     ) {
         List<ImportChainResult> importChainResults = new ArrayList<>();
+        Map<String, ChainCommitRequest> commitRequestsById = indexCommitRequests(commitRequests);
 
         importDirectory = new File(importDirectory, CHAINS_ARCH_PARENT_DIR);
         File[] chainFilesDirectories = importDirectory.listFiles(File::isDirectory);
@@ -291,6 +311,15 @@ private ImportChainsAndInstructionsResult restoreChainsFromDir(
         Map<String, String> overridesMapping = chainsIgnoreOverrideResult.overridesMapping();
         int total = chainFilesDirectories.length;
         int counter = 0;
+
+        // Chain files are parsed ahead on the import executor while previously parsed chains are persisted,
+        // the prefetch window bounds the number of parsed chains held in memory
+        Iterator<File> chainDirsToParse = Stream.of(chainFilesDirectories)
+                .filter(chainFilesDir -> chainsToImport.containsKey(chainFilesDir.getName()))
+                .iterator();
+        Deque<CompletableFuture<ParsedChainFiles>> parsedChainsQueue = new ArrayDeque<>();
+        int prefetchSize = Math.max(1, importParallelism) * 2;
+
         for (File chainFilesDir : chainFilesDirectories) {
             String chainId = chainFilesDir.getName();
             if (!chainsToImport.containsKey(chainId)) {
@@ -313,45 +342,77 @@ private ImportChainsAndInstructionsResult restoreChainsFromDir(
                     importId, total, counter, ImportSessionService.SERVICE_IMPORT_PERCENTAGE_THRESHOLD, ImportSessionService.CHAIN_IMPORT_PERCENTAGE_THRESHOLD);
             counter++;
 
-            ImportChainResult chainResult = restoreOneChainFromDir(chainFilesDir, commitRequests, technicalLabels, overridesPair, validateByHash);
+            while (parsedChainsQueue.size() < prefetchSize && chainDirsToParse.hasNext()) {
+                parsedChainsQueue.add(parseChainFilesAsync(chainDirsToParse.next()));
+            }
+            ParsedChainFiles parsedChainFiles = parsedChainsQueue.remove().join();
+
+            ImportChainResult chainResult = restoreOneChainFromDir(parsedChainFiles, commitRequestsById, technicalLabels, overridesPair, validateByHash);
 
             if (chainResult != null) {
                 importChainResults.add(chainResult);
 
                 ChainCommitRequestAction deployAction = chainsToImport.get(chainId);
                 if (deployAction != null) {
-                    commitRequests.stream()
-                            .filter(commitRequest -> chainId.equals(commitRequest.getId()))
-                            .findFirst()
-                            .ifPresentOrElse(
-                                    commitRequest -> commitRequest.setDeployAction(deployAction),
-                                    () -> commitRequests.add(ChainCommitRequest.builder()
-                                            .id(chainId)
-                                            .deployAction(deployAction)
-                                            .build()));
+                    ChainCommitRequest commitRequest = commitRequestsById.get(chainId);
+                    if (commitRequest != null) {
+                        commitRequest.setDeployAction(deployAction);
+                    } else {
+                        commitRequest = ChainCommitRequest.builder()
+                                .id(chainId)
+                                .deployAction(deployAction)
+                                .build();
+                        commitRequests.add(commitRequest);
+                        commitRequestsById.put(chainId, commitRequest);
+                    }
                 }
+                onChainRestored.accept(chainResult);
             }
         }
 
         return new ImportChainsAndInstructionsResult(importChainResults, chainsIgnoreOverrideResult.chainImportInstructionResults());
     }
 
+    private CompletableFuture<ParsedChainFiles> parseChainFilesAsync(File chainFilesDir) {
+        String requestId = RequestIdContext.get();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                RequestIdContext.set(requestId);
+                return parseChainFiles(chainFilesDir);
+            } finally {
+                RequestIdContext.clear();
+            }
+        }, chainImportExecutor);
+    }
+
+    private ParsedChainFiles parseChainFiles(File chainFilesDir) {
+        ChainExternalEntity chainExternalEntity = null;
+        try {
+            chainExternalEntity = readChainExternalEntity(chainFilesDir);
+            String externalHash = ChainUtils.getChainFilesHash(chainFilesDir, artifactDescriptorVersion);
+            return new ParsedChainFiles(chainFilesDir, chainExternalEntity, externalHash, null);
+        } catch (Exception e) {
+            return new ParsedChainFiles(chainFilesDir, chainExternalEntity, null, e);
+        }
+    }
+
     private ImportChainResult restoreOneChainFromDir(
-            File chainFilesDir,
-            List<ChainCommitRequest> commitRequests,
+            ParsedChainFiles parsedChainFiles,
+            Map<String, ChainCommitRequest> commitRequests,
             Set<String> technicalLabels,
             Pair<String, String> overridesPair,
             boolean validateByHash
     ) {
         ImportChainResult importChainResult = null;
-        ChainExternalEntity chainExternalEntity = null;
+        ChainExternalEntity chainExternalEntity = parsedChainFiles.chainExternalEntity();
         try {
-            String chainYAML = Files.readString(getChainYAMLFile(chainFilesDir).toPath());
-            chainYAML = migrateToActualFileVersion(chainYAML);
-            chainExternalEntity = yamlMapper.readValue(chainYAML, ChainExternalEntity.class);
+            if (parsedChainFiles.exception() != null) {
+                throw parsedChainFiles.exception();
+            }
 
+            File chainFilesDir = parsedChainFiles.chainFilesDir();
             String chainId = chainExternalEntity.getId();
-            String externalHash = ChainUtils.getChainFilesHash(chainFilesDir, artifactDescriptorVersion);
+            String externalHash = parsedChainFiles.externalHash();
 
             if (validateByHash && isSameHash(chainId, externalHash)) {
                 log.info(CHAINS_HASH_MATCHED_LOG_MESSAGE, chainId);
@@ -398,8 +459,16 @@ private ImportChainResult restoreOneChainFromDir(
         return importChainResult;
     }
 
-    private boolean shouldCommitChain(List<ChainCommitRequest> commitRequests, String chainId) {
-        return CollectionUtils.isEmpty(commitRequests) || commitRequests.stream().anyMatch(request -> Objects.equals(request.getId(), chainId));
+    private boolean shouldCommitChain(Map<String, ChainCommitRequest> commitRequests, String chainId) {
+        return commitRequests.isEmpty() || commitRequests.containsKey(chainId);
+    }
+
+    private static Map<String, ChainCommitRequest> indexCommitRequests(List<ChainCommitRequest> commitRequests) {
+        Map<String, ChainCommitRequest> commitRequestsById = new HashMap<>();
+        if (commitRequests != null) {
+            commitRequests.forEach(commitRequest -> commitRequestsById.putIfAbsent(commitRequest.getId(), commitRequest));
+        }
+        return commitRequestsById;
     }
 
     private boolean isSameHash(String chainId, String externalHash) {
@@ -464,9 +533,18 @@ public static void replaceTechnicalLabels(Set<String> technicalLabels, Chain cha
         }
     }
 
-    protected String migrateToActualFileVersion(String fileContent) throws Exception {
+    /**
+     * Reads the chain YAML file of a chain directory as a tree exactly once,
+     * migrates the tree in place and binds the external entity directly from it.
+     */
+    private ChainExternalEntity readChainExternalEntity(File chainDir) throws Exception {
+        JsonNode chainNode = yamlMapper.readTree(getChainYAMLFile(chainDir));
+        return yamlMapper.treeToValue(migrateToActualFileVersion(chainNode), ChainExternalEntity.class);
+    }
+
+    protected ObjectNode migrateToActualFileVersion(JsonNode chainNode) throws Exception {
         try {
-            return fileMigrationService.migrate(fileContent, chainImportFileMigrations.stream().map(ImportFileMigration.class::cast).toList());
+            return fileMigrationService.migrate(chainNode, chainImportFileMigrations.stream().map(ImportFileMigration.class::cast).toList());
         } catch (MigrationException exception) {
             String message = nonNull(exception.getEntityId())
                     ? String.format("Failed to migrate data for chain %s (%s): %s",
@@ -488,94 +566,113 @@ private File getChainYAMLFile(File chainDir) {
         return chainFiles[0];
     }
 
-    private void makeDeployActions(List<ImportChainResult> chainsResult, List<ChainCommitRequest> commitRequests, String importId, Set<String> technicalLabels) {
-        List<ChainDeployPrepare> preparedDeployments = new ArrayList<>();
-        int total = chainsResult.size();
-        int counter = 0;
-        for (ImportChainResult chainResult : chainsResult) {
-            importProgressService.calculateImportStatus(
-                    importId, total, counter, ImportSessionService.CHAIN_IMPORT_PERCENTAGE_THRESHOLD, ImportSessionService.SNAPSHOT_BUILD_PERCENTAGE_THRESHOLD);
-            counter++;
+    Optional<ChainDeployTask> startSnapshotBuild(
+            ImportChainResult chainResult,
+            Map<String, ChainCommitRequest> commitRequests,
+            Set<String> technicalLabels
+    ) {
+        if (chainResult.getStatus() == ImportEntityStatus.ERROR
+                || chainResult.getStatus() == ImportEntityStatus.SKIPPED
+                || chainResult.getStatus() == ImportEntityStatus.IGNORED) {
+            return Optional.empty();
+        }
 
-            if (chainResult.getStatus() == ImportEntityStatus.ERROR
-                    || chainResult.getStatus() == ImportEntityStatus.SKIPPED
-                    || chainResult.getStatus() == ImportEntityStatus.IGNORED) {
-                continue;
+        ChainCommitRequest request = null;
+        if (!commitRequests.isEmpty()) {
+            request = commitRequests.get(chainResult.getId());
+            if (request == null || request.getDeployAction() == ChainCommitRequestAction.NONE) {
+                return Optional.empty();
             }
+        }
 
-            ChainCommitRequest request = null;
-            if (!CollectionUtils.isEmpty(commitRequests)) {
-                request = commitRequests.stream()
-                        .filter(cRequest -> StringUtils.equals(cRequest.getId(), chainResult.getId()))
-                        .findAny()
-                        .orElse(null);
-                if (request == null || request.getDeployAction() == ChainCommitRequestAction.NONE) {
-                    continue;
-                }
+        String requestId = RequestIdContext.get();
+        CompletableFuture<Snapshot> snapshot = CompletableFuture.supplyAsync(() -> {
+            try {
+                RequestIdContext.set(requestId);
+                return snapshotService.build(chainResult.getId(), technicalLabels);
+            } finally {
+                RequestIdContext.clear();
             }
+        }, chainSnapshotExecutor);
+        return Optional.of(new ChainDeployTask(chainResult, request, snapshot));
+    }
 
-            try {
-                Snapshot snapshot = snapshotService.build(chainResult.getId(), technicalLabels);
-                if (request != null) {
-                    if (request.getDeployAction() == ChainCommitRequestAction.SNAPSHOT) {
-                        continue;
+    void deployChains(List<ChainDeployTask> deployTasks, String importId) {
+        // Deployments replaced by this import must not conflict with the new ones. They are known
+        // once all chains are saved, snapshots that are still being built are deployed as they complete.
+        List<String> deployedChainIds = deployTasks.stream()
+                .filter(ChainDeployTask::hasDeployments)
+                .map(task -> task.chainResult().getId())
+                .toList();
+        List<Deployment> oldDeployments = deployedChainIds.isEmpty()
+                ? Collections.emptyList()
+                : deploymentService.findAllByChainIdIn(deployedChainIds);
+
+        String requestId = RequestIdContext.get();
+        List<CompletableFuture<Void>> deployments = deployTasks.stream()
+                .map(task -> task.snapshot().handleAsync((snapshot, throwable) -> {
+                    try {
+                        RequestIdContext.set(requestId);
+                        deployChain(task, snapshot, throwable, oldDeployments);
+                        return (Void) null;
+                    } finally {
+                        RequestIdContext.clear();
                     }
-                    if (request.getDeployAction() == ChainCommitRequestAction.DEPLOY && CollectionUtils.isNotEmpty(request.getDomains())) {
-                        List<DeploymentExternalEntity> deployments = request.getDomains().stream()
-                                .map(domain -> DeploymentExternalEntity.builder().domain(domain.getName()).build())
-                                .collect(Collectors.toList());
-                        chainResult.setDeployments(deployments);
-                    }
-                }
-                if (CollectionUtils.isNotEmpty(chainResult.getDeployments())) {
-                    preparedDeployments.add(new ChainDeployPrepare(chainResult, snapshot));
-                }
-            } catch (Exception e) {
-                chainResult.setStatus(ImportEntityStatus.ERROR);
-                chainResult.setErrorMessage(SAVED_WITHOUT_SNAPSHOT_ERROR_MESSAGE + e.getMessage());
-            }
-        }
+                }, chainDeployExecutor))
+                .toList();
 
-        deployChains(preparedDeployments, importId);
+        int total = deployments.size();
+        int counter = 0;
+        for (CompletableFuture<Void> deployment : deployments) {
+            deployment.join();
+            counter++;
+            importProgressService.calculateImportStatus(importId, total, counter, ImportSessionService.CHAIN_IMPORT_PERCENTAGE_THRESHOLD, 100);
+        }
     }
 
-    private void deployChains(List<ChainDeployPrepare> chainsToDeploy, String importId) {
-        List<Deployment> oldDeploysList = new ArrayList<>();
-        int total = chainsToDeploy.size();
-        int counter = 0;
+    private void deployChain(ChainDeployTask task, Snapshot snapshot, Throwable snapshotError, List<Deployment> oldDeployments) {
+        ImportChainResult importChainResult = task.chainResult();
+        if (snapshotError != null) {
+            Throwable cause = snapshotError instanceof CompletionException ? snapshotError.getCause() : snapshotError;
+            importChainResult.setStatus(ImportEntityStatus.ERROR);
+            importChainResult.setErrorMessage(SAVED_WITHOUT_SNAPSHOT_ERROR_MESSAGE + cause.getMessage());
+            return;
+        }
 
-        for (ChainDeployPrepare entity : chainsToDeploy) {
-            String chainId = entity.getImportChainResult().getId();
-            oldDeploysList.addAll(deploymentService.findAllByChainId(chainId));
+        ChainCommitRequest request = task.request();
+        if (request != null) {
+            if (request.getDeployAction() == ChainCommitRequestAction.SNAPSHOT) {
+                return;
+            }
+            if (request.getDeployAction() == ChainCommitRequestAction.DEPLOY && CollectionUtils.isNotEmpty(request.getDomains())) {
+                List<DeploymentExternalEntity> deployments = request.getDomains().stream()
+                        .map(domain -> DeploymentExternalEntity.builder().domain(domain.getName()).build())
+                        .collect(Collectors.toList());
+                importChainResult.setDeployments(deployments);
+            }
         }
-        for (ChainDeployPrepare entity : chainsToDeploy) {
-            importProgressService.calculateImportStatus(importId, total, counter, ImportSessionService.SNAPSHOT_BUILD_PERCENTAGE_THRESHOLD, 100);
-            counter++;
 
-            ImportChainResult importChainResult = entity.getImportChainResult();
-            Snapshot snapshot = entity.getSnapshot();
-            List<DeploymentExternalEntity> deployments = importChainResult.getDeployments();
-
-            if (!CollectionUtils.isEmpty(deployments)) {
-                try {
-                    for (DeploymentExternalEntity deployment : deployments) {
-                        if (engineService.isDevMode() || engineService.getDomainByName(deployment.getDomain()) != null) {
-                            createDeployment(snapshot, oldDeploysList, deployment);
-                        } else {
-                            importChainResult.setStatus(ImportEntityStatus.ERROR);
-                            importChainResult.setErrorMessage(
-                                    SAVED_WITHOUT_DEPLOYMENT_ERROR_MESSAGE + "domain "
-                                            + deployment.getDomain() + " doesn't exists");
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("Unable to deploy chain {} {}", importChainResult.getId(),
-                            e.getMessage());
+        List<DeploymentExternalEntity> deployments = importChainResult.getDeployments();
+        if (CollectionUtils.isEmpty(deployments)) {
+            return;
+        }
+        try {
+            for (DeploymentExternalEntity deployment : deployments) {
+                if (engineService.isDevMode() || engineService.getDomainByName(deployment.getDomain()) != null) {
+                    createDeployment(snapshot, oldDeployments, deployment);
+                } else {
                     importChainResult.setStatus(ImportEntityStatus.ERROR);
                     importChainResult.setErrorMessage(
-                            SAVED_WITHOUT_DEPLOYMENT_ERROR_MESSAGE + e.getMessage());
+                            SAVED_WITHOUT_DEPLOYMENT_ERROR_MESSAGE + "domain "
+                                    + deployment.getDomain() + " doesn't exists");
                 }
             }
+        } catch (Exception e) {
+            log.error("Unable to deploy chain {} {}", importChainResult.getId(),
+                    e.getMessage());
+            importChainResult.setStatus(ImportEntityStatus.ERROR);
+            importChainResult.setErrorMessage(
+                    SAVED_WITHOUT_DEPLOYMENT_ERROR_MESSAGE + e.getMessage());
         }
     }
 
@@ -630,7 +727,8 @@ private void logImportAction(@NonNull Chain chain, LogOperation operation) {
      */
     @Deprecated(since = "2023.4")
     public List<ImportChainResult> restoreChainsFromDirBackward(File importDirectory, List<ChainCommitRequest> commitRequests, String importId, Set<String> technicalLabels) {
-        return restoreChainsFromDir(importDirectory, new ArrayList<>(commitRequests), importId, technicalLabels, false).chainResults();
+        return restoreChainsFromDir(importDirectory, new ArrayList<>(commitRequests), importId, technicalLabels, false, chainResult -> { })
+                .chainResults();
     }
 
     /**
@@ -648,4 +746,30 @@ public void saveImportedChainBackward(Chain importedChain) {
         }
         setActualChainState(existingFolder, currentChainState, importedChain);
     }
+
+    private record ParsedChainFiles(
+            File chainFilesDir,
+            ChainExternalEntity chainExternalEntity,
+            String externalHash,
+            Exception exception
+    ) {
+    }
+
+    record ChainDeployTask(
+            ImportChainResult chainResult,
+            ChainCommitRequest request,
+            CompletableFuture<Snapshot> snapshot
+    ) {
+        boolean hasDeployments() {
+            if (request != null) {
+                if (request.getDeployAction() == ChainCommitRequestAction.SNAPSHOT) {
+                    return false;
+                }
+                if (request.getDeployAction() == ChainCommitRequestAction.DEPLOY && CollectionUtils.isNotEmpty(request.getDomains())) {
+                    return true;
+                }
+            }
+            return CollectionUtils.isNotEmpty(chainResult.getDeployments());
+        }
+    }
 }
@@ -36,11 +36,13 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -61,6 +63,9 @@ public class ExportService {
     @Value("${qip.export.legacy-format}")
     private boolean isLegacyExport;
 
+    @Value("${qip.export.chains.page-size:50}")
+    private int exportPageSize;
+
     private final YAMLMapper yamlMapper;
     private final ChainService chainService;
     private final ChainFinderService chainFinderService;
@@ -92,7 +97,7 @@ public Pair<String, byte[]> exportAllChains() {
 
     public Pair<String, byte[]> exportListChains(List<String> chainIds, boolean exportWithSubChains) {
         if (exportWithSubChains) {
-            chainIds = chainService.getSubChainsIds(chainIds, new ArrayList<String>());
+            chainIds = chainService.getSubChainsIds(chainIds);
         }
         List<Chain> chains = chainFinderService.findAllById(chainIds);
         return exportChain(chains);
@@ -103,28 +108,60 @@ public Pair<String, byte[]> exportSingleChain(String chainId) {
         return exportChain(List.of(chain));
     }
 
-    private Pair<String, byte[]> exportChain(@NonNull List<Chain> chains) {
-        Map<Path, byte[]> fileContentMap = new HashMap<>();
+    /**
+     * Writes the archive directly to the given stream. Chains are loaded by pages of
+     * {@code qip.export.chains.page-size} and detached from the persistence context once written,
+     * so memory consumption does not depend on the number of exported chains.
+     *
+     * @param chainIds chains to export, all chains are exported if {@code null}
+     */
+    public void exportChainsToStream(@Nullable List<String> chainIds, boolean exportWithSubChains, OutputStream outputStream) {
+        List<String> idsToExport;
+        if (chainIds == null) {
+            idsToExport = chainFinderService.findAllIds();
+        } else {
+            idsToExport = exportWithSubChains
+                    ? chainService.getSubChainsIds(chainIds)
+                    : chainIds;
+        }
 
         try {
-            for (Chain chain : chains) {
-                fileContentMap.putAll(createChainFiles(chain));
+            ZipOutputStream zipOut = new ZipOutputStream(outputStream);
+            for (int from = 0; from < idsToExport.size(); from += exportPageSize) {
+                List<String> pageIds = idsToExport.subList(from, Math.min(from + exportPageSize, idsToExport.size()));
+                for (Chain chain : chainFinderService.findAllById(pageIds)) {
+                    writeChainFiles(zipOut, chain);
+                    logChainExport(chain);
+                }
+                zipOut.flush();
+                chainService.clearContext();
             }
+            zipOut.finish();
+        } catch (Exception e) {
+            throw new ChainExportException(e);
+        }
+    }
+
+    private Pair<String, byte[]> exportChain(@NonNull List<Chain> chains) {
+        try {
             String zipName = generateExportZipName();
-            byte[] zipBytes = zipChainFiles(fileContentMap);
+            ByteArrayOutputStream fos = new ByteArrayOutputStream();
+            try (ZipOutputStream zipOut = new ZipOutputStream(fos)) {
+                for (Chain chain : chains) {
+                    writeChainFiles(zipOut, chain);
+                }
+            }
             for (Chain chain : chains) {
                 logChainExport(chain);
             }
-            return Pair.of(zipName, zipBytes);
+            return Pair.of(zipName, fos.toByteArray());
         } catch (Exception e) {
             throw new ChainExportException(e);
         }
     }
 
-    private Map<Path, byte[]> createChainFiles(Chain chain) throws IOException, JSONException {
-        Map<Path, byte[]> result = new HashMap<>();
-
-        Path chainDirectory = getChainDirectory(chain);
+    private void writeChainFiles(ZipOutputStream zipOut, Chain chain) throws IOException, JSONException {
+        Path chainDirectory = Path.of(CHAINS_ARCH_PARENT_DIR).resolve(getChainDirectory(chain));
 
         String chainFileName = generateChainYamlName(chain);
         List<Deployment> deployments = chain.getDeployments();
@@ -138,34 +175,19 @@ private Map<Path, byte[]> createChainFiles(Chain chain) throws IOException, JSON
         }
         var entity = chainExternalEntityMapper.toExternalEntity(chain);
         ObjectNode node = fileMigrationService.revertMigrationIfNeeded(yamlMapper.valueToTree(entity.getChainExternalEntity()));
-        result.put(chainDirectory.resolve(chainFileName), yamlMapper.writeValueAsString(node).getBytes());
-        entity.getElementPropertyFiles().forEach((name, data) -> {
+        writeZipEntry(zipOut, chainDirectory.resolve(chainFileName), yamlMapper.writeValueAsBytes(node));
+        for (Map.Entry<String, byte[]> propertyFile : entity.getElementPropertyFiles().entrySet()) {
             String fileName = isLegacyExport
-                    ? name
-                    : RESOURCES_FOLDER_PREFIX + name;
-
-            Path targetPath = chainDirectory.resolve(fileName);
-            result.put(targetPath, data);
-        });
-
-        return result;
+                    ? propertyFile.getKey()
+                    : RESOURCES_FOLDER_PREFIX + propertyFile.getKey();
+            writeZipEntry(zipOut, chainDirectory.resolve(fileName), propertyFile.getValue());
+        }
     }
 
-    private byte[] zipChainFiles(Map<Path, byte[]> fileContentMap) throws IOException {
-        ZipOutputStream zipOut;
-        ByteArrayOutputStream fos = new ByteArrayOutputStream();
-        zipOut = new ZipOutputStream(fos);
-        for (Map.Entry<Path, byte[]> entry : fileContentMap.entrySet()) {
-            Path path = Path.of(CHAINS_ARCH_PARENT_DIR).resolve(entry.getKey());
-            ZipEntry zipEntry = new ZipEntry(path.toString());
-            zipOut.putNextEntry(zipEntry);
-            byte[] data = entry.getValue();
-            zipOut.write(data, 0, data.length);
-            zipOut.closeEntry();
-        }
-        zipOut.close();
-        fos.close();
-        return fos.toByteArray();
+    private void writeZipEntry(ZipOutputStream zipOut, Path path, byte[] data) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(path.toString()));
+        zipOut.write(data, 0, data.length);
+        zipOut.closeEntry();
     }
 
     public Path getChainDirectory(Chain chain) {
@@ -37,6 +37,7 @@
 import org.qubership.integration.platform.runtime.catalog.service.difference.ChainDifferenceRequest;
 import org.qubership.integration.platform.runtime.catalog.service.difference.EntityDifferenceResult;
 import org.qubership.integration.platform.runtime.catalog.service.exportimport.instructions.ImportInstructionsService;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJob;
 import org.qubership.integration.platform.runtime.catalog.service.variables.CommonVariablesService;
 import org.qubership.integration.platform.runtime.catalog.util.ExportImportUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +48,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -89,6 +91,14 @@ public ImportSession getImportSession(String importId) {
         return importSessionService.getImportSession(importId);
     }
 
+    public CompletableFuture<Optional<AsyncJob<ImportSession>>> awaitImportSession(
+            String importId,
+            @Nullable Long knownVersion,
+            Duration wait
+    ) {
+        return importSessionService.awaitImportSession(importId, knownVersion, wait);
+    }
+
     public ImportPreviewResponse getImportPreview(MultipartFile file) {
         File unpackedDirectory = null;
 
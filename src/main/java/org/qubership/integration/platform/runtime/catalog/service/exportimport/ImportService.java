@@ -18,9 +18,11 @@
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.runtime.catalog.context.RequestIdContext;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ChainImportException;
@@ -67,10 +69,14 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import javax.annotation.Nullable;
 
 import static java.util.Objects.nonNull;
@@ -190,13 +196,25 @@ public ImportChainPreviewDTO restoreChainPreviewFromDir(File chainFilesDir) {
     }
 
     public ImportChainPreviewDTO restoreChainPreviewFromYaml(String yaml) {
+        try {
+            return restoreChainPreviewFromNode(yamlMapper.readTree(yaml));
+        } catch (Exception e) {
+            log.warn("Exception while chain import: ", e);
+            ImportChainPreviewDTO resultImportChainPreviewDTO = new ImportChainPreviewDTO();
+            resultImportChainPreviewDTO.setErrorMessage(
+                    "Exception while chain import: " + e.getMessage());
+            return resultImportChainPreviewDTO;
+        }
+    }
+
+    private ImportChainPreviewDTO restoreChainPreviewFromNode(JsonNode chainNode) {
         ImportChainPreviewDTO resultImportChainPreviewDTO;
         Set<String> usedSystems = Collections.emptySet();
 
         try {
-            yaml = migrateToActualFileVersion(yaml);
-            resultImportChainPreviewDTO = yamlMapper.readValue(yaml, ImportChainPreviewDTO.class);
-            JsonNode elementsNode = yamlMapper.readTree(yaml).get("elements");
+            ObjectNode migratedChainNode = migrateToActualFileVersion(chainNode);
+            resultImportChainPreviewDTO = yamlMapper.treeToValue(migratedChainNode, ImportChainPreviewDTO.class);
+            JsonNode elementsNode = migratedChainNode.get("elements");
             if (elementsNode != null) {
                 usedSystems = getUsedSystemIdsFromNode(elementsNode);
             }
@@ -452,14 +470,14 @@ public ImportChainResult restoreChainFromYaml(String yaml, File chainFilesDir,
         ImportChainResult resultImportChainDTO = null;
         ChainCompareDTO basicChainInfo = null;
         try {
-            String migratedYaml = migrateToActualFileVersion(yaml);
-            basicChainInfo = getYamlBasicChainInfo(migratedYaml);
+            ObjectNode migratedChainNode = migrateToActualFileVersion(yamlMapper.readTree(yaml));
+            basicChainInfo = getYamlBasicChainInfo(migratedChainNode);
             ChainCompareDTO finalBasicChainInfo = basicChainInfo;
             if (CollectionUtils.isEmpty(commitRequests)
                     || commitRequests.stream()
                             .anyMatch(request -> request.getId().equals(finalBasicChainInfo.getId()))) {
 
-                ChainExternalEntity chainExternalEntity = yamlMapper.readValue(migratedYaml, ChainExternalEntity.class);
+                ChainExternalEntity chainExternalEntity = yamlMapper.treeToValue(migratedChainNode, ChainExternalEntity.class);
                 Chain currentChainState = chainFinderService.tryFindById(chainExternalEntity.getId()).orElse(null);
                 ImportEntityStatus importStatus = currentChainState != null ? ImportEntityStatus.UPDATED : ImportEntityStatus.CREATED;
                 Folder existingFolder = null;
@@ -849,44 +867,74 @@ private void calculateDeployAsyncStatus(String importId, int total, int counter)
         importProgressService.calculateImportStatus(importId, total, counter, ASYNC_SNAPSHOT_BUILD_PERCENTAGE_THRESHOLD, 100);
     }
 
+    /**
+     * Builds the preview straight from the archive stream: chain YAML entries are parsed once
+     * as they are read, other entries are skipped without being unpacked to disk.
+     */
     public ImportPreviewDTO importZIPAsPreview(InputStream is) {
-        File importDirectory = null;
         ImportPreviewDTO response = new ImportPreviewDTO();
-        List<File> chainFilesDirectories = null;
+        Set<Path> chainDirectories = new LinkedHashSet<>();
+        Set<Path> previewedChainDirectories = new HashSet<>();
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(is)) {
+            for (ZipEntry entry; (entry = zipInputStream.getNextEntry()) != null; ) {
+                Path entryPath = Paths.get(entry.getName()).normalize();
+                if (isChainDirectoryEntry(entryPath, entry.isDirectory())) {
+                    chainDirectories.add(entryPath.subpath(0, 2));
+                }
+                if (entry.isDirectory()
+                        || !isChainYAMLEntry(entryPath)
+                        || !previewedChainDirectories.add(entryPath.getParent())) {
+                    continue;
+                }
 
-        try {
-            importDirectory = new File(
-                    ExportImportUtils.extractDirectoriesFromZip(is, generateImportFolderName())
-                            + File.separator + CHAINS_ARCH_PARENT_DIR);
-            File[] listFiles = importDirectory.listFiles();
-            importDirectory = importDirectory.getParentFile();
-            if (listFiles != null) {
-                chainFilesDirectories = Arrays.stream(Objects.requireNonNull(listFiles))
-                        .filter(File::isDirectory)
-                        .collect(Collectors.toList());
+                ImportChainPreviewDTO chainPreview;
+                try {
+                    chainPreview = restoreChainPreviewFromNode(
+                            yamlMapper.readTree(CloseShieldInputStream.wrap(zipInputStream)));
+                } catch (Exception e) {
+                    log.warn("Exception while chain import: ", e);
+                    chainPreview = new ImportChainPreviewDTO();
+                    chainPreview.setErrorMessage("Exception while chain import: " + e.getMessage());
+                }
+                response.getChains().add(chainPreview);
+            }
+
+            chainDirectories.removeAll(previewedChainDirectories);
+            for (Path chainDirectory : chainDirectories) {
+                String errorMessage = "Directory " + chainDirectory.getFileName() + " does not contain chain YAML file";
+                log.warn("Exception while chain import: {}", errorMessage);
+                ImportChainPreviewDTO chainPreview = new ImportChainPreviewDTO();
+                chainPreview.setErrorMessage("Exception while chain import: " + errorMessage);
+                response.getChains().add(chainPreview);
             }
         } catch (Exception e) {
             log.warn("Exception while importing preview from zip: ", e);
+            response.setChains(new ArrayList<>());
             response.setErrorMessage(
                     "Exception while importing preview from zip: " + e.getMessage());
-            ExportImportUtils.deleteFile(importDirectory);
-            return response;
         }
 
-        if (!CollectionUtils.isEmpty(chainFilesDirectories)) {
-            for (File chainFilesDir : chainFilesDirectories) {
-                response.getChains().add(restoreChainPreviewFromDir(chainFilesDir));
-            }
-        }
+        return response;
+    }
 
-        ExportImportUtils.deleteFile(importDirectory);
+    private boolean isChainDirectoryEntry(Path entryPath, boolean directory) {
+        return entryPath.getNameCount() >= (directory ? 2 : 3)
+                && CHAINS_ARCH_PARENT_DIR.equals(entryPath.getName(0).toString());
+    }
 
-        return response;
+    private boolean isChainYAMLEntry(Path entryPath) {
+        if (entryPath.getNameCount() != 3 || !CHAINS_ARCH_PARENT_DIR.equals(entryPath.getName(0).toString())) {
+            return false;
+        }
+        String fileName = entryPath.getFileName().toString();
+        return (fileName.startsWith(CHAIN_YAML_NAME_PREFIX) && fileName.endsWith(YAML_FILE_NAME_POSTFIX))
+                || fileName.endsWith(CHAIN_YAML_NAME_POSTFIX + appName + YAML_FILE_NAME_POSTFIX);
     }
 
-    protected String migrateToActualFileVersion(String fileContent) throws Exception {
+    protected ObjectNode migrateToActualFileVersion(JsonNode chainNode) throws Exception {
         try {
-            return fileMigrationService.migrate(fileContent, chainImportFileMigrations.stream().map(ImportFileMigration.class::cast).toList());
+            return fileMigrationService.migrate(chainNode, chainImportFileMigrations.stream().map(ImportFileMigration.class::cast).toList());
         } catch (MigrationException exception) {
             String message = nonNull(exception.getEntityId())
                     ? String.format("Failed to migrate data for chain %s (%s): %s",
@@ -896,9 +944,8 @@ protected String migrateToActualFileVersion(String fileContent) throws Exception
         }
     }
 
-    protected ChainCompareDTO getYamlBasicChainInfo(String yamlContent) throws IOException {
+    protected ChainCompareDTO getYamlBasicChainInfo(JsonNode node) {
         ChainCommitRequestAction deployAction;
-        JsonNode node = this.yamlMapper.readTree(yamlContent);
 
         String chainId = node.get("id") != null ? node.get("id").asText(null) : null;
         if (chainId == null) {
@@ -19,12 +19,21 @@
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.ImportSession;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.ImportSessionRepository;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJob;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJobRegistry;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJobStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Slf4j
 @Service
 public class ImportSessionService {
@@ -35,24 +44,51 @@ public class ImportSessionService {
     public static final short SNAPSHOT_BUILD_PERCENTAGE_THRESHOLD = 80;
 
     private final Integer importSessionLifetimeMinutes;
+    private final Duration statusMaxWait;
     private final ImportSessionRepository importSessionRepository;
+    private final AsyncJobRegistry<ImportSession> importSessions;
 
     @Autowired
     public ImportSessionService(
             @Value("${qip.import.session-lifetime-minutes:300}") Integer importSessionLifetimeMinutes,
-            ImportSessionRepository importSessionRepository
+            @Value("${qip.import.status.persist-interval:PT2S}") Duration statusPersistInterval,
+            @Value("${qip.import.status.max-wait:PT30S}") Duration statusMaxWait,
+            ImportSessionRepository importSessionRepository,
+            @Qualifier("asyncJobLookupExecutor") Executor jobLookupExecutor
     ) {
         this.importSessionLifetimeMinutes = importSessionLifetimeMinutes;
+        this.statusMaxWait = statusMaxWait;
         this.importSessionRepository = importSessionRepository;
+        this.importSessions = new AsyncJobRegistry<>(
+                Duration.ofMinutes(importSessionLifetimeMinutes),
+                statusPersistInterval,
+                ImportSession::isDone,
+                new ImportSessionStore(),
+                jobLookupExecutor);
     }
 
     @Nullable
     public ImportSession getImportSession(String importId) {
-        return importSessionRepository.findById(importId).orElse(null);
+        return importSessions.find(importId).map(AsyncJob::state).orElse(null);
+    }
+
+    /**
+     * Waits until the import session differs from the known version or the wait time expires.
+     *
+     * @param knownVersion version seen by the client, {@code null} to wait for the next progress change
+     * @param wait         requested wait time, limited by {@code qip.import.status.max-wait}
+     */
+    public CompletableFuture<Optional<AsyncJob<ImportSession>>> awaitImportSession(
+            String importId,
+            @Nullable Long knownVersion,
+            Duration wait
+    ) {
+        Duration timeout = wait.compareTo(statusMaxWait) > 0 ? statusMaxWait : wait;
+        return importSessions.awaitChange(importId, knownVersion, timeout);
     }
 
     public void saveImportSession(ImportSession importSession) {
-        importSessionRepository.save(importSession);
+        importSessions.update(importSession.getId(), current -> copyOf(importSession));
     }
 
     @Transactional
@@ -65,14 +101,12 @@ public void setImportProgressPercentage(String importId, int percentage) {
             return;
         }
 
-        ImportSession importSession = getImportSession(importId);
-        if (importSession == null) {
-            importSession = new ImportSession();
+        importSessions.update(importId, current -> {
+            ImportSession importSession = current == null ? new ImportSession() : copyOf(current);
             importSession.setId(importId);
-        }
-
-        importSession.setCompletion(percentage);
-        saveImportSession(importSession);
+            importSession.setCompletion(percentage);
+            return importSession;
+        });
     }
 
     public void calculateImportStatus(String importId, int total, int counter, int fromPercentage, int toPercentage) {
@@ -89,4 +123,33 @@ public void calculateImportStatus(String importId, int total, int counter, int f
 
         setImportProgressPercentage(importId, percentage);
     }
+
+    // Registered states are never modified, so readers can use them without locking
+    private static ImportSession copyOf(ImportSession importSession) {
+        return ImportSession.builder()
+                .id(importSession.getId())
+                .result(importSession.getResult())
+                .completion(importSession.getCompletion())
+                .error(importSession.getError())
+                .modifiedWhen(importSession.getModifiedWhen())
+                .build();
+    }
+
+    private class ImportSessionStore implements AsyncJobStore<ImportSession> {
+
+        @Override
+        public Optional<ImportSession> load(String jobId) {
+            return importSessionRepository.findById(jobId);
+        }
+
+        @Override
+        public void save(String jobId, ImportSession state) {
+            importSessionRepository.save(copyOf(state));
+        }
+
+        @Override
+        public void delete(String jobId) {
+            importSessionRepository.deleteById(jobId);
+        }
+    }
 }
@@ -39,11 +39,15 @@
 import org.qubership.integration.platform.runtime.catalog.service.ConfigParameterService;
 import org.qubership.integration.platform.runtime.catalog.service.SystemBaseService;
 import org.qubership.integration.platform.runtime.catalog.service.SystemModelBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJob;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJobRegistry;
+import org.qubership.integration.platform.runtime.catalog.service.jobs.AsyncJobStore;
 import org.qubership.integration.platform.runtime.catalog.service.parsers.OperationParserService;
 import org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl.WsdlRootFileParser;
 import org.qubership.integration.platform.runtime.catalog.util.MultipartFileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
@@ -51,9 +55,11 @@
 
 import java.io.IOException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -68,6 +74,7 @@ public class SpecificationImportService {
     private static final String IMPORT_SESSION_NOT_FOUND_MESSAGE = "Import session with specified id not found";
     private static final String SET_IMPORT_SESSION_STATUS_MESSAGE = "Unable to set import session status";
     private static final Pattern WSDL_EXTENSION_PATTERN = Pattern.compile("^.*\\.(WSDL)$", Pattern.CASE_INSENSITIVE);
+    private static final Duration IMPORT_SESSION_LIFETIME = Duration.ofMinutes(15);
 
     private final OperationParserService operationParserService;
     private final SpecificationSourceRepository specificationSourceRepository;
@@ -78,6 +85,8 @@ public class SpecificationImportService {
     private final SystemBaseService systemBaseService;
     private final SystemModelBaseService systemModelService;
     private final WsdlRootFileParser wsdlRootFileParser;
+    private final Duration statusMaxWait;
+    private final AsyncJobRegistry<ImportSessionStatusDTO> importSessions;
 
     @Autowired
     public SpecificationImportService(OperationParserService operationParserService,
@@ -88,7 +97,10 @@ public SpecificationImportService(OperationParserService operationParserService,
                                       @Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
                                       SystemBaseService systemBaseService,
                                       SystemModelBaseService systemModelService,
-                                      WsdlRootFileParser wsdlRootFileParser
+                                      WsdlRootFileParser wsdlRootFileParser,
+                                      @Value("${qip.import.status.persist-interval:PT2S}") Duration statusPersistInterval,
+                                      @Value("${qip.import.status.max-wait:PT30S}") Duration statusMaxWait,
+                                      @Qualifier("asyncJobLookupExecutor") Executor jobLookupExecutor
     ) {
         this.operationParserService = operationParserService;
         this.specificationGroupRepository = specificationGroupRepository;
@@ -99,6 +111,13 @@ public SpecificationImportService(OperationParserService operationParserService,
         this.systemBaseService = systemBaseService;
         this.systemModelService = systemModelService;
         this.wsdlRootFileParser = wsdlRootFileParser;
+        this.statusMaxWait = statusMaxWait;
+        this.importSessions = new AsyncJobRegistry<>(
+                IMPORT_SESSION_LIFETIME,
+                statusPersistInterval,
+                ImportSessionStatusDTO::isImportIsDone,
+                new ImportSessionStatusStore(),
+                jobLookupExecutor);
     }
 
     @AllArgsConstructor
@@ -135,8 +154,17 @@ public Boolean importSessionIsDone(String importId) {
         return sessionStatus.isImportIsDone();
     }
 
+    /**
+     * Completes when the import session status changes or the wait time, limited by
+     * {@code qip.import.status.max-wait}, expires.
+     */
+    public CompletableFuture<Void> awaitImportSessionChange(String importId, Duration wait) {
+        Duration timeout = wait.compareTo(statusMaxWait) > 0 ? statusMaxWait : wait;
+        return importSessions.awaitChange(importId, null, timeout).thenAccept(importSession -> { });
+    }
+
     private void deleteImportSessionStatus(String importId) {
-        configParameterService.deleteByName(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, importId);
+        importSessions.remove(importId);
     }
 
     public String importSpecification(String specificationGroupId, MultipartFile[] files) {
@@ -176,7 +204,7 @@ public String importSpecification(String specificationGroupId, MultipartFile[] f
                     false,
                     Collections.emptySet(),
                     message::append
-            ).thenApply(model -> compileModelLibraryOrDeleteModel(requestId, model));
+            ).thenApply(model -> saveModelOrDeleteModel(requestId, model));
 
             future.whenComplete((t, e) -> {
                 onImportSpecificationTaskComplete(importId, e, message.toString());
@@ -214,14 +242,13 @@ public CompletableFuture<SystemModel> importSimpleSpecification(String fileName,
                         true,
                         oldSystemModelsIds,
                         messageHandler)
-                .thenApply(model -> compileModelLibraryOrDeleteModel(requestId, model));
+                .thenApply(model -> saveModelOrDeleteModel(requestId, model));
     }
 
-    private SystemModel compileModelLibraryOrDeleteModel(String requestId, SystemModel model) {
+    private SystemModel saveModelOrDeleteModel(String requestId, SystemModel model) {
         try {
             RequestIdContext.set(requestId);
-            systemModelService.patchModelWithCompiledLibrary(model);
-            return systemModelService.save(model);
+            return systemModelService.saveWithCompiledLibrary(model);
         } catch (Exception exception) {
             systemModelService.delete(model);
             throw exception;
@@ -315,44 +342,55 @@ private void saveImportSessionStatus(
             boolean business
     ) {
         ImportSessionStatusDTO dto = new ImportSessionStatusDTO(importIsDone, errorMessage, warningMessage, stackTrace, business);
-        ConfigParameter cp = new ConfigParameter(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, importId);
-        try {
-            cp.setString(objectMapper.writeValueAsString(dto));
-            configParameterService.update(cp);
-        } catch (JsonProcessingException e) {
-            throw new SpecificationImportException(SET_IMPORT_SESSION_STATUS_MESSAGE, e);
-        }
+        importSessions.update(importId, current -> dto);
     }
 
     private void deleteObsoleteImportSessionStatuses() {
-        final int entityExpiredTimeoutMinutes = 15;
-
-        List<ConfigParameter> params = configParameterService.findAllByNamespace(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE);
-        for (ConfigParameter cp : params) {
-            if (cp.getModifiedWhen().before(
-                    Timestamp.valueOf(LocalDateTime.now().minusMinutes(entityExpiredTimeoutMinutes)))) {
-                configParameterService.delete(cp);
-            }
-        }
+        configParameterService.deleteAllByNamespaceModifiedBefore(
+                SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE,
+                Timestamp.valueOf(LocalDateTime.now().minus(IMPORT_SESSION_LIFETIME)));
     }
 
     private void startImportSessionStatus(String importId) {
         saveImportSessionStatus(importId, false, null, null, null, false);
     }
 
-    @SuppressWarnings("checkstyle:EmptyCatchBlock")
     private ImportSessionStatusDTO getImportSessionStatus(String importId) {
-        ConfigParameter cp = configParameterService.findByName(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, importId);
-        String rawStatusData = cp == null ? null : cp.getString();
+        return importSessions.find(importId)
+                .map(AsyncJob::state)
+                .orElseThrow(() -> new SpecificationImportException(IMPORT_SESSION_NOT_FOUND_MESSAGE));
+    }
 
-        ImportSessionStatusDTO status = null;
-        try {
-            status = objectMapper.readValue(rawStatusData, ImportSessionStatusDTO.class);
-        } catch (JsonProcessingException | RuntimeException ignored) { }
-        if (status == null) {
-            throw new SpecificationImportException(IMPORT_SESSION_NOT_FOUND_MESSAGE);
+    private class ImportSessionStatusStore implements AsyncJobStore<ImportSessionStatusDTO> {
+
+        @Override
+        @SuppressWarnings("checkstyle:EmptyCatchBlock")
+        public Optional<ImportSessionStatusDTO> load(String jobId) {
+            ConfigParameter cp = configParameterService.findByName(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, jobId);
+            String rawStatusData = cp == null ? null : cp.getString();
+
+            ImportSessionStatusDTO status = null;
+            try {
+                status = objectMapper.readValue(rawStatusData, ImportSessionStatusDTO.class);
+            } catch (JsonProcessingException | RuntimeException ignored) { }
+            return Optional.ofNullable(status);
+        }
+
+        @Override
+        public void save(String jobId, ImportSessionStatusDTO state) {
+            ConfigParameter cp = new ConfigParameter(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, jobId);
+            try {
+                cp.setString(objectMapper.writeValueAsString(state));
+                configParameterService.update(cp);
+            } catch (JsonProcessingException e) {
+                throw new SpecificationImportException(SET_IMPORT_SESSION_STATUS_MESSAGE, e);
+            }
+        }
+
+        @Override
+        public void delete(String jobId) {
+            configParameterService.deleteByName(SPECIFICATION_IMPORT_STATUS_CONFIG_NAMESPACE, jobId);
         }
-        return status;
     }
 }
 
@@ -23,6 +23,7 @@
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.runtime.catalog.context.RequestIdContext;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ServicesNotFoundException;
 import org.qubership.integration.platform.runtime.catalog.model.exportimport.chain.ImportSystemsAndInstructionsResult;
 import org.qubership.integration.platform.runtime.catalog.model.exportimport.instructions.IgnoreResult;
@@ -51,6 +52,7 @@
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ElementHelperService;
 import org.qubership.integration.platform.runtime.catalog.util.ExportImportUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.auditing.AuditingHandler;
@@ -66,8 +68,12 @@
 import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,7 +87,6 @@
 @Slf4j
 @Transactional
 public class SystemExportImportService {
-    private static final String LIB_COMPILATION_ERROR = "Failed to compile libraries for service specifications: ";
     private static final String SYSTEM_SAVED_DDL_ERROR = "System has been saved, but with DDL script execution error. ";
     private static final String CHAINS_REDEPLOY_NEEDED_MSG = "There are changes in environment address. Please redeploy affected chains (if any)";
     private static final String SPECIFICATION_EXISTS_ERROR_MESSAGE_START = "Specification with the version '";
@@ -102,6 +107,7 @@ public class SystemExportImportService {
     private final ImportInstructionsService importInstructionsService;
     private final ElementHelperService elementHelperService;
     private final ChainService chainService;
+    private final Executor systemImportExecutor;
 
     @Value("${qip.export.remove-unused-specifications}")
     private boolean removeUnusedSpecs;
@@ -120,7 +126,8 @@ public SystemExportImportService(
             ImportSessionService importProgressService,
             ImportInstructionsService importInstructionsService,
             ElementHelperService elementHelperService,
-            ChainService chainService
+            ChainService chainService,
+            @Qualifier("systemImportExecutor") Executor systemImportExecutor
     ) {
         this.transactionTemplate = transactionTemplate;
         this.yamlMapper = yamlExportImportMapper;
@@ -135,6 +142,7 @@ public SystemExportImportService(
         this.importInstructionsService = importInstructionsService;
         this.elementHelperService = elementHelperService;
         this.chainService = chainService;
+        this.systemImportExecutor = systemImportExecutor;
     }
 
     private void removeUnusedSpecifications(IntegrationSystem integrationSystem, List<String> usedSystemModelIds) {
@@ -327,23 +335,7 @@ public List<ImportSystemResult> importSystemRequest(MultipartFile importFile, Li
                                     .collect(Collectors.toSet()),
                             false)
                     .idsToImport();
-            for (File singleSystemFile : extractedSystemFiles) {
-                String serviceId = extractSystemIdFromFileName(singleSystemFile);
-                if (!servicesToImport.contains(serviceId)) {
-                    response.add(ImportSystemResult.builder()
-                            .id(serviceId)
-                            .name(serviceId)
-                            .status(ImportSystemStatus.IGNORED)
-                            .build());
-                    log.info("Service {} ignored as a part of import exclusion list", serviceId);
-                    continue;
-                }
-
-                ImportSystemResult result = importOneSystemInTransaction(singleSystemFile, deployLabel, systemIds, technicalLabels);
-                if (result != null) {
-                    response.add(result);
-                }
-            }
+            response.addAll(importSystemFiles(extractedSystemFiles, servicesToImport, deployLabel, systemIds, technicalLabels, () -> { }));
 
             deleteFile(exportDirectory);
         } else {
@@ -383,35 +375,75 @@ public ImportSystemsAndInstructionsResult importSystems(
                 true
         );
         int total = systemsFiles.size();
-        int counter = 0;
-        List<ImportSystemResult> response = new ArrayList<>();
-        for (File systemFile : systemsFiles) {
+        AtomicInteger counter = new AtomicInteger();
+        List<ImportSystemResult> response = importSystemFiles(
+                systemsFiles,
+                ignoreResult.idsToImport(),
+                deployLabel,
+                systemIds,
+                technicalLabels,
+                () -> importProgressService.calculateImportStatus(
+                        importId,
+                        total,
+                        counter.incrementAndGet(),
+                        ImportSessionService.COMMON_VARIABLES_IMPORT_PERCENTAGE_THRESHOLD,
+                        ImportSessionService.SERVICE_IMPORT_PERCENTAGE_THRESHOLD));
+
+        return new ImportSystemsAndInstructionsResult(response, ignoreResult.importInstructionResults());
+    }
+
+    /**
+     * Imports systems concurrently, each one in its own transaction. Results keep the order of the files.
+     * Files of the same system are imported one after another, since a new system has no row to lock yet.
+     */
+    private List<ImportSystemResult> importSystemFiles(
+            List<File> systemFiles,
+            Set<String> idsToImport,
+            String deployLabel,
+            List<String> systemIds,
+            Set<String> technicalLabels,
+            Runnable onSystemImported
+    ) {
+        String requestId = RequestIdContext.get();
+        List<CompletableFuture<ImportSystemResult>> results = new ArrayList<>(systemFiles.size());
+        Map<String, CompletableFuture<ImportSystemResult>> lastResultBySystem = new HashMap<>();
+        for (File systemFile : systemFiles) {
             String serviceId = extractSystemIdFromFileName(systemFile);
-            if (!ignoreResult.idsToImport().contains(serviceId)) {
-                response.add(ImportSystemResult.builder()
+            if (!idsToImport.contains(serviceId)) {
+                results.add(CompletableFuture.completedFuture(ImportSystemResult.builder()
                         .id(serviceId)
                         .name(serviceId)
                         .status(ImportSystemStatus.IGNORED)
-                        .build());
+                        .build()));
                 log.info("Service {} ignored as a part of import exclusion list", serviceId);
                 continue;
             }
 
-            importProgressService.calculateImportStatus(
-                    importId, total, counter, ImportSessionService.COMMON_VARIABLES_IMPORT_PERCENTAGE_THRESHOLD, ImportSessionService.SERVICE_IMPORT_PERCENTAGE_THRESHOLD);
-            counter++;
-
-            ImportSystemResult result = importOneSystemInTransaction(systemFile, deployLabel, systemIds, technicalLabels);
-
-            if (result != null) {
-                response.add(result);
-            }
+            Supplier<ImportSystemResult> importTask = () -> {
+                try {
+                    RequestIdContext.set(requestId);
+                    ImportSystemResult result = importOneSystemInTransaction(systemFile, deployLabel, systemIds, technicalLabels);
+                    onSystemImported.run();
+                    return result;
+                } finally {
+                    RequestIdContext.clear();
+                }
+            };
+            CompletableFuture<ImportSystemResult> previousResult = lastResultBySystem.get(serviceId);
+            CompletableFuture<ImportSystemResult> result = previousResult == null
+                    ? CompletableFuture.supplyAsync(importTask, systemImportExecutor)
+                    : previousResult.handle((previous, e) -> previous).thenApplyAsync(previous -> importTask.get(), systemImportExecutor);
+            lastResultBySystem.put(serviceId, result);
+            results.add(result);
         }
 
-        return new ImportSystemsAndInstructionsResult(response, ignoreResult.importInstructionResults());
+        return results.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-    protected synchronized ImportSystemResult importOneSystemInTransaction(File mainServiceFile, String deployLabel, List<String> systemIds, Set<String> technicalLabels) {
+    protected ImportSystemResult importOneSystemInTransaction(File mainServiceFile, String deployLabel, List<String> systemIds, Set<String> technicalLabels) {
         ImportSystemResult result;
         Optional<IntegrationSystem> baseSystemOptional = Optional.empty();
 
@@ -420,15 +452,15 @@ protected synchronized ImportSystemResult importOneSystemInTransaction(File main
             SystemDeserializationResult deserializationResult = getBaseSystemDeserializationResult(serviceNode);
             baseSystemOptional = Optional.ofNullable(deserializationResult.getSystem());
 
-            result = transactionTemplate.execute((status) -> {
-                IntegrationSystem baseSystem = deserializationResult.getSystem();
-
-                if (!CollectionUtils.isEmpty(systemIds) && !systemIds.contains(baseSystem.getId())) {
-                    return null;
-                }
+            IntegrationSystem baseSystem = deserializationResult.getSystem();
+            if (!CollectionUtils.isEmpty(systemIds) && !systemIds.contains(baseSystem.getId())) {
+                return null;
+            }
 
-                deserializationResult.setSystem(serviceDeserializer.deserializeSystem(mainServiceFile));
+            // Parsing and migration don't need the database, so they happen before the transaction starts
+            deserializationResult.setSystem(serviceDeserializer.deserializeSystem(mainServiceFile, serviceNode));
 
+            result = transactionTemplate.execute((status) -> {
                 StringBuilder message = new StringBuilder();
                 ImportSystemStatus importStatus = enrichAndSaveIntegrationSystem(deserializationResult, deployLabel, technicalLabels, message::append);
 
@@ -458,7 +490,8 @@ private ImportSystemStatus enrichAndSaveIntegrationSystem(SystemDeserializationR
 
         checkSpecificationUniqueness(system);
 
-        IntegrationSystem oldSystem = systemService.getByIdOrNull(system.getId());
+        // Row lock serializes concurrent imports of the same system
+        IntegrationSystem oldSystem = systemService.getByIdWithLockingOrNull(system.getId());
         replaceSystemTechnicalLabels(system, oldSystem, technicalLabels);
 
         Collection<SystemModel> newSystemModels = new ArrayList<>();
@@ -476,13 +509,7 @@ private ImportSystemStatus enrichAndSaveIntegrationSystem(SystemDeserializationR
 
         touchSystemFields(system);
 
-        StringBuilder compilationErrors = new StringBuilder();
-        boolean hasErrors = compileSystemModelLibraries(
-                newSystemModels,
-                (str) -> compilationErrors.append(str).append(" "));
-        if (hasErrors) {
-            throw new RuntimeException(LIB_COMPILATION_ERROR + compilationErrors);
-        }
+        newSystemModels.forEach(systemModelService::patchModelWithCompiledLibrary);
 
         if (oldSystem != null) {
             systemService.update(system);
@@ -493,20 +520,6 @@ private ImportSystemStatus enrichAndSaveIntegrationSystem(SystemDeserializationR
         return status;
     }
 
-    private boolean compileSystemModelLibraries(Collection<SystemModel> models, Consumer<String> errorHandler) {
-        return models.stream()
-                .map(model -> {
-                    try {
-                        systemModelService.patchModelWithCompiledLibrary(model);
-                        return false;
-                    } catch (Exception exception) {
-                        errorHandler.accept(exception.getMessage());
-                        return true;
-                    }
-                })
-                .reduce(false, (r1, r2) -> r1 || r2);
-    }
-
     private void touchSystemFields(IntegrationSystem system) {
         system.getEnvironments().forEach(auditingHandler::markModified);
         system.getSpecificationGroups().forEach(specificationGroup -> {
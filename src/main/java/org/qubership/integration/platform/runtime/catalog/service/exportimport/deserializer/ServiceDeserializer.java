@@ -84,15 +84,28 @@ public ServiceDeserializer(
     }
 
     public IntegrationSystem deserializeSystem(File serviceFile) {
+        JsonNode serviceNode;
+        try {
+            serviceNode = yamlMapper.readTree(serviceFile);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return deserializeSystem(serviceFile, serviceNode);
+    }
+
+    /**
+     * Deserializes a system from an already parsed service file, so the file is not read again.
+     * The tree is migrated in place.
+     */
+    public IntegrationSystem deserializeSystem(File serviceFile, JsonNode serviceNode) {
         try {
             File serviceDirectory = serviceFile.getParentFile();
-            JsonNode serviceNode = yamlMapper.readTree(serviceFile);
             Collection<Integer> versions = versionsGetterService.getVersions(serviceNode);
-            String serviceData = fileMigrationService.migrate(
-                    Files.readString(serviceFile.toPath()),
+            ObjectNode serviceData = fileMigrationService.migrate(
+                    serviceNode,
                     importFileMigrations.stream().map(ImportFileMigration.class::cast).toList()
             );
-            IntegrationSystemDto integrationSystemDto = yamlMapper.readValue(serviceData, IntegrationSystemDto.class);
+            IntegrationSystemDto integrationSystemDto = yamlMapper.treeToValue(serviceData, IntegrationSystemDto.class);
             IntegrationSystem integrationSystem = integrationSystemDtoMapper.toInternalEntity(integrationSystemDto);
 
             Collection<File> files = listFiles(serviceDirectory);
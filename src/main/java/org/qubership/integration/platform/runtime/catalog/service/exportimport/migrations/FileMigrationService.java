@@ -60,19 +60,27 @@ public String migrate(String data, Collection<ImportFileMigration> migrations) t
         } catch (JsonProcessingException exception) {
             throw new MigrationException("Failed to parse document to import", exception);
         }
-        if (!node.isObject()) {
-            throw new MigrationException("Root node of document to import is not an object");
-        }
 
-        ObjectNode documentNode = (ObjectNode) node;
+        ObjectNode documentNode = migrate(node, migrations);
         try {
-            return yamlMapper.writeValueAsString(migrate((ObjectNode) node, migrations));
+            return yamlMapper.writeValueAsString(documentNode);
         } catch (JsonProcessingException exception) {
             throw new MigrationException("Failed to serialize migrated document",
                     exception, getId(documentNode), getName(documentNode));
         }
     }
 
+    /**
+     * Migrates an already parsed document without serializing it back to text.
+     * Migrations modify the tree in place, so callers can bind entities directly from the result.
+     */
+    public ObjectNode migrate(JsonNode node, Collection<ImportFileMigration> migrations) throws MigrationException {
+        if (node == null || !node.isObject()) {
+            throw new MigrationException("Root node of document to import is not an object");
+        }
+        return migrate((ObjectNode) node, migrations);
+    }
+
     public ObjectNode migrate(ObjectNode documentNode, Collection<ImportFileMigration> migrations) throws MigrationException {
         String id = getId(documentNode);
         String name = getName(documentNode);
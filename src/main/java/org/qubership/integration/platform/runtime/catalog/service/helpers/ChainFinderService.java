@@ -3,6 +3,7 @@
 import jakarta.persistence.EntityNotFoundException;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.folder.FolderContentFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
@@ -19,16 +20,22 @@ public class ChainFinderService {
     private static final String CHAIN_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain with id: ";
 
     private final ChainRepository chainRepository;
+    private final ElementRepository elementRepository;
 
     @Autowired
-    public ChainFinderService(ChainRepository chainRepository) {
+    public ChainFinderService(ChainRepository chainRepository, ElementRepository elementRepository) {
         this.chainRepository = chainRepository;
+        this.elementRepository = elementRepository;
     }
 
     public List<Chain> findAll() {
         return chainRepository.findAll();
     }
 
+    public List<String> findAllIds() {
+        return chainRepository.findAllId();
+    }
+
     public List<Chain> findAllById(List<String> chainIds) {
         return chainRepository.findAllById(chainIds);
     }
@@ -38,6 +45,19 @@ public Chain findById(String chainId) {
                 .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
     }
 
+    /**
+     * Loads the chain with its elements, their dependencies and container children
+     * in a fixed number of queries, regardless of the chain size.
+     */
+    public Chain findByIdWithElementTree(String chainId) {
+        Chain chain = chainRepository.findWithElementsById(chainId)
+                .orElseThrow(() -> new EntityNotFoundException(CHAIN_WITH_ID_NOT_FOUND_MESSAGE + chainId));
+        elementRepository.fetchInputDependenciesByChainId(chainId);
+        elementRepository.fetchOutputDependenciesByChainId(chainId);
+        elementRepository.fetchChildrenByChainId(chainId);
+        return chain;
+    }
+
     public List<Chain> findChainsInFolder(String folderId, FolderContentFilter filter) {
         Specification<Chain> specification = (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(root.get("parentFolder").get("id"), folderId);
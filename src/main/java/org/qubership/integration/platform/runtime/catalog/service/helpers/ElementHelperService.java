@@ -4,23 +4,33 @@
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ElementHelperService {
 
+    /**
+     * Chains using a specification, in total and per operation of the specification.
+     */
+    public record ModelChainUsages(Set<Chain> chains, Map<String, Set<Chain>> operationChains) {
+    }
+
     private static final String CHAIN_ELEMENT_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain element with id: ";
 
     private final ElementRepository elementRepository;
+    private final ChainRepository chainRepository;
 
     @Autowired
-    public ElementHelperService(ElementRepository elementRepository) {
+    public ElementHelperService(ElementRepository elementRepository, ChainRepository chainRepository) {
         this.elementRepository = elementRepository;
+        this.chainRepository = chainRepository;
     }
 
     public ChainElement findById(String id) {
@@ -119,6 +129,40 @@ public List<Chain> findBySystemAndModelId(String systemId, String modelId) {
         return getElementsChains(elements);
     }
 
+    /**
+     * Builds an index of chains using the given specifications from a single projection query,
+     * so that the chains of every operation can be looked up without walking chain elements.
+     * Chains keep the query order, by name and then by id.
+     *
+     * @return usages by specification id, specifications without chains are absent
+     */
+    public Map<String, ModelChainUsages> findChainUsagesByModelIds(Collection<String> modelIds) {
+        if (modelIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object[]> usages = elementRepository.findOperationUsagesByModelIdIn(modelIds);
+        Set<String> chainIds = usages.stream().map(usage -> (String) usage[2]).collect(Collectors.toSet());
+        Map<String, Chain> chains = chainRepository.findAllById(chainIds).stream()
+                .collect(Collectors.toMap(Chain::getId, Function.identity()));
+
+        Map<String, ModelChainUsages> result = new HashMap<>();
+        for (Object[] usage : usages) {
+            String modelId = (String) usage[0];
+            String operationId = (String) usage[1];
+            Chain chain = chains.get((String) usage[2]);
+            if (chain == null) {
+                continue;
+            }
+            ModelChainUsages modelUsages = result.computeIfAbsent(modelId,
+                    id -> new ModelChainUsages(new LinkedHashSet<>(), new HashMap<>()));
+            modelUsages.chains().add(chain);
+            if (operationId != null) {
+                modelUsages.operationChains().computeIfAbsent(operationId, id -> new LinkedHashSet<>()).add(chain);
+            }
+        }
+        return result;
+    }
+
     public List<Chain> findBySystemAndOperationId(String systemId, String operationId) {
         List<ChainElement> elements = findBySystemIdAndOperationId(systemId, operationId);
         return getElementsChains(elements);
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.jobs;
+
+/**
+ * Immutable view of an asynchronous job state.
+ *
+ * @param id      job id
+ * @param state   job progress of the owner defined type
+ * @param version number of state changes seen by this replica, {@code 0} for states loaded from the store
+ * @param done    whether the job has finished
+ */
+public record AsyncJob<T>(String id, T state, long version, boolean done) {
+
+    /**
+     * Returns the entity tag of the state, or {@code null} for a state loaded from the store.
+     * Those all have version {@code 0}, so the version does not identify their content.
+     */
+    public String etag() {
+        return version == 0 ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Parses a version from an {@code If-None-Match} header value produced by {@link #etag()}.
+     *
+     * @return version or {@code null} if the value is absent or malformed
+     */
+    public static Long parseEtag(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String value = etag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
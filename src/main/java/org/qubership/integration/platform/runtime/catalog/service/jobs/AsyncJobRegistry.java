@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.jobs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory registry of asynchronous jobs running on this replica.
+ *
+ * <p>Progress updates only change memory. States are written to the {@link AsyncJobStore} at most
+ * once per persist interval and always when a job finishes, so other replicas can still see
+ * them. Jobs are evicted after the TTL passes without updates. Readers can wait for the next
+ * state change instead of polling. Waits that end without a new state look the job up on the
+ * given executor, since the store may be a database.
+ */
+@Slf4j
+public class AsyncJobRegistry<T> {
+
+    private final Cache<String, JobEntry<T>> jobs;
+    private final Predicate<T> doneCondition;
+    private final AsyncJobStore<T> store;
+    private final long persistIntervalMillis;
+    private final Executor executor;
+
+    public AsyncJobRegistry(
+            Duration ttl,
+            Duration persistInterval,
+            Predicate<T> doneCondition,
+            AsyncJobStore<T> store,
+            Executor executor
+    ) {
+        this.jobs = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .removalListener(this::onRemoval)
+                .build();
+        this.doneCondition = doneCondition;
+        this.store = store;
+        this.persistIntervalMillis = persistInterval.toMillis();
+        this.executor = executor;
+    }
+
+    /**
+     * Applies an update to the job state, creating the job if it is not registered.
+     *
+     * @param update receives the current state or {@code null} for a new job
+     */
+    public AsyncJob<T> update(String jobId, UnaryOperator<T> update) {
+        // compute() also refreshes the TTL of the entry
+        JobEntry<T> entry = jobs.asMap().compute(jobId, (id, current) -> current == null ? new JobEntry<>() : current);
+
+        AsyncJob<T> job;
+        List<CompletableFuture<Optional<AsyncJob<T>>>> waiters;
+        boolean persist;
+        synchronized (entry) {
+            entry.state = update.apply(entry.state);
+            entry.version++;
+            job = snapshot(jobId, entry);
+            waiters = entry.drainWaiters();
+
+            long now = System.currentTimeMillis();
+            persist = job.done() || now - entry.persistedAt >= persistIntervalMillis;
+            if (persist) {
+                entry.persistedAt = now;
+            }
+        }
+
+        if (persist) {
+            persist(entry, job);
+        }
+        waiters.forEach(waiter -> waiter.complete(Optional.of(job)));
+        return job;
+    }
+
+    public Optional<AsyncJob<T>> find(String jobId) {
+        JobEntry<T> entry = jobs.getIfPresent(jobId);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.state != null) {
+                    return Optional.of(snapshot(jobId, entry));
+                }
+            }
+        }
+        return load(jobId);
+    }
+
+    /**
+     * Waits until the job state differs from the known version.
+     *
+     * <p>Completes immediately if the job is finished, already differs from the known version or
+     * is not running on this replica. Otherwise completes on the next update, or with the current
+     * state when the timeout expires or the job is evicted.
+     *
+     * @param knownVersion version seen by the caller, {@code null} to wait for the next update
+     */
+    public CompletableFuture<Optional<AsyncJob<T>>> awaitChange(String jobId, Long knownVersion, Duration timeout) {
+        JobEntry<T> entry = jobs.getIfPresent(jobId);
+        if (entry == null || timeout.isZero() || timeout.isNegative()) {
+            return CompletableFuture.completedFuture(find(jobId));
+        }
+
+        CompletableFuture<Optional<AsyncJob<T>>> waiter = new CompletableFuture<>();
+        synchronized (entry) {
+            boolean changed = knownVersion != null && knownVersion != entry.version;
+            if (entry.state == null || changed || doneCondition.test(entry.state)) {
+                return CompletableFuture.completedFuture(find(jobId));
+            }
+            entry.waiters.add(waiter);
+        }
+
+        return waiter
+                .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(result -> {
+                    if (result != null) {
+                        return result;
+                    }
+                    synchronized (entry) {
+                        entry.waiters.remove(waiter);
+                    }
+                    return find(jobId);
+                }, executor);
+    }
+
+    public void remove(String jobId) {
+        jobs.invalidate(jobId);
+        try {
+            store.delete(jobId);
+        } catch (Exception e) {
+            log.warn("Failed to delete state of job {}", jobId, e);
+        }
+    }
+
+    public long size() {
+        return jobs.size();
+    }
+
+    private Optional<AsyncJob<T>> load(String jobId) {
+        return store.load(jobId).map(state -> new AsyncJob<>(jobId, state, 0, doneCondition.test(state)));
+    }
+
+    private void persist(JobEntry<T> entry, AsyncJob<T> job) {
+        // Serializes writes of the same job, so an older state never overwrites a newer one
+        synchronized (entry.persistLock) {
+            if (job.version() <= entry.persistedVersion) {
+                return;
+            }
+            try {
+                store.save(job.id(), job.state());
+                entry.persistedVersion = job.version();
+            } catch (Exception e) {
+                log.warn("Failed to save state of job {}", job.id(), e);
+            }
+        }
+    }
+
+    private AsyncJob<T> snapshot(String jobId, JobEntry<T> entry) {
+        return new AsyncJob<>(jobId, entry.state, entry.version, doneCondition.test(entry.state));
+    }
+
+    private void onRemoval(RemovalNotification<String, JobEntry<T>> notification) {
+        JobEntry<T> entry = notification.getValue();
+        if (entry == null || !notification.wasEvicted()) {
+            return;
+        }
+        AsyncJob<T> job;
+        List<CompletableFuture<Optional<AsyncJob<T>>>> waiters;
+        synchronized (entry) {
+            job = entry.state == null ? null : snapshot(notification.getKey(), entry);
+            waiters = entry.drainWaiters();
+        }
+        // Eviction runs on whichever thread touches the cache, so the store is not called here.
+        // Waiters completed with null look the job up in the store after its last state is saved.
+        try {
+            executor.execute(() -> {
+                if (job != null) {
+                    persist(entry, job);
+                }
+                waiters.forEach(waiter -> waiter.complete(null));
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Failed to save state of evicted job {}", notification.getKey(), e);
+            waiters.forEach(waiter -> waiter.complete(null));
+        }
+    }
+
+    private static class JobEntry<T> {
+        private final Object persistLock = new Object();
+        private final List<CompletableFuture<Optional<AsyncJob<T>>>> waiters = new ArrayList<>();
+        private T state;
+        private long version;
+        private long persistedAt;
+        private long persistedVersion;
+
+        private List<CompletableFuture<Optional<AsyncJob<T>>>> drainWaiters() {
+            List<CompletableFuture<Optional<AsyncJob<T>>>> drained = new ArrayList<>(waiters);
+            waiters.clear();
+            return drained;
+        }
+    }
+}
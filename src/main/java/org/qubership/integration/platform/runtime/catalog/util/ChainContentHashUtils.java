@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.hibernate.proxy.HibernateProxy;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.runtime.catalog.service.difference.DifferenceMember;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Canonical content hashes of chain elements and Merkle-style rollups of element trees.
+ * <p>
+ * The content hash of an element covers its {@link DifferenceMember} fields, so two elements
+ * with equal hashes have no differences. The subtree hash of an element additionally covers
+ * its identity, swimlane, outgoing dependencies and, for containers, the subtree hashes of
+ * its children. Elements are identified by the id of the chain element they belong to,
+ * which is the original id for snapshot elements, so a chain and its unchanged snapshot
+ * have the same hashes.
+ */
+public class ChainContentHashUtils {
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private static final List<Field> CONTENT_FIELDS =
+            FieldUtils.getFieldsListWithAnnotation(ChainElement.class, DifferenceMember.class);
+
+    private ChainContentHashUtils() {
+    }
+
+    /**
+     * Computes the content hash from the current field values. Hashes are not stored, since the
+     * element properties may be rewritten by database migrations.
+     */
+    public static String computeContentHash(ChainElement element) {
+        Object target = element instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getImplementation()
+                : element;
+        Map<String, Object> content = new TreeMap<>();
+        for (Field field : CONTENT_FIELDS) {
+            Object value = readField(field, target);
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> nonNullEntries = new TreeMap<>();
+                map.forEach((key, entryValue) -> {
+                    if (key != null && entryValue != null) {
+                        nonNullEntries.put(key.toString(), entryValue);
+                    }
+                });
+                value = nonNullEntries;
+            }
+            if (value != null) {
+                content.put(field.getName(), value);
+            }
+        }
+        return DigestUtils.sha256Hex(toCanonicalJson(content));
+    }
+
+    /**
+     * Computes the root hash of a chain or snapshot from its elements, masked fields,
+     * service environments and swimlane assignments.
+     *
+     * @param builderVersion version of the code the snapshot content is built by, so that
+     *      the same chain content built by another version has another hash
+     * @param elements all elements of the chain or snapshot, including the nested ones
+     */
+    public static String treeHash(
+            String builderVersion,
+            Collection<ChainElement> elements,
+            Collection<? extends AbstractEntity> maskedFields,
+            Collection<ServiceEnvironment> environments,
+            @Nullable ChainElement defaultSwimlane,
+            @Nullable ChainElement reuseSwimlane
+    ) {
+        Map<ChainElement, String> subtreeHashes = new HashMap<>();
+        StringBuilder content = new StringBuilder("builder:").append(builderVersion).append('\n');
+        elements.stream()
+                .filter(element -> element.getParent() == null)
+                .sorted(Comparator.comparing(ChainContentHashUtils::elementIdentity,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(element -> content.append(subtreeHash(element, subtreeHashes)).append('\n'));
+        content.append("default-swimlane:").append(identityOrEmpty(defaultSwimlane)).append('\n');
+        content.append("reuse-swimlane:").append(identityOrEmpty(reuseSwimlane)).append('\n');
+        maskedFields.stream()
+                .map(AbstractEntity::getName)
+                .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+                .forEach(name -> content.append("masked-field:").append(name).append('\n'));
+        List<ServiceEnvironment> sortedEnvironments = environments.stream()
+                .sorted(Comparator.comparing(ServiceEnvironment::getSystemId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ServiceEnvironment::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        content.append("environments:").append(toCanonicalJson(sortedEnvironments));
+        return DigestUtils.sha256Hex(content.toString());
+    }
+
+    /**
+     * Returns the id the element has in its chain: the element id for chain elements
+     * and the original id for snapshot elements.
+     */
+    public static String elementIdentity(ChainElement element) {
+        return element.getChain() != null ? element.getId() : element.getOriginalId();
+    }
+
+    private static String subtreeHash(ChainElement element, Map<ChainElement, String> subtreeHashes) {
+        String cached = subtreeHashes.get(element);
+        if (cached != null) {
+            return cached;
+        }
+        StringBuilder content = new StringBuilder()
+                .append(elementIdentity(element)).append('\n')
+                .append(computeContentHash(element)).append('\n')
+                .append("swimlane:").append(identityOrEmpty(element.getSwimlane())).append('\n');
+        element.getOutputDependencies().stream()
+                .map(Dependency::getElementTo)
+                .map(ChainContentHashUtils::identityOrEmpty)
+                .sorted()
+                .forEach(next -> content.append("next:").append(next).append('\n'));
+        if (element instanceof ContainerChainElement container) {
+            container.getElements().stream()
+                    .sorted(Comparator.comparing(ChainContentHashUtils::elementIdentity,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .forEach(child -> content.append("child:").append(subtreeHash(child, subtreeHashes)).append('\n'));
+        }
+        String hash = DigestUtils.sha256Hex(content.toString());
+        subtreeHashes.put(element, hash);
+        return hash;
+    }
+
+    private static String identityOrEmpty(@Nullable ChainElement element) {
+        return element == null ? "" : StringUtils.defaultString(elementIdentity(element));
+    }
+
+    private static Object readField(Field field, Object target) {
+        try {
+            return FieldUtils.readField(field, target, true);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to read field " + field.getName(), e);
+        }
+    }
+
+    private static String toCanonicalJson(Object value) {
+        try {
+            return CANONICAL_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize chain content", e);
+        }
+    }
+}
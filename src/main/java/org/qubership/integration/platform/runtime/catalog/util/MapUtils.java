@@ -22,11 +22,15 @@
 
 public class MapUtils {
     public static void deepMapTraversalSafe(Map<String, Object> map, Consumer<Object> callback, String... keys) {
-        deepMapTraversalSafe(map, callback, 0, keys);
+        deepTraversalSafe(map, callback, 0, keys);
     }
 
-    private static void deepMapTraversalSafe(Map<String, Object> map, Consumer<Object> callback, int keyIndex, String... keys) {
-        Object value = map;
+    public static void deepTraversalSafe(Object root, Consumer<Object> callback, String... keys) {
+        deepTraversalSafe(root, callback, 0, keys);
+    }
+
+    private static void deepTraversalSafe(Object root, Consumer<Object> callback, int keyIndex, String... keys) {
+        Object value = root;
         for (int i = keyIndex; i < keys.length; i++) {
             String key = keys[i];
             if (value instanceof Map) {
@@ -47,7 +51,7 @@ private static void deepMapTraversalSafe(Map<String, Object> map, Consumer<Objec
 
     private static void deepTraversalObject(Object obj, Consumer<Object> callback, int keyIndex, String... keys) {
         if (obj instanceof Map) {
-            deepMapTraversalSafe((Map<String, Object>) obj, callback, keyIndex, keys);
+            deepTraversalSafe(obj, callback, keyIndex, keys);
         } else if (obj instanceof Collection) {
             for (Object element : (Collection<?>) obj) {
                 deepTraversalObject(element, callback, keyIndex, keys);
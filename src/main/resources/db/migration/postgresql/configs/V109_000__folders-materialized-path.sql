@@ -0,0 +1,62 @@
+-- Materialized path of a folder: ids of all ancestor folders from the root down to the folder itself.
+-- Maintained by a trigger on insert and on change of the parent folder, so subtree and ancestor
+-- lookups become single indexed queries instead of recursive walks.
+
+ALTER TABLE catalog.folders ADD COLUMN path_ids TEXT[];
+
+WITH RECURSIVE folder_paths AS (
+    SELECT f1.id, ARRAY[f1.id::TEXT] AS path_ids
+    FROM catalog.folders f1
+    WHERE f1.parent_folder_id IS NULL
+
+    UNION ALL
+
+    SELECT f2.id, fp.path_ids || f2.id::TEXT
+    FROM catalog.folders f2
+             INNER JOIN folder_paths fp ON f2.parent_folder_id = fp.id
+)
+UPDATE catalog.folders f
+SET path_ids = fp.path_ids
+FROM folder_paths fp
+WHERE f.id = fp.id;
+
+CREATE INDEX idx_folders_path_ids ON catalog.folders USING GIN (path_ids);
+
+create or replace function catalog.update_folder_path_ids() returns trigger as $$
+begin
+    if new.parent_folder_id is null then
+        new.path_ids := array[new.id::text];
+    else
+        select p.path_ids || new.id::text into new.path_ids
+        from catalog.folders p
+        where p.id = new.parent_folder_id;
+    end if;
+
+    -- Moving a folder moves its whole subtree: replace the old path prefix of all descendants
+    if tg_op = 'UPDATE' and new.path_ids is distinct from old.path_ids and old.path_ids is not null then
+        update catalog.folders f
+        set path_ids = new.path_ids || f.path_ids[array_length(old.path_ids, 1) + 1:]
+        where f.path_ids @> array[old.id::text]
+          and f.id <> old.id;
+    end if;
+
+    return new;
+end;
+$$ language plpgsql;
+
+CREATE TRIGGER folders_path_ids_trigger
+    BEFORE INSERT OR UPDATE OF parent_folder_id ON catalog.folders
+    FOR EACH ROW
+EXECUTE FUNCTION catalog.update_folder_path_ids();
+
+create or replace function is_parent_folder(
+    parent_id varchar(255),
+    folder_id varchar(255)
+) returns bool as $$
+    select exists(
+        select 1
+        from catalog.folders f
+        where f.id = folder_id
+          and f.path_ids @> array[parent_id::text]
+    );
+$$ language sql stable;
@@ -0,0 +1,7 @@
+-- Content hash of a compiled library, used as an ETag for library downloads.
+
+ALTER TABLE catalog.compiled_libraries ADD COLUMN data_hash VARCHAR(64);
+
+UPDATE catalog.compiled_libraries
+SET data_hash = encode(sha256(data), 'hex')
+WHERE data IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Camel XML of a snapshot is moved out of the snapshots table, so loading snapshot rows no longer
+-- reads it. New rows are stored deflate-compressed, existing rows are copied as is (compression 'NONE').
+
+CREATE TABLE catalog.snapshot_xml_definitions
+(
+    snapshot_id       VARCHAR(255) NOT NULL PRIMARY KEY
+        REFERENCES catalog.snapshots (id) ON DELETE CASCADE,
+    data              BYTEA        NOT NULL,
+    compression       VARCHAR(32)  NOT NULL,
+    content_hash      VARCHAR(64)  NOT NULL,
+    uncompressed_size BIGINT       NOT NULL
+);
+
+INSERT INTO catalog.snapshot_xml_definitions (snapshot_id, data, compression, content_hash, uncompressed_size)
+SELECT s.id,
+       convert_to(s.xml_configuration, 'UTF8'),
+       'NONE',
+       encode(sha256(convert_to(s.xml_configuration, 'UTF8')), 'hex'),
+       octet_length(convert_to(s.xml_configuration, 'UTF8'))
+FROM catalog.snapshots s
+WHERE s.xml_configuration IS NOT NULL;
+
+ALTER TABLE catalog.snapshots DROP COLUMN xml_configuration;
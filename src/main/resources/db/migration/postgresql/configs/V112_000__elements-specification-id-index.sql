@@ -0,0 +1,4 @@
+-- Chains using a specification and its operations are looked up by the specification id of their elements.
+
+CREATE INDEX idx_elements_properties_integration_specification_id
+    ON catalog.elements (JSONB_EXTRACT_PATH_TEXT(properties, VARIADIC ARRAY ['integrationSpecificationId'::TEXT]));
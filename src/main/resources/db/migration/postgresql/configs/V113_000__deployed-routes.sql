@@ -0,0 +1,36 @@
+-- Routes and SDS jobs of deployed triggers, one row per path and HTTP method or per job id.
+-- Trigger conflict checks probe this table instead of loading trigger elements of all deployed snapshots.
+-- Rows are written together with their deployment and removed with it by the cascade.
+-- Existing deployments are filled in by DeployedRoutesBackfillMigration (version 113.001).
+
+CREATE TABLE catalog.deployed_routes
+(
+    id            VARCHAR(255) NOT NULL PRIMARY KEY,
+    deployment_id VARCHAR(255) NOT NULL
+        REFERENCES catalog.deployments (id) ON DELETE CASCADE,
+    chain_id      VARCHAR(255) NOT NULL,
+    domain        VARCHAR(255) NOT NULL,
+    trigger_type  VARCHAR(32)  NOT NULL,
+    path          TEXT,
+    method        VARCHAR(16),
+    gateway_type  VARCHAR(64),
+    sds_job_id    VARCHAR(255)
+);
+
+CREATE INDEX idx_deployed_routes_deployment_id ON catalog.deployed_routes (deployment_id);
+
+CREATE UNIQUE INDEX idx_deployed_routes_http_unique
+    ON catalog.deployed_routes (deployment_id, path, method)
+    WHERE trigger_type = 'HTTP';
+
+CREATE UNIQUE INDEX idx_deployed_routes_sds_unique
+    ON catalog.deployed_routes (deployment_id, sds_job_id)
+    WHERE trigger_type = 'SDS';
+
+CREATE INDEX idx_deployed_routes_http_path
+    ON catalog.deployed_routes (path, chain_id, domain)
+    WHERE trigger_type = 'HTTP';
+
+CREATE INDEX idx_deployed_routes_sds_job_id
+    ON catalog.deployed_routes (sds_job_id, chain_id, domain)
+    WHERE trigger_type = 'SDS';
@@ -0,0 +1,5 @@
+-- Build status of a compiled library. Libraries are built in the background after the system model is saved,
+-- existing libraries were built synchronously and are ready.
+
+ALTER TABLE catalog.compiled_libraries ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'READY';
+ALTER TABLE catalog.compiled_libraries ADD COLUMN error_message TEXT;
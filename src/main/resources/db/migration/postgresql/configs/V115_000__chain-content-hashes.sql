@@ -0,0 +1,6 @@
+-- Content hashes of chain elements and of the chain content snapshots were built from.
+-- Element hashes are maintained by the application on every insert and update, existing rows
+-- are hashed on their next modification and computed on the fly until then.
+
+ALTER TABLE catalog.elements ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE catalog.snapshots ADD COLUMN content_hash VARCHAR(64);
@@ -0,0 +1,5 @@
+-- Snapshot cleanup scans snapshots in keyset batches by creation time
+-- and ranks the snapshots of each affected chain from the newest one.
+
+CREATE INDEX idx_snapshots_created_when_id ON catalog.snapshots (created_when, id);
+CREATE INDEX idx_snapshots_chain_id_created_when ON catalog.snapshots (chain_id, created_when DESC);
@@ -0,0 +1,4 @@
+-- Revision of a compiled library build request. Background builds store their result only if the revision
+-- has not changed since they read the model, so a build superseded by a newer save is discarded.
+
+ALTER TABLE catalog.compiled_libraries ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Element content hashes are computed when comparing chains, the stored values were never read.
+
+ALTER TABLE catalog.elements DROP COLUMN IF EXISTS content_hash;
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.consul;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class DeploymentsUpdatePublisherTest {
+    private static final Duration DEBOUNCE = Duration.ofMillis(200);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
+
+    private TaskScheduler taskScheduler;
+    private ConsulService consulService;
+    private DeploymentsUpdatePublisher publisher;
+
+    private record ScheduledTask(Runnable task, Instant startTime) {
+    }
+
+    @BeforeEach
+    public void setUp() {
+        // Tasks run on the test thread when the clock is advanced past their start time
+        taskScheduler = mock(TaskScheduler.class);
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doAnswer(invocation -> {
+            scheduledTasks.add(new ScheduledTask(invocation.getArgument(0), invocation.getArgument(1)));
+            return future;
+        }).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        when(clock.instant()).thenAnswer(invocation -> Instant.ofEpochMilli(now.get()));
+
+        consulService = mock(ConsulService.class);
+        when(consulService.publishDeploymentsVersion(anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+        publisher = new DeploymentsUpdatePublisher(consulService, taskScheduler, DEBOUNCE, clock);
+    }
+
+    @Test
+    public void modificationsWithinWindowArePublishedOnce() {
+        for (int i = 0; i < 300; i++) {
+            publisher.deploymentsModified();
+        }
+
+        advance(DEBOUNCE.minusMillis(1));
+        verify(consulService, never()).publishDeploymentsVersion(anyLong());
+
+        advance(Duration.ofMillis(1));
+        advance(DEBOUNCE.multipliedBy(2));
+        verify(consulService, times(1)).publishDeploymentsVersion(anyLong());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    public void windowIsNotExtendedByLaterModifications() {
+        publisher.deploymentsModified();
+        advance(DEBOUNCE.dividedBy(2));
+        publisher.deploymentsModified();
+
+        advance(DEBOUNCE.dividedBy(2));
+        verify(consulService, times(1)).publishDeploymentsVersion(anyLong());
+
+        publisher.deploymentsModified();
+        advance(DEBOUNCE);
+        verify(consulService, times(2)).publishDeploymentsVersion(anyLong());
+    }
+
+    @Test
+    public void publicationIsDeferredUntilTransactionCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.deploymentsModified();
+            publisher.deploymentsModified();
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+            advance(DEBOUNCE.multipliedBy(2));
+            verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        advance(DEBOUNCE);
+        verify(consulService, times(1)).publishDeploymentsVersion(anyLong());
+    }
+
+    @Test
+    public void versionsAreIncreasingAndFailedPublicationIsRetried() {
+        publisher.deploymentsModified();
+        advance(DEBOUNCE);
+        long firstVersion = publisher.getLastVersion();
+        assertEquals(now.get(), firstVersion);
+
+        when(consulService.publishDeploymentsVersion(anyLong()))
+                .thenThrow(new RuntimeException("consul is unavailable"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        publisher.deploymentsModified();
+        advance(DEBOUNCE);
+        verify(consulService, times(2)).publishDeploymentsVersion(anyLong());
+        assertEquals(firstVersion, publisher.getLastVersion());
+
+        advance(Duration.ofMillis(DeploymentsUpdatePublisher.PUBLISH_RETRY_DELAY));
+        verify(consulService, times(3)).publishDeploymentsVersion(anyLong());
+        assertTrue(publisher.getLastVersion() > firstVersion);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toMillis());
+        Instant current = Instant.ofEpochMilli(now.get());
+        List<ScheduledTask> due = scheduledTasks.stream()
+                .filter(task -> !task.startTime().isAfter(current))
+                .toList();
+        scheduledTasks.removeAll(due);
+        due.forEach(task -> task.task().run());
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.qubership.integration.platform.runtime.catalog.configuration.datasource.PersistenceAutoConfiguration;
+import org.qubership.integration.platform.runtime.catalog.configuration.datasource.properties.HikariConfigProperties;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementFilterRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.common.CommonRepository;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.testutils.QueryBudget;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs fetch plans through Hibernate with query counting enabled. There is no database in unit tests,
+ * so JDBC is stubbed and selects are answered from an in-memory chain, one column map per table of the FROM clause.
+ */
+public class FetchPlanQueryBudgetTest {
+    private static final String CHAIN_ID = "chain-1";
+    private static final String ELEMENT = "elements";
+    private static final String CONTAINER = "container_elements";
+
+    private static final Pattern SELECT_LIST = Pattern.compile("^select (?:distinct )?(.+?) from ");
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?:from|join) catalog\\.(\\w+) (\\w+)");
+    private static final Pattern DEPENDENCY_JOIN = Pattern.compile("join catalog\\.dependencies \\w+ on \\w+\\.id=\\w+\\.(\\w+)");
+
+    private final Map<String, Object> chainRow = Map.of(
+            "id", CHAIN_ID, "name", "Chain 1", "out_of_scope", false, "unsaved_changes", false);
+    private final List<Map<String, Object>> elementRows = new ArrayList<>();
+    private final List<Map<String, Object>> dependencyRows = new ArrayList<>();
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private ChainFinderService chainFinderService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Answer<PreparedStatement> prepare = invocation -> {
+            String sql = invocation.getArgument(0);
+            PreparedStatement statement = mock(PreparedStatement.class);
+            ResultSet resultSet = resultSet(sql);
+            when(statement.executeQuery()).thenReturn(resultSet);
+            return statement;
+        };
+        when(connection.prepareStatement(anyString())).thenAnswer(prepare);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenAnswer(prepare);
+
+        JpaProperties jpaProperties = new JpaProperties();
+        jpaProperties.setDatabase(Database.POSTGRESQL);
+        jpaProperties.getProperties().putAll(Map.of(
+                "hibernate.physical_naming_strategy", "io.hypersistence.utils.hibernate.naming.CamelCaseToSnakeCaseNamingStrategy",
+                "hibernate.temp.use_jdbc_metadata_defaults", "false",
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.default_schema", "catalog",
+                "hibernate.default_batch_fetch_size", "64"
+        ));
+        entityManagerFactoryBean = new PersistenceAutoConfiguration(jpaProperties, new HikariConfigProperties(Map.of()), true)
+                .configsEntityManagerFactory(dataSource);
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        ChainRepository chainRepository = repositoryFactory.getRepository(ChainRepository.class,
+                RepositoryFragments.just(mock(CommonRepository.class)));
+        ElementRepository elementRepository = repositoryFactory.getRepository(ElementRepository.class,
+                RepositoryFragments.just(mock(CommonRepository.class), mock(ElementFilterRepository.class)));
+        chainFinderService = new ChainFinderService(chainRepository, elementRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Test
+    public void chainElementTreeIsLoadedWithinBudget() {
+        for (int i = 0; i < 10; i++) {
+            addElement("element-" + i, ELEMENT, null);
+        }
+        addElement("container-1", CONTAINER, null);
+        addElement("child-1", ELEMENT, "container-1");
+        addElement("child-2", ELEMENT, "container-1");
+        for (int i = 1; i < 10; i++) {
+            addDependency("element-" + (i - 1), "element-" + i);
+        }
+        addDependency("element-9", "container-1");
+        addDependency("child-1", "child-2");
+
+        // One select for the chain with its elements, two for dependencies and one for container children
+        int[] counts = QueryBudget.assertWithinBudget(4, () -> walk(chainFinderService.findByIdWithElementTree(CHAIN_ID)));
+
+        assertEquals(13, counts[0]);
+        assertEquals(11, counts[1]);
+        assertEquals(11, counts[2]);
+        assertEquals(2, counts[3]);
+    }
+
+    // Touches every association a snapshot build reads: elements, both dependency sides and container children
+    private static int[] walk(Chain chain) {
+        int[] counts = new int[4];
+        for (ChainElement element : chain.getElements()) {
+            counts[0]++;
+            for (Dependency dependency : element.getInputDependencies()) {
+                counts[1] += dependency.getElementFrom().getId() != null ? 1 : 0;
+            }
+            for (Dependency dependency : element.getOutputDependencies()) {
+                counts[2] += dependency.getElementTo().getId() != null ? 1 : 0;
+            }
+            if (element instanceof ContainerChainElement container) {
+                counts[3] += container.getElements().size();
+            }
+        }
+        return counts;
+    }
+
+    private void addElement(String id, String dtype, String parentId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("dtype", dtype);
+        row.put("name", id);
+        row.put("type", "script");
+        row.put("chain_id", CHAIN_ID);
+        row.put("parent_element_id", parentId);
+        elementRows.add(row);
+    }
+
+    private void addDependency(String fromId, String toId) {
+        dependencyRows.add(Map.of(
+                "dependency_id", fromId + "-" + toId,
+                "element_from_id", fromId,
+                "element_to_id", toId
+        ));
+    }
+
+    private List<List<Map<String, Object>>> rows(String sql) {
+        List<List<Map<String, Object>>> rows = new ArrayList<>();
+        Matcher dependencyJoin = DEPENDENCY_JOIN.matcher(sql);
+        if (sql.contains("from catalog.chains")) {
+            elementRows.forEach(element -> rows.add(Arrays.asList(chainRow, element)));
+        } else if (dependencyJoin.find()) {
+            String elementColumn = dependencyJoin.group(1);
+            for (Map<String, Object> element : elementRows) {
+                List<Map<String, Object>> dependencies = dependencyRows.stream()
+                        .filter(dependency -> dependency.get(elementColumn).equals(element.get("id")))
+                        .toList();
+                if (dependencies.isEmpty()) {
+                    rows.add(Arrays.asList(element, null));
+                }
+                dependencies.forEach(dependency -> rows.add(Arrays.asList(element, dependency)));
+            }
+        } else if (sql.contains("join catalog.elements")) {
+            elementRows.stream().filter(element -> CONTAINER.equals(element.get("dtype"))).forEach(container -> {
+                List<Map<String, Object>> children = elementRows.stream()
+                        .filter(child -> container.get("id").equals(child.get("parent_element_id")))
+                        .toList();
+                if (children.isEmpty()) {
+                    rows.add(Arrays.asList(container, null));
+                }
+                children.forEach(child -> rows.add(Arrays.asList(container, child)));
+            });
+        }
+        // Any other select, such as a lazy collection load, finds nothing
+        return rows;
+    }
+
+    private ResultSet resultSet(String sql) throws Exception {
+        Matcher selectList = SELECT_LIST.matcher(sql);
+        if (!selectList.find()) {
+            return mock(ResultSet.class);
+        }
+        List<String> aliases = new ArrayList<>();
+        Matcher tableAlias = TABLE_ALIAS.matcher(sql);
+        while (tableAlias.find()) {
+            aliases.add(tableAlias.group(2));
+        }
+        String[] columns = selectList.group(1).split(",");
+        Iterator<List<Map<String, Object>>> rows = rows(sql).iterator();
+        Object[] current = new Object[columns.length];
+        boolean[] wasNull = new boolean[1];
+
+        ResultSet resultSet = mock(ResultSet.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (method.equals("next")) {
+                if (!rows.hasNext()) {
+                    return false;
+                }
+                List<Map<String, Object>> row = rows.next();
+                for (int i = 0; i < columns.length; i++) {
+                    String[] column = columns[i].split("\\.");
+                    Map<String, Object> table = row.get(aliases.indexOf(column[0]));
+                    current[i] = table == null ? null : table.get(column[1]);
+                }
+                return true;
+            }
+            if (method.equals("wasNull")) {
+                return wasNull[0];
+            }
+            if (method.startsWith("get") && invocation.getArguments().length > 0
+                    && invocation.getArgument(0) instanceof Integer position) {
+                Object value = current[position - 1];
+                wasNull[0] = value == null;
+                return returnType.isInstance(value) ? value : defaultValue(returnType);
+            }
+            return defaultValue(returnType);
+        });
+        return resultSet;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        return type.isPrimitive() && type != void.class ? 0 : null;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.qubership.integration.platform.runtime.catalog.testutils.QueryBudget;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountingStatementInspectorTest {
+    private QueryCountingStatementInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new QueryCountingStatementInspector();
+    }
+
+    @Test
+    void testRecordCollectsStatementsOfScope() {
+        inspector.inspect("select 0");
+        var recording = QueryCountingStatementInspector.record(() -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "result";
+        });
+        assertEquals("result", recording.result());
+        assertEquals(List.of("select 1", "select 2"), recording.statements());
+    }
+
+    @Test
+    void testNestedRecordAddsToOuterScope() {
+        var outer = QueryCountingStatementInspector.record(() -> {
+            inspector.inspect("select 1");
+            return QueryCountingStatementInspector.record(() -> inspector.inspect("select 2")).count();
+        });
+        assertEquals(1, outer.result());
+        assertEquals(2, outer.count());
+    }
+
+    @Test
+    void testQueryBudget() {
+        assertEquals("ok", QueryBudget.assertWithinBudget(2, () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "ok";
+        }));
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> QueryBudget.assertWithinBudget(1, () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "ok";
+        }));
+        assertTrue(error.getMessage().contains("select 2"));
+    }
+}
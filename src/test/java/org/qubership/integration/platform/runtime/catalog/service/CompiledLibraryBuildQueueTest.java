@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.compiledlibrary.CompiledLibraryStatus;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.CompiledLibrary;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.compiler.CompilerService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CompiledLibraryBuildQueueTest {
+    private static final String MODEL_ID = "model-1";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private SystemModelRepository systemModelRepository;
+    private CompiledLibraryBuildQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        systemModelRepository = mock(SystemModelRepository.class);
+        TransactionHandler transactionHandler = mock(TransactionHandler.class);
+        when(transactionHandler.supplyInNewTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        queue = new CompiledLibraryBuildQueue(
+                systemModelRepository,
+                Collections.emptyList(),
+                mock(CompilerService.class),
+                transactionHandler,
+                tasks::add,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void requestsForQueuedModelAreCoalesced() {
+        when(systemModelRepository.findById(MODEL_ID)).thenReturn(Optional.empty());
+
+        queue.submit(MODEL_ID);
+        queue.submit(MODEL_ID);
+        queue.submit(MODEL_ID);
+        queue.submit("model-2");
+
+        assertEquals(2, tasks.size());
+        assertEquals(2, queue.getQueueSize());
+
+        tasks.remove(0).run();
+
+        assertEquals(1, queue.getQueueSize());
+        verify(systemModelRepository, times(1)).findById(MODEL_ID);
+    }
+
+    @Test
+    public void requestsDuringBuildTriggerSingleRebuild() {
+        when(systemModelRepository.findById(MODEL_ID))
+                .thenAnswer(invocation -> {
+                    queue.submit(MODEL_ID);
+                    queue.submit(MODEL_ID);
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.empty());
+
+        queue.submit(MODEL_ID);
+        tasks.remove(0).run();
+
+        assertEquals(1, tasks.size());
+        assertEquals(1, queue.getQueueSize());
+
+        tasks.remove(0).run();
+
+        assertEquals(0, tasks.size());
+        assertEquals(0, queue.getQueueSize());
+        verify(systemModelRepository, times(2)).findById(MODEL_ID);
+    }
+
+    @Test
+    public void resultIsStoredOnlyForUnchangedRevision() {
+        CompiledLibrary library = CompiledLibrary.builder().status(CompiledLibraryStatus.PENDING).revision(1).build();
+        when(systemModelRepository.findById(MODEL_ID))
+                .thenReturn(Optional.of(SystemModel.builder().id(MODEL_ID).compiledLibrary(library).build()));
+        CompiledLibrary newerLibrary = CompiledLibrary.builder().status(CompiledLibraryStatus.PENDING).revision(2).build();
+        when(systemModelRepository.findCompiledLibraryWithLockingByModelId(MODEL_ID))
+                .thenReturn(Optional.of(newerLibrary))
+                .thenReturn(Optional.of(library));
+
+        queue.submit(MODEL_ID);
+        tasks.remove(0).run();
+        assertEquals(CompiledLibraryStatus.PENDING, newerLibrary.getStatus());
+
+        queue.submit(MODEL_ID);
+        tasks.remove(0).run();
+        assertEquals(CompiledLibraryStatus.READY, library.getStatus());
+    }
+
+    @Test
+    public void rejectedBuildIsRemovedFromQueue() {
+        queue = new CompiledLibraryBuildQueue(
+                systemModelRepository,
+                Collections.emptyList(),
+                mock(CompilerService.class),
+                mock(TransactionHandler.class),
+                task -> {
+                    throw new RejectedExecutionException("Executor is shut down");
+                },
+                new SimpleMeterRegistry());
+
+        queue.submit(MODEL_ID);
+
+        assertEquals(0, queue.getQueueSize());
+    }
+}
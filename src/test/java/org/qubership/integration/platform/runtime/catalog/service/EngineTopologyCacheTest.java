@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.cache.Cache;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.EventActionType;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubePod;
+import org.qubership.integration.platform.runtime.catalog.util.DevModeUtil;
+import org.qubership.integration.platform.runtime.catalog.util.EngineDomainUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class EngineTopologyCacheTest {
+    private static final String APP_LABEL = "qip_engine_app";
+    private static final String NAMESPACE = "qip";
+    private static final Duration RESYNC_PERIOD = Duration.ofMinutes(5);
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final Cache<V1Deployment> deploymentsIndexer = new Cache<>();
+    private final Cache<V1Pod> podsIndexer = new Cache<>();
+
+    private KubeOperator operator;
+    private SharedIndexInformer<V1Deployment> deploymentsInformer;
+    private SharedIndexInformer<V1Pod> podsInformer;
+    private MeterRegistry meterRegistry;
+    private EngineTopologyCache topologyCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        operator = mock(KubeOperator.class);
+        deploymentsInformer = mock(SharedIndexInformer.class);
+        podsInformer = mock(SharedIndexInformer.class);
+        SharedInformerFactory informerFactory = mock(SharedInformerFactory.class);
+        when(operator.isConfigured()).thenReturn(true);
+        when(operator.createInformerFactory()).thenReturn(informerFactory);
+        when(operator.createDeploymentsInformer(eq(informerFactory), eq(APP_LABEL), anyLong())).thenReturn(deploymentsInformer);
+        when(operator.createPodsInformer(eq(informerFactory), eq(EngineTopologyCache.ENGINE_NAME_LABEL), anyLong()))
+                .thenReturn(podsInformer);
+        when(operator.toKubeDeployment(any())).thenAnswer(invocation -> {
+            V1Deployment deployment = invocation.getArgument(0);
+            return KubeDeployment.builder().name(deployment.getMetadata().getName()).build();
+        });
+        when(operator.toKubePod(any())).thenAnswer(invocation -> {
+            V1Pod pod = invocation.getArgument(0);
+            return KubePod.builder().name(pod.getMetadata().getName()).build();
+        });
+        doAnswer(invocation -> {
+            deploymentsIndexer.addIndexers(invocation.getArgument(0));
+            return null;
+        }).when(deploymentsInformer).addIndexers(any());
+        doAnswer(invocation -> {
+            podsIndexer.addIndexers(invocation.getArgument(0));
+            return null;
+        }).when(podsInformer).addIndexers(any());
+        when(deploymentsInformer.getIndexer()).thenReturn(deploymentsIndexer);
+        when(podsInformer.getIndexer()).thenReturn(podsIndexer);
+
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        meterRegistry = new SimpleMeterRegistry();
+        topologyCache = new EngineTopologyCache(operator, new EngineDomainUtils("qip-engine"), mock(DevModeUtil.class),
+                meterRegistry, APP_LABEL, true, RESYNC_PERIOD, clock);
+        topologyCache.start();
+    }
+
+    @Test
+    public void readsGoToApiUntilInformersAreSynced() {
+        when(deploymentsInformer.hasSynced()).thenReturn(true);
+        when(podsInformer.hasSynced()).thenReturn(false);
+        List<KubeDeployment> apiDeployments = List.of(KubeDeployment.builder().name("orders-v1").build());
+        when(operator.getDeploymentsByLabel(APP_LABEL)).thenReturn(apiDeployments);
+
+        assertFalse(topologyCache.isSynced());
+        assertSame(apiDeployments, topologyCache.getDeployments());
+        assertEquals(1, topologyCache.getDeploymentsByDomain("orders").size());
+        assertEquals(2.0, apiFallbacks());
+    }
+
+    @Test
+    public void deploymentsAreFoundByDomainIndex() {
+        markSynced();
+        deploymentsIndexer.add(deployment("orders-v2"));
+        deploymentsIndexer.add(deployment("billing-v1"));
+        deploymentsIndexer.add(deployment("orders-v1"));
+
+        assertEquals(List.of("orders-v1", "orders-v2"), deploymentNames(topologyCache.getDeploymentsByDomain("orders")));
+        assertEquals(List.of("billing-v1", "orders-v1", "orders-v2"), deploymentNames(topologyCache.getDeployments()));
+        verify(operator, never()).getDeploymentsByLabel(any());
+        assertEquals(0.0, apiFallbacks());
+    }
+
+    @Test
+    public void podsAreFoundByDeploymentIndex() {
+        markSynced();
+        podsIndexer.add(pod("orders-v1-b", "orders-v1", "1"));
+        podsIndexer.add(pod("billing-v1-a", "billing-v1", "1"));
+        podsIndexer.add(pod("orders-v1-a", "orders-v1", "1"));
+
+        List<String> podNames = topologyCache.getPods("orders-v1").stream().map(KubePod::getName).toList();
+
+        assertEquals(List.of("orders-v1-a", "orders-v1-b"), podNames);
+        verify(operator, never()).getPodsByLabel(any(), any());
+    }
+
+    @Test
+    public void readsGoToApiWhenInformersAreStale() {
+        markSynced();
+        when(operator.getPodsByLabel(EngineTopologyCache.ENGINE_NAME_LABEL, "orders-v1")).thenReturn(List.of());
+
+        now.addAndGet(RESYNC_PERIOD.toMillis());
+        assertTrue(topologyCache.isSynced());
+
+        now.addAndGet(RESYNC_PERIOD.toMillis() + 1);
+        assertFalse(topologyCache.isSynced());
+        topologyCache.getPods("orders-v1");
+        verify(operator).getPodsByLabel(EngineTopologyCache.ENGINE_NAME_LABEL, "orders-v1");
+        assertEquals(1.0, apiFallbacks());
+
+        podEventHandler().onUpdate(pod("orders-v1-a", "orders-v1", "1"), pod("orders-v1-a", "orders-v1", "1"));
+        assertTrue(topologyCache.isSynced());
+    }
+
+    @Test
+    public void podListenersReceiveChangesOfEnginePods() {
+        markSynced();
+        deploymentsIndexer.add(deployment("orders-v1"));
+        List<String> events = new ArrayList<>();
+        topologyCache.addPodListener((pod, domainName, actionType) ->
+                events.add(pod.getName() + " " + domainName + " " + actionType));
+        ResourceEventHandler<V1Pod> handler = podEventHandler();
+
+        handler.onAdd(pod("orders-v1-a", "orders-v1", "1"));
+        handler.onUpdate(pod("orders-v1-a", "orders-v1", "1"), pod("orders-v1-a", "orders-v1", "1"));
+        handler.onUpdate(pod("orders-v1-a", "orders-v1", "1"), pod("orders-v1-a", "orders-v1", "2"));
+        handler.onAdd(pod("other-a", "other", "1"));
+        handler.onDelete(pod("orders-v1-a", "orders-v1", "3"), false);
+
+        assertEquals(List.of(
+                "orders-v1-a orders " + EventActionType.ADDED,
+                "orders-v1-a orders " + EventActionType.MODIFIED,
+                "orders-v1-a orders " + EventActionType.DELETED
+        ), events);
+    }
+
+    private void markSynced() {
+        when(deploymentsInformer.hasSynced()).thenReturn(true);
+        when(podsInformer.hasSynced()).thenReturn(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourceEventHandler<V1Pod> podEventHandler() {
+        ArgumentCaptor<ResourceEventHandler<V1Pod>> captor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(podsInformer).addEventHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    private double apiFallbacks() {
+        return meterRegistry.get("qip.engine.topology.api.fallbacks").counter().count();
+    }
+
+    private static List<String> deploymentNames(List<KubeDeployment> deployments) {
+        return deployments.stream().map(KubeDeployment::getName).toList();
+    }
+
+    private static V1Deployment deployment(String name) {
+        return new V1Deployment().metadata(new V1ObjectMeta().name(name).namespace(NAMESPACE));
+    }
+
+    private static V1Pod pod(String name, String deploymentName, String resourceVersion) {
+        return new V1Pod().metadata(new V1ObjectMeta()
+                .name(name)
+                .namespace(NAMESPACE)
+                .resourceVersion(resourceVersion)
+                .labels(Map.of(EngineTopologyCache.ENGINE_NAME_LABEL, deploymentName)));
+    }
+}
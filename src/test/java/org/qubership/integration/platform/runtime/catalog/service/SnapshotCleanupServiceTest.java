@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.SnapshotRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.SnapshotRepository.SnapshotPruneCandidate;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SnapshotCleanupServiceTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private SnapshotRepository snapshotRepository;
+    private ActionsLogService actionLogger;
+    private SimpleMeterRegistry meterRegistry;
+    private SnapshotCleanupService cleanupService;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotRepository = mock(SnapshotRepository.class);
+        actionLogger = mock(ActionsLogService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        TransactionHandler transactionHandler = mock(TransactionHandler.class);
+        when(transactionHandler.supplyInNewTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        cleanupService = new SnapshotCleanupService(
+                snapshotRepository,
+                actionLogger,
+                transactionHandler,
+                tasks::add,
+                1,
+                0,
+                meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prunableSnapshotsAreDeletedBatchByBatchAndLoggedInBulk() {
+        Timestamp firstBatchEnd = new Timestamp(2000);
+        List<SnapshotPruneCandidate> firstBatch = List.of(
+                candidate("s1", new Timestamp(1000), true),
+                candidate("s2", firstBatchEnd, false));
+        List<SnapshotPruneCandidate> lastBatch = List.of(candidate("s3", new Timestamp(3000), true));
+        when(snapshotRepository.findPruneCandidates(any(), eq(1), any(), anyString(), eq(2)))
+                .thenReturn(firstBatch)
+                .thenReturn(lastBatch);
+        when(snapshotRepository.deleteUnusedByIdIn(any()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+
+        cleanupService.pruneSnapshotsAsync(7, 2);
+        cleanupService.pruneSnapshotsAsync(7, 2);
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+
+        verify(snapshotRepository).findPruneCandidates(any(), eq(1), eq(firstBatchEnd), eq("s2"), eq(2));
+        verify(snapshotRepository).deleteUnusedByIdIn(Set.of("s1"));
+        verify(snapshotRepository).deleteUnusedByIdIn(Set.of("s3"));
+
+        ArgumentCaptor<Collection<ActionLog>> actions = ArgumentCaptor.forClass(Collection.class);
+        verify(actionLogger, times(2)).logActions(actions.capture());
+        assertEquals(List.of("chain-s1", "chain-s3"), actions.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .map(ActionLog::getParentName)
+                .toList());
+
+        assertEquals(2.0, meterRegistry.get("qip.snapshots.cleanup.deleted").counter().count());
+        assertEquals(3.0, meterRegistry.get("qip.snapshots.cleanup.progress.scanned").gauge().value());
+        assertEquals(0.0, meterRegistry.get("qip.snapshots.cleanup.running").gauge().value());
+    }
+
+    private static SnapshotPruneCandidate candidate(String id, Timestamp createdWhen, boolean prunable) {
+        SnapshotPruneCandidate candidate = mock(SnapshotPruneCandidate.class);
+        when(candidate.getId()).thenReturn(id);
+        when(candidate.getName()).thenReturn("snapshot-" + id);
+        when(candidate.getChainId()).thenReturn("chain-id-" + id);
+        when(candidate.getChainName()).thenReturn("chain-" + id);
+        when(candidate.getCreatedWhen()).thenReturn(createdWhen);
+        when(candidate.getPrunable()).thenReturn(prunable);
+        return candidate;
+    }
+}
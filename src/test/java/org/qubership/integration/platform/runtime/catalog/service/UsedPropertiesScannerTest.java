@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertySource;
+import org.qubership.integration.platform.runtime.catalog.service.UsedPropertiesScanner.PropertyAccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UsedPropertiesScannerTest {
+
+    // Regular expressions the scanner replaces, used as a reference implementation
+    private static final Pattern GROOVY_GET_HEADERS_PATTERN = Pattern.compile(
+            "exchange\\.(message|getMessage\\(\\))\\.(headers|getHeader\\(|getHeaders\\(\\))"
+                    + "((\\[(['\"]))|(\\.?((get\\(([\"']))|([\"'])?)))([a-zA-Z0-9_.\\-]+)(?!([^\\n\\r]*[=(]))", Pattern.CASE_INSENSITIVE);
+    private static final int[] GROOVY_GET_HEADER_GROUPS = {11};
+    private static final Pattern GROOVY_SET_HEADERS_PATTERN = Pattern.compile(
+            "exchange\\.(message|getMessage\\(\\))\\.((headers([\\[.]['\"]?)([a-zA-Z0-9_.\\-]+)(['\"]]?)?\\s+=)|"
+                    + "(setHeader\\(['\"]([a-zA-Z0-9_.\\-]+)(['\")]?))|"
+                    + "(((getHeaders\\(\\)|headers)\\.remove|removeHeader)(\\(['\"])([a-zA-Z0-9_.\\-]+)))", Pattern.CASE_INSENSITIVE);
+    private static final int[] GROOVY_SET_HEADER_GROUPS = {5, 8, 14};
+    private static final Pattern GROOVY_GET_PROPERTIES_PATTERN = Pattern.compile(
+            "exchange\\.((properties|getProperty)((([\\[(])|(\\.))['\"]?)([a-zA-Z0-9_.\\-]+)(?!([^\\n\\r]*[=(])))", Pattern.CASE_INSENSITIVE);
+    private static final int[] GROOVY_GET_PROPERTIES_GROUPS = {7};
+    private static final Pattern GROOVY_SET_PROPERTIES_PATTERN = Pattern.compile(
+            "exchange\\.((properties[\\[.]['\"]?([a-zA-Z0-9_.\\-]+)(['\"]]?)?\\s+=)|"
+                    + "(setProperty\\(['\"]([a-zA-Z0-9_.\\-]+)['\"]\\)?)|"
+                    + "(properties\\.remove|getProperties\\(\\)\\.remove|removeProperty)(\\(['\"])([a-zA-Z0-9_.\\-]+))", Pattern.CASE_INSENSITIVE);
+    private static final int[] GROOVY_SET_PROPERTIES_GROUPS = {3, 6, 9};
+    private static final Pattern PROPS_SIMPLE_PATTERN = Pattern.compile(
+            "\\$\\{exchangeProperty((\\.([a-zA-Z0-9_\\-]+))|([.\\[]'?([a-zA-Z0-9_.\\-]+)))[^}]*}", Pattern.CASE_INSENSITIVE);
+    private static final int[] EX_PROP_GROUPS = {3, 5};
+    private static final Pattern HEADERS_SIMPLE_PATTERN = Pattern.compile(
+            "\\$\\{headera?s?((\\.([a-zA-Z0-9_\\-]+))|([.\\[(]'?([a-zA-Z0-9_.\\-]+)))[^}]*}", Pattern.CASE_INSENSITIVE);
+    private static final int[] EX_HEADER_GROUPS = {3, 5};
+
+    private static final String[] TOKENS = {
+            "exchange.", "EXCHANGE.", "message.", "getMessage().", "headers", "Headers", "getHeader(", "getHeaders()",
+            "get(", "setHeader(", "headers.remove", "getHeaders().remove", "removeHeader", ".remove",
+            "properties", "getProperty", "setProperty(", "properties.remove", "getProperties().remove", "removeProperty",
+            "${", "exchangeProperty", "header", "headerAs", "a", "s", "}",
+            "name", "x.y", "-", "_", "1", ".", "[", "]", "(", ")", "'", "\"", "=", " ", "  ", "\t", "\n", "\r", "?", ",",
+            "ſ", "K"
+    };
+
+    @Test
+    public void shouldFindScriptAccessesOfAllKinds() {
+        String script = """
+                def a = 1
+                exchange.message.headers.test1
+                exchange.getMessage().getHeaders().get("test2")
+                exchange.message.headers['test3'] = "value"
+                exchange.getMessage().setHeader('test4', "value")
+                exchange.message.removeHeader("test5")
+                exchange.properties.test6
+                exchange.setProperty('test7', "value")
+                exchange.getProperties().remove("test8")
+                """;
+
+        assertEquals(List.of(
+                new PropertyAccess("test1", UsedPropertySource.HEADER, UsedPropertyElementOperation.GET),
+                new PropertyAccess("test2", UsedPropertySource.HEADER, UsedPropertyElementOperation.GET),
+                new PropertyAccess("test3", UsedPropertySource.HEADER, UsedPropertyElementOperation.SET),
+                new PropertyAccess("test4", UsedPropertySource.HEADER, UsedPropertyElementOperation.SET),
+                new PropertyAccess("test5", UsedPropertySource.HEADER, UsedPropertyElementOperation.SET),
+                new PropertyAccess("test6", UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET),
+                new PropertyAccess("test7", UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET),
+                new PropertyAccess("test8", UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET)
+        ), UsedPropertiesScanner.scanScript(script));
+    }
+
+    @Test
+    public void shouldMatchRegularExpressionsOnDocumentedExamples() {
+        List<String> examples = List.of(
+                "exchange.message.headers.test1.tea",
+                "exchange.message.headers.'test1--daAAAa_123fsfwsf'",
+                "exchange.message.headers[\"test1\"]",
+                "exchange.message.getHeader('test1')",
+                "exchange.getMessage().headers.\"test1\"",
+                "exchange.getMessage().getHeaders().get('test1')",
+                "exchange.message.headers.test1 = \"test_value\"",
+                "exchange.message.headers['test1'] = \"test_value\"",
+                "exchange.getMessage().setHeader(\"test1\", \"test_value\")",
+                "exchange.getMessage().headers.remove('test1')",
+                "exchange.message.removeHeader(\"test1\")",
+                "exchange.properties.'test1'",
+                "exchange.properties[\"test1\"]",
+                "exchange.getProperty('test1')",
+                "exchange.properties.\"test1\" = \"test_value\"",
+                "exchange.setProperty('test1', \"test_value\")",
+                "exchange.getProperties().remove(\"test1\")",
+                "${exchangeProperty.foo.size()}",
+                "${exchangeProperty.'foo'.size()}",
+                "${exchangeProperty[foo]?.bar}",
+                "${exchangeProperty['foo.bar']}",
+                "${headers.foo?.bar}",
+                "${header[foo.bar]}",
+                "${headers['foo']?.bar}",
+                "${headerAs('foo', Type)}"
+        );
+        for (String example : examples) {
+            assertMatchesRegularExpressions(example);
+        }
+        assertMatchesRegularExpressions(String.join("\n", examples));
+    }
+
+    @Test
+    public void shouldMatchRegularExpressionsOnRandomText() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                text.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertMatchesRegularExpressions(text.toString());
+        }
+    }
+
+    private static void assertMatchesRegularExpressions(String text) {
+        List<PropertyAccess> expectedScript = new ArrayList<>();
+        find(expectedScript, text, GROOVY_GET_HEADERS_PATTERN, GROOVY_GET_HEADER_GROUPS,
+                UsedPropertySource.HEADER, UsedPropertyElementOperation.GET);
+        find(expectedScript, text, GROOVY_SET_HEADERS_PATTERN, GROOVY_SET_HEADER_GROUPS,
+                UsedPropertySource.HEADER, UsedPropertyElementOperation.SET);
+        find(expectedScript, text, GROOVY_GET_PROPERTIES_PATTERN, GROOVY_GET_PROPERTIES_GROUPS,
+                UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET);
+        find(expectedScript, text, GROOVY_SET_PROPERTIES_PATTERN, GROOVY_SET_PROPERTIES_GROUPS,
+                UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET);
+        assertEquals(expectedScript, UsedPropertiesScanner.scanScript(text), text);
+
+        List<PropertyAccess> expectedSimple = new ArrayList<>();
+        find(expectedSimple, text, PROPS_SIMPLE_PATTERN, EX_PROP_GROUPS,
+                UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET);
+        find(expectedSimple, text, HEADERS_SIMPLE_PATTERN, EX_HEADER_GROUPS,
+                UsedPropertySource.HEADER, UsedPropertyElementOperation.GET);
+        assertEquals(expectedSimple, UsedPropertiesScanner.scanSimpleExpression(text), text);
+    }
+
+    private static void find(List<PropertyAccess> result, String text, Pattern pattern, int[] groups,
+                             UsedPropertySource source, UsedPropertyElementOperation operation) {
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            for (int group : groups) {
+                String name = matcher.group(group);
+                if (name != null) {
+                    result.add(new PropertyAccess(name, source, operation));
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.deployment;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.DeployedTriggerType;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.RouteType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeployedRoute;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeployedRoutesIndexTest {
+    private static final Set<RouteType> GATEWAY_TYPES = Set.of(RouteType.EXTERNAL_TRIGGER, RouteType.PRIVATE_TRIGGER);
+
+    @Test
+    public void findsHttpRoutesOfOtherChainsOnGateway() {
+        DeployedRoutesIndex index = new DeployedRoutesIndex(List.of(
+                httpRoute("chain-1", "default", "api/a", RouteType.EXTERNAL_TRIGGER),
+                httpRoute("chain-2", "default", "api/a", RouteType.EXTERNAL_TRIGGER),
+                httpRoute("chain-3", "default", "api/a", RouteType.INTERNAL_TRIGGER),
+                httpRoute("chain-2", "default", "api/b", RouteType.PRIVATE_TRIGGER)));
+
+        List<DeployedRoute> routes = index.findHttpRoutesOfOtherChains(List.of("api/a", "api/a"), "chain-1", GATEWAY_TYPES);
+
+        assertEquals(1, routes.size());
+        assertEquals("chain-2", routes.get(0).getChainId());
+    }
+
+    @Test
+    public void findsRoutesOfChainOnOtherDomains() {
+        DeployedRoutesIndex index = new DeployedRoutesIndex(List.of(
+                httpRoute("chain-1", "default", "api/a", RouteType.INTERNAL_TRIGGER),
+                sdsRoute("chain-1", "default", "job-1")));
+
+        assertTrue(index.findHttpRoutesOfChainOnOtherDomains(List.of("api/a"), "chain-1", "default").isEmpty());
+        assertTrue(index.findSdsRoutesOfChainOnOtherDomains(List.of("job-1"), "chain-1", "default").isEmpty());
+
+        index.addAll(List.of(
+                httpRoute("chain-1", "domain-2", "api/a", RouteType.INTERNAL_TRIGGER),
+                sdsRoute("chain-1", "domain-2", "job-1")));
+
+        assertEquals(2, index.findHttpRoutesOfChainOnOtherDomains(List.of("api/a"), "chain-1", "domain-3").size());
+        assertEquals(1, index.findHttpRoutesOfChainOnOtherDomains(List.of("api/a"), "chain-1", "default").size());
+        assertEquals(1, index.findSdsRoutesOfChainOnOtherDomains(List.of("job-1"), "chain-1", "default").size());
+        assertTrue(index.findSdsRoutesOfChainOnOtherDomains(List.of("job-1"), "chain-2", "default").isEmpty());
+    }
+
+    private static DeployedRoute httpRoute(String chainId, String domain, String path, RouteType gatewayType) {
+        return DeployedRoute.builder()
+                .chainId(chainId)
+                .domain(domain)
+                .triggerType(DeployedTriggerType.HTTP)
+                .path(path)
+                .method("GET")
+                .gatewayType(gatewayType)
+                .build();
+    }
+
+    private static DeployedRoute sdsRoute(String chainId, String domain, String jobId) {
+        return DeployedRoute.builder()
+                .chainId(chainId)
+                .domain(domain)
+                .triggerType(DeployedTriggerType.SDS)
+                .sdsJobId(jobId)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.exportimport;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.exportimport.chain.DeploymentExternalEntity;
+import org.qubership.integration.platform.runtime.catalog.model.exportimport.chain.ImportChainResult;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.chain.ImportEntityStatus;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.engine.ImportDomainDTO;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.remoteimport.ChainCommitRequest;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.remoteimport.ChainCommitRequestAction;
+import org.qubership.integration.platform.runtime.catalog.service.*;
+import org.qubership.integration.platform.runtime.catalog.service.difference.ChainDifferenceService;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.instructions.ImportInstructionsService;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.mapper.chain.ChainExternalEntityMapper;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.migrations.FileMigrationService;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ChainImportServiceTest {
+    private static final String IMPORT_ID = "import-1";
+    private static final String CHAIN_ID = "chain-1";
+
+    private SnapshotService snapshotService;
+    private DeploymentService deploymentService;
+    private EngineService engineService;
+    private ChainImportService chainImportService;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotService = mock(SnapshotService.class);
+        deploymentService = mock(DeploymentService.class);
+        engineService = mock(EngineService.class);
+        chainImportService = new ChainImportService(
+                mock(YAMLMapper.class),
+                mock(TransactionTemplate.class),
+                mock(ChainService.class),
+                mock(ChainFinderService.class),
+                mock(FolderService.class),
+                snapshotService,
+                deploymentService,
+                engineService,
+                mock(ChainExternalEntityMapper.class),
+                mock(ImportSessionService.class),
+                mock(ActionsLogService.class),
+                mock(DependencyService.class),
+                mock(ElementService.class),
+                mock(MaskedFieldsService.class),
+                mock(ChainDifferenceService.class),
+                mock(ImportInstructionsService.class),
+                mock(FileMigrationService.class),
+                List.of(),
+                Runnable::run,
+                Runnable::run,
+                Runnable::run
+        );
+    }
+
+    @Test
+    public void snapshotFailureMarksChainAsSavedWithoutSnapshot() {
+        ImportChainResult chainResult = chainResult(List.of(DeploymentExternalEntity.builder().domain("default").build()));
+        when(snapshotService.build(eq(CHAIN_ID), anySet())).thenThrow(new IllegalStateException("broken element"));
+
+        deploy(chainResult, Map.of());
+
+        assertEquals(ImportEntityStatus.ERROR, chainResult.getStatus());
+        assertEquals(ExportImportConstants.SAVED_WITHOUT_SNAPSHOT_ERROR_MESSAGE + "broken element", chainResult.getErrorMessage());
+        verify(deploymentService, never()).create(any(), any(), any(), any());
+    }
+
+    @Test
+    public void snapshotOnlyRequestBuildsSnapshotWithoutDeploying() {
+        ImportChainResult chainResult = chainResult(List.of());
+        ChainCommitRequest request = ChainCommitRequest.builder()
+                .id(CHAIN_ID)
+                .deployAction(ChainCommitRequestAction.SNAPSHOT)
+                .domains(List.of(ImportDomainDTO.builder().name("default").build()))
+                .build();
+        when(snapshotService.build(eq(CHAIN_ID), anySet())).thenReturn(snapshot());
+
+        deploy(chainResult, Map.of(CHAIN_ID, request));
+
+        assertEquals(ImportEntityStatus.CREATED, chainResult.getStatus());
+        verify(snapshotService).build(eq(CHAIN_ID), anySet());
+        verify(deploymentService, never()).findAllByChainIdIn(any());
+        verify(deploymentService, never()).create(any(), any(), any(), any());
+    }
+
+    @Test
+    public void deploymentReplacesExistingDeploymentsOfImportedChains() {
+        ImportChainResult chainResult = chainResult(List.of(DeploymentExternalEntity.builder().domain("default").build()));
+        Snapshot snapshot = snapshot();
+        List<Deployment> oldDeployments = List.of(new Deployment());
+        when(snapshotService.build(eq(CHAIN_ID), anySet())).thenReturn(snapshot);
+        when(engineService.isDevMode()).thenReturn(true);
+        when(deploymentService.findAllByChainIdIn(List.of(CHAIN_ID))).thenReturn(oldDeployments);
+
+        deploy(chainResult, Map.of());
+
+        assertEquals(ImportEntityStatus.CREATED, chainResult.getStatus());
+        verify(deploymentService).create(
+                argThat(deployment -> "default".equals(deployment.getDomain())),
+                same(snapshot.getChain()),
+                same(snapshot),
+                same(oldDeployments));
+    }
+
+    private void deploy(ImportChainResult chainResult, Map<String, ChainCommitRequest> commitRequests) {
+        List<ChainImportService.ChainDeployTask> deployTasks = chainImportService
+                .startSnapshotBuild(chainResult, commitRequests, Set.of())
+                .stream()
+                .toList();
+        chainImportService.deployChains(deployTasks, IMPORT_ID);
+    }
+
+    private static ImportChainResult chainResult(List<DeploymentExternalEntity> deployments) {
+        return ImportChainResult.builder()
+                .id(CHAIN_ID)
+                .name("Chain 1")
+                .status(ImportEntityStatus.CREATED)
+                .deployments(deployments)
+                .build();
+    }
+
+    private static Snapshot snapshot() {
+        return Snapshot.builder()
+                .id("snapshot-1")
+                .chain(Chain.builder().id(CHAIN_ID).build())
+                .build();
+    }
+}
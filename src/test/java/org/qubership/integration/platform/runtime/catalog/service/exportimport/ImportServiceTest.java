@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.exportimport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.chain.ImportChainPreviewDTO;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.exportimport.chain.ImportPreviewDTO;
+import org.qubership.integration.platform.runtime.catalog.service.*;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.mapper.chain.ChainExternalEntityMapper;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.migrations.FileMigrationService;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ImportServiceTest {
+    private ImportService importService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        FileMigrationService fileMigrationService = mock(FileMigrationService.class);
+        when(fileMigrationService.migrate(any(JsonNode.class), anyCollection())).thenAnswer(invocation -> invocation.<ObjectNode>getArgument(0));
+        importService = new ImportService(
+                mock(ChainExternalEntityMapper.class),
+                new YAMLMapper(),
+                new ObjectMapper(),
+                mock(ActionsLogService.class),
+                mock(DeploymentService.class),
+                mock(SnapshotService.class),
+                mock(EngineService.class),
+                mock(ChainFinderService.class),
+                mock(FolderService.class),
+                mock(ChainRepository.class),
+                mock(ImportSessionService.class),
+                mock(ChainImportService.class),
+                mock(TransactionTemplate.class),
+                fileMigrationService,
+                List.of()
+        );
+    }
+
+    @Test
+    public void previewReportsChainDirectoryWithoutYaml() throws IOException {
+        byte[] archive = zip(
+                "chains/first/chain-first.yaml", "id: first\nname: First chain\n",
+                "chains/first/script-1.groovy", "return 1",
+                "chains/second/script-2.groovy", "return 2"
+        );
+
+        ImportPreviewDTO preview = importService.importZIPAsPreview(new ByteArrayInputStream(archive));
+
+        assertNull(preview.getErrorMessage());
+        assertEquals(2, preview.getChains().size());
+        ImportChainPreviewDTO first = preview.getChains().get(0);
+        assertEquals("first", first.getId());
+        assertNull(first.getErrorMessage());
+        ImportChainPreviewDTO second = preview.getChains().get(1);
+        assertNull(second.getId());
+        assertEquals("Exception while chain import: Directory second does not contain chain YAML file", second.getErrorMessage());
+    }
+
+    // Takes file names and contents in turn, entries are written in that order
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zipOutputStream.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zipOutputStream.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.exportimport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.integration.platform.runtime.catalog.model.exportimport.instructions.IgnoreResult;
+import org.qubership.integration.platform.runtime.catalog.model.exportimport.system.ImportSystemResult;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.system.imports.ImportSystemStatus;
+import org.qubership.integration.platform.runtime.catalog.rest.v3.dto.exportimport.system.SystemsCommitRequest;
+import org.qubership.integration.platform.runtime.catalog.service.*;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.deserializer.ServiceDeserializer;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.instructions.ImportInstructionsService;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.serializer.ServiceSerializer;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ElementHelperService;
+import org.qubership.integration.platform.runtime.catalog.util.ExportImportUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SystemExportImportServiceTest {
+    private static final String IMPORT_ID = "import-1";
+
+    @TempDir
+    private Path importDirectory;
+
+    private final Map<String, IntegrationSystem> storedSystems = new ConcurrentHashMap<>();
+
+    private ExecutorService systemImportExecutor;
+    private SystemService systemService;
+    private ServiceDeserializer serviceDeserializer;
+    private SystemExportImportService systemExportImportService;
+
+    @BeforeEach
+    public void setUp() {
+        systemImportExecutor = Executors.newFixedThreadPool(4);
+        systemService = mock(SystemService.class);
+        serviceDeserializer = mock(ServiceDeserializer.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        ImportInstructionsService importInstructionsService = mock(ImportInstructionsService.class);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(importInstructionsService.performServiceIgnoreInstructions(anyCollection(), anyBoolean()))
+                .thenAnswer(invocation -> new IgnoreResult(new HashSet<>(invocation.getArgument(0)), List.of()));
+        when(serviceDeserializer.deserializeSystem(any(File.class), any(JsonNode.class)))
+                .thenAnswer(invocation -> toSystem(invocation.getArgument(1)));
+        // Row lock stand-in: a new system has no row, so a concurrent create of the same system fails on the key
+        when(systemService.getByIdWithLockingOrNull(anyString())).thenAnswer(invocation -> storedSystems.get(invocation.<String>getArgument(0)));
+        when(systemService.create(any(IntegrationSystem.class), eq(true))).thenAnswer(invocation -> {
+            IntegrationSystem system = invocation.getArgument(0);
+            if (storedSystems.putIfAbsent(system.getId(), system) != null) {
+                throw new DuplicateKeyException("System " + system.getId() + " already exists");
+            }
+            return system;
+        });
+
+        systemExportImportService = new SystemExportImportService(
+                transactionTemplate,
+                systemService,
+                mock(EnvironmentService.class),
+                mock(SystemModelService.class),
+                new YAMLMapper(),
+                mock(ActionsLogService.class),
+                mock(AuditingHandler.class),
+                mock(ServiceSerializer.class),
+                serviceDeserializer,
+                mock(ImportSessionService.class),
+                importInstructionsService,
+                mock(ElementHelperService.class),
+                mock(ChainService.class),
+                systemImportExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        systemImportExecutor.shutdownNow();
+    }
+
+    @Test
+    public void filesOfSameSystemAreImportedOneAfterAnother() throws IOException {
+        writeServiceFile("first", "orders");
+        writeServiceFile("second", "orders");
+
+        List<ImportSystemResult> results = importSystems();
+
+        assertEquals(List.of(ImportSystemStatus.CREATED, ImportSystemStatus.UPDATED), statuses(results));
+        verify(systemService, times(2)).getByIdWithLockingOrNull("orders");
+        verify(systemService).create(any(IntegrationSystem.class), eq(true));
+        verify(systemService).update(any(IntegrationSystem.class));
+    }
+
+    @Test
+    public void resultsKeepFileOrder() throws Exception {
+        writeServiceFile("a", "orders");
+        writeServiceFile("b", "billing");
+        writeServiceFile("c", "shipping");
+        List<String> fileOrder = systemFileIds();
+
+        // The first system finishes only after the last one is saved
+        CountDownLatch lastSystemSaved = new CountDownLatch(1);
+        when(serviceDeserializer.deserializeSystem(any(File.class), any(JsonNode.class))).thenAnswer(invocation -> {
+            IntegrationSystem system = toSystem(invocation.getArgument(1));
+            if (system.getId().equals(fileOrder.get(0))) {
+                assertTrue(lastSystemSaved.await(10, TimeUnit.SECONDS));
+            }
+            return system;
+        });
+        when(systemService.create(argThat(system -> system.getId().equals(fileOrder.get(2))), eq(true)))
+                .thenAnswer(invocation -> {
+                    lastSystemSaved.countDown();
+                    return invocation.getArgument(0);
+                });
+
+        List<ImportSystemResult> results = importSystems();
+
+        assertEquals(fileOrder, results.stream().map(ImportSystemResult::getId).toList());
+    }
+
+    @Test
+    public void failedSystemIsReportedWithoutStoppingOthers() throws IOException {
+        writeServiceFile("a", "orders");
+        writeServiceFile("b", "billing");
+        writeServiceFile("c", "shipping");
+        when(serviceDeserializer.deserializeSystem(any(File.class), argThat(node -> node.get("id").asText().equals("billing"))))
+                .thenThrow(new RuntimeException("Broken service file"));
+
+        Map<String, ImportSystemResult> results = new HashMap<>();
+        importSystems().forEach(result -> results.put(result.getId(), result));
+
+        assertEquals(ImportSystemStatus.ERROR, results.get("billing").getStatus());
+        assertEquals("Broken service file", results.get("billing").getMessage());
+        assertEquals(ImportSystemStatus.CREATED, results.get("orders").getStatus());
+        assertEquals(ImportSystemStatus.CREATED, results.get("shipping").getStatus());
+    }
+
+    private List<ImportSystemResult> importSystems() {
+        return systemExportImportService.importSystems(
+                        importDirectory.toFile(), new SystemsCommitRequest(), IMPORT_ID, Set.of())
+                .importSystemResults();
+    }
+
+    private List<String> systemFileIds() throws IOException {
+        return ExportImportUtils.extractSystemsFromImportDirectory(
+                        importDirectory.toString(), ExportImportConstants.SERVICE_YAML_NAME_POSTFIX).stream()
+                .map(ExportImportUtils::extractSystemIdFromFileName)
+                .toList();
+    }
+
+    private void writeServiceFile(String directory, String systemId) throws IOException {
+        Path serviceDirectory = importDirectory.resolve(ExportImportConstants.ARCH_PARENT_DIR).resolve(directory);
+        Files.createDirectories(serviceDirectory);
+        Files.writeString(serviceDirectory.resolve(systemId + ".service.yaml"),
+                "id: " + systemId + "\nname: " + systemId + "\n");
+    }
+
+    private static IntegrationSystem toSystem(JsonNode serviceNode) {
+        IntegrationSystem system = new IntegrationSystem(serviceNode.get("id").asText());
+        system.setName(serviceNode.get("name").asText());
+        return system;
+    }
+
+    private static List<ImportSystemStatus> statuses(List<ImportSystemResult> results) {
+        return results.stream().map(ImportSystemResult::getStatus).toList();
+    }
+}
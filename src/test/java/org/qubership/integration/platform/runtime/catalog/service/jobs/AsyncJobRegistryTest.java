@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.service.jobs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AsyncJobRegistryTest {
+    private static final String JOB_ID = "job-1";
+
+    private AsyncJobStore<Integer> store;
+    private AtomicInteger executedTasks;
+    private AsyncJobRegistry<Integer> registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        store = mock(AsyncJobStore.class);
+        executedTasks = new AtomicInteger();
+        registry = new AsyncJobRegistry<>(Duration.ofMinutes(5), Duration.ofMinutes(5), progress -> progress == 100, store,
+                task -> {
+                    executedTasks.incrementAndGet();
+                    task.run();
+                });
+    }
+
+    @Test
+    public void progressUpdatesArePersistedThrottledAndCompletionAlways() {
+        registry.update(JOB_ID, current -> 0);
+        registry.update(JOB_ID, current -> 10);
+        registry.update(JOB_ID, current -> 20);
+        registry.update(JOB_ID, current -> 100);
+
+        verify(store).save(JOB_ID, 0);
+        verify(store).save(JOB_ID, 100);
+        verify(store, times(2)).save(anyString(), any());
+
+        AsyncJob<Integer> job = registry.find(JOB_ID).orElseThrow();
+        assertEquals(100, job.state());
+        assertEquals(4, job.version());
+        assertTrue(job.done());
+        verify(store, never()).load(anyString());
+    }
+
+    @Test
+    public void awaitChangeCompletesOnNextUpdate() throws Exception {
+        registry.update(JOB_ID, current -> 0);
+
+        CompletableFuture<Optional<AsyncJob<Integer>>> future = registry.awaitChange(JOB_ID, null, Duration.ofMinutes(1));
+        assertFalse(future.isDone());
+
+        registry.update(JOB_ID, current -> current + 50);
+
+        AsyncJob<Integer> job = future.get(1, TimeUnit.SECONDS).orElseThrow();
+        assertEquals(50, job.state());
+        assertEquals(2, job.version());
+    }
+
+    @Test
+    public void awaitChangeReturnsImmediatelyForOutdatedVersion() {
+        registry.update(JOB_ID, current -> 0);
+        registry.update(JOB_ID, current -> 30);
+
+        CompletableFuture<Optional<AsyncJob<Integer>>> future = registry.awaitChange(JOB_ID, 1L, Duration.ofMinutes(1));
+
+        assertTrue(future.isDone());
+        assertEquals(30, future.join().orElseThrow().state());
+    }
+
+    @Test
+    public void awaitChangeReturnsCurrentStateOnTimeout() throws Exception {
+        registry.update(JOB_ID, current -> 40);
+
+        CompletableFuture<Optional<AsyncJob<Integer>>> future = registry.awaitChange(JOB_ID, 1L, Duration.ofMillis(50));
+
+        assertEquals(40, future.get(1, TimeUnit.SECONDS).orElseThrow().state());
+        assertEquals(1, executedTasks.get());
+    }
+
+    @Test
+    public void unknownJobIsLoadedFromStore() {
+        when(store.load(JOB_ID)).thenReturn(Optional.of(100));
+
+        AsyncJob<Integer> job = registry.awaitChange(JOB_ID, null, Duration.ofMinutes(1)).join().orElseThrow();
+
+        assertEquals(100, job.state());
+        assertTrue(job.done());
+    }
+
+    @Test
+    public void jobOfAnotherReplicaHasNoEtag() {
+        when(store.load(JOB_ID)).thenReturn(Optional.of(10), Optional.of(20));
+
+        AsyncJob<Integer> first = registry.find(JOB_ID).orElseThrow();
+        AsyncJob<Integer> second = registry.awaitChange(JOB_ID, null, Duration.ofMinutes(1)).join().orElseThrow();
+
+        assertEquals(10, first.state());
+        assertEquals(20, second.state());
+        assertNull(first.etag());
+        assertNull(second.etag());
+    }
+
+    @Test
+    public void jobOfThisReplicaHasVersionEtag() {
+        registry.update(JOB_ID, current -> 10);
+
+        AsyncJob<Integer> job = registry.find(JOB_ID).orElseThrow();
+
+        assertEquals("\"1\"", job.etag());
+        assertEquals(1L, AsyncJob.parseEtag(job.etag()));
+    }
+
+    @Test
+    public void etagIsParsedBack() {
+        AsyncJob<Integer> job = new AsyncJob<>(JOB_ID, 10, 7, false);
+
+        assertEquals(7L, AsyncJob.parseEtag(job.etag()));
+        assertEquals(7L, AsyncJob.parseEtag("W/" + job.etag()));
+        assertNull(AsyncJob.parseEtag("*"));
+        assertNull(AsyncJob.parseEtag(null));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.testutils;
+
+import org.qubership.integration.platform.runtime.catalog.persistence.QueryCountingStatementInspector;
+import org.qubership.integration.platform.runtime.catalog.persistence.QueryCountingStatementInspector.Recording;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Runs the action and fails if Hibernate issued more than {@code maxQueries} statements while it was running.
+     * Requires {@link QueryCountingStatementInspector} to be enabled with {@code qip.persistence.query-counting.enabled}.
+     */
+    public static <T> T assertWithinBudget(int maxQueries, Supplier<T> action) {
+        Recording<T> recording = QueryCountingStatementInspector.record(action);
+        if (recording.count() > maxQueries) {
+            fail("Expected at most " + maxQueries + " queries, but " + recording.count() + " were executed:\n"
+                    + String.join("\n", recording.statements()));
+        }
+        return recording.result();
+    }
+}
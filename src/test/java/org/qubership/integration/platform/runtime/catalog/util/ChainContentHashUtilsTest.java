@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.runtime.catalog.util;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ChainContentHashUtilsTest {
+
+    @Test
+    public void contentHashIgnoresPropertyOrderAndNullValues() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("contextPath", "/v1/test");
+        properties.put("httpMethodRestrict", "GET");
+        Map<String, Object> reorderedProperties = new LinkedHashMap<>();
+        reorderedProperties.put("httpMethodRestrict", "GET");
+        reorderedProperties.put("contextPath", "/v1/test");
+        reorderedProperties.put("privateRoute", null);
+
+        ChainElement element = element("http-trigger", properties);
+        ChainElement other = element("http-trigger", reorderedProperties);
+
+        assertEquals(ChainContentHashUtils.computeContentHash(element), ChainContentHashUtils.computeContentHash(other));
+
+        other.getProperties().put("privateRoute", true);
+        assertNotEquals(ChainContentHashUtils.computeContentHash(element), ChainContentHashUtils.computeContentHash(other));
+    }
+
+    @Test
+    public void snapshotCopyHasSameTreeHashUntilNestedElementChanges() {
+        Chain chain = Chain.builder().build();
+        ContainerChainElement container = ContainerChainElement.builder()
+                .type("try-catch-finally-2")
+                .chain(chain)
+                .build();
+        ChainElement trigger = element("http-trigger", new HashMap<>(Map.of("contextPath", "/v1/test")));
+        ChainElement child = element("script", new HashMap<>(Map.of("script", "return 1")));
+        trigger.setChain(chain);
+        child.setChain(chain);
+        container.addChildElement(child);
+        trigger.addOutputDependency(Dependency.of(trigger, container));
+        List<ChainElement> chainElements = List.of(trigger, container, child);
+
+        Map<ChainElement, ChainElement> copies = new HashMap<>();
+        chainElements.forEach(element -> {
+            ChainElement copy = element.copy();
+            copy.setChain(null);
+            copies.put(element, copy);
+        });
+        ((ContainerChainElement) copies.get(container)).addChildElement(copies.get(child));
+        copies.get(trigger).addOutputDependency(Dependency.of(copies.get(trigger), copies.get(container)));
+        List<ChainElement> snapshotElements = chainElements.stream().map(copies::get).toList();
+
+        String chainHash = treeHash(chainElements);
+        assertEquals(chainHash, treeHash(snapshotElements));
+        assertNotEquals(chainHash, ChainContentHashUtils.treeHash("2", snapshotElements,
+                Collections.emptyList(), Collections.emptyList(), null, null));
+
+        copies.get(child).getProperties().put("script", "return 2");
+        assertNotEquals(chainHash, treeHash(snapshotElements));
+    }
+
+    private static String treeHash(List<ChainElement> elements) {
+        return ChainContentHashUtils.treeHash("1", elements, Collections.emptyList(), Collections.emptyList(), null, null);
+    }
+
+    private static ChainElement element(String type, Map<String, Object> properties) {
+        return ChainElement.builder()
+                .type(type)
+                .name(type)
+                .properties(properties)
+                .build();
+    }
+}